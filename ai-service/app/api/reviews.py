@@ -1,4 +1,7 @@
+import asyncio
+import json
 from fastapi import APIRouter, HTTPException, status
+from fastapi.responses import StreamingResponse
 from typing import List
 from app.models.schemas import (
     ReviewAnalysisRequest,
@@ -11,21 +14,22 @@ from app.services.openai_service import OpenAIService
 router = APIRouter()
 openai_service = OpenAIService()
 
+def _to_review_data(request: ReviewAnalysisRequest) -> dict:
+    # OpenAI 서비스에 전달할 데이터 준비
+    return {
+        'book_title': request.book_title,
+        'author': request.author,
+        'content': request.content,
+        'rating': request.rating,
+        'user_emotion': request.user_emotion,
+        'genre': request.genre
+    }
+
 @router.post("/analyze")
 async def analyze_review(request: ReviewAnalysisRequest):
     try:
-        # OpenAI 서비스에 전달할 데이터 준비
-        review_data = {
-            'book_title': request.book_title,
-            'author': request.author,
-            'content': request.content,
-            'rating': request.rating,
-            'user_emotion': request.user_emotion,
-            'genre': request.genre
-        }
-        
         # AI 분석 실행
-        result = openai_service.analyze_review(review_data)
+        result = openai_service.analyze_review(_to_review_data(request))
         
         # 직접 딕셔너리로 반환 (FastAPI가 자동으로 JSON으로 변환)
         return {
@@ -40,6 +44,49 @@ async def analyze_review(request: ReviewAnalysisRequest):
             detail=f"Review analysis failed: {str(e)}"
         )
 
+@router.post("/analyze/batch")
+async def analyze_reviews_batch(requests: List[ReviewAnalysisRequest]):
+    # 백엔드가 모아 보낸 요청들을 동시에 분석, 개별 실패는 ai_response를 null로 돌려준다
+    async def analyze_one(request: ReviewAnalysisRequest):
+        try:
+            result = await asyncio.to_thread(openai_service.analyze_review, _to_review_data(request))
+            ai_response = result.get('ai_response')
+        except Exception:
+            ai_response = None
+        return {
+            "review_id": request.review_id,
+            "ai_response": ai_response,
+            "recommendations": []
+        }
+    
+    return await asyncio.gather(*(analyze_one(request) for request in requests))
+
+@router.post("/analyze/stream")
+async def analyze_review_stream(request: ReviewAnalysisRequest):
+    # 결과를 만들어지는 대로 SSE로 보낸다 (delta, section, 마지막에 /analyze와 같은 형식의 done)
+    # 클라이언트가 끊으면 제너레이터가 취소되면서 LLM 스트림도 닫힌다
+    async def events():
+        try:
+            async for event, data in openai_service.analyze_review_stream(_to_review_data(request)):
+                if event == "done":
+                    data = {
+                        "review_id": request.review_id,
+                        "ai_response": data,
+                        "recommendations": []
+                    }
+                yield _sse(event, data)
+        except Exception as e:
+            yield _sse("error", {"detail": f"Review analysis failed: {str(e)}"})
+    
+    return StreamingResponse(
+        events(),
+        media_type="text/event-stream",
+        headers={"Cache-Control": "no-cache", "X-Accel-Buffering": "no"}
+    )
+
+def _sse(event: str, data) -> str:
+    return f"event: {event}\ndata: {json.dumps(data, ensure_ascii=False)}\n\n"
+
 @router.get("/health")
 async def health_check():
     return {"status": "healthy", "service": "review-analysis"}
\ No newline at end of file
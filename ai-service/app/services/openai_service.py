@@ -1,17 +1,28 @@
-from typing import Dict, Any, List
+from typing import Dict, Any, List, AsyncIterator, Optional, Tuple
+import asyncio
 import openai
 import json
 import os
+import re
 from datetime import datetime
 
+# 스트리밍 중 글자 단위로 흘려보낼 문자열 필드, 나머지 필드는 완성된 뒤 section으로 한 번에 보낸다
+STREAMED_TEXT_FIELDS = ("empathy_message", "personalized_insight")
+SECTION_FIELDS = ("emotion_analysis", "book_insights", "book_recommendations")
+
+# Mock 스트리밍에서 조각 사이 지연 (실제 LLM 토큰 간격 흉내)
+MOCK_CHUNK_DELAY_SECONDS = 0.03
+
 class OpenAIService:
     def __init__(self):
         self.api_key = os.getenv("OPENAI_API_KEY")
         if self.api_key:
             openai.api_key = self.api_key
             self.client = openai.OpenAI(api_key=self.api_key)
+            self.async_client = openai.AsyncOpenAI(api_key=self.api_key)
         else:
             self.client = None
+            self.async_client = None
             
     def analyze_review(self, review_data: Dict[str, Any]) -> Dict[str, Any]:
         """책 리뷰를 분석하고 공감 메시지, 통찰, 감정 분석, 책 추천을 생성"""
@@ -24,68 +35,9 @@ class OpenAIService:
         
         try:
             # GPT-4를 사용한 실제 분석
-            prompt = f"""
-            다음 독서 감상평을 분석하고 응답해주세요:
-            
-            책 제목: {review_data['book_title']}
-            저자: {review_data['author']}
-            장르: {review_data.get('genre', '일반')}
-            평점: {review_data['rating']}/5
-            독자의 감정: {review_data['user_emotion']}
-            감상평: {review_data['content']}
-            
-            다음 형식의 JSON으로 응답해주세요:
-            {{
-                "empathy_message": "독자의 감정과 경험에 깊이 공감하는 따뜻하고 개인화된 메시지 (2-3문장)",
-                "book_insights": [
-                    "이 책의 핵심 주제나 메시지에 대한 통찰 1",
-                    "작품의 문학적/예술적 가치에 대한 분석",
-                    "이 책이 독자에게 미치는 영향이나 의미"
-                ],
-                "emotion_analysis": {{
-                    "primary": "주요 감정",
-                    "secondary": "보조 감정",
-                    "intensity": "강도 (낮음/중간/높음)"
-                }},
-                "book_recommendations": [
-                    {{
-                        "title": "추천 도서 제목 1",
-                        "author": "저자명",
-                        "reason": "이 책을 추천하는 이유 (독자의 취향과 현재 책과의 연관성)"
-                    }},
-                    {{
-                        "title": "추천 도서 제목 2", 
-                        "author": "저자명",
-                        "reason": "추천 이유"
-                    }},
-                    {{
-                        "title": "추천 도서 제목 3",
-                        "author": "저자명",
-                        "reason": "추천 이유"
-                    }}
-                ],
-                "personalized_insight": "이 독자만을 위한 특별한 통찰이나 조언 (1-2문장)"
-            }}
-            
-            주의사항:
-            1. 실제로 존재하는 책들을 추천하고, 해당 책들과 현재 책의 연관성을 명확히 설명하세요
-            2. 독자의 감정 상태와 리뷰 내용을 깊이 이해하고 개인화된 응답을 제공하세요
-            3. 책의 장르와 특성을 고려하여 적절한 추천을 하세요
-            4. 한국어로 응답하세요
-            """
-            
             response = self.client.chat.completions.create(
                 model="gpt-4",
-                messages=[
-                    {
-                        "role": "system",
-                        "content": "당신은 깊이 있는 문학 비평가이자 따뜻한 독서 멘토입니다. 독자의 감정을 이해하고 책에 대한 통찰력 있는 분석을 제공하며, 개인화된 도서 추천을 합니다."
-                    },
-                    {
-                        "role": "user",
-                        "content": prompt
-                    }
-                ],
+                messages=self._build_messages(review_data),
                 temperature=0.8,
                 max_tokens=1500
             )
@@ -102,6 +54,143 @@ class OpenAIService:
             # API 오류 시 향상된 Mock 응답 제공
             return self._generate_enhanced_mock_response(review_data)
     
+    async def analyze_review_stream(self, review_data: Dict[str, Any]) -> AsyncIterator[Tuple[str, Dict[str, Any]]]:
+        """analyze_review와 같은 결과를 만들어지는 대로 (이벤트, 데이터)로 내보낸다
+        
+        delta  : {"field", "text"} 문자열 필드에 이어 붙일 조각
+        section: {"field", "value"} 완성된 항목
+        done   : 전체 ai_response (마지막에 한 번)
+        """
+        
+        use_mock = os.getenv("USE_MOCK_RESPONSE", "true").lower() == "true"
+        
+        if use_mock or not self.async_client:
+            async for event in self._stream_mock(self._generate_mock_response(review_data)["ai_response"]):
+                yield event
+            return
+        
+        stream = None
+        sent = {field: 0 for field in STREAMED_TEXT_FIELDS}
+        buffer = ""
+        try:
+            stream = await self.async_client.chat.completions.create(
+                model="gpt-4",
+                messages=self._build_messages(review_data),
+                temperature=0.8,
+                max_tokens=1500,
+                stream=True
+            )
+            async for chunk in stream:
+                if not chunk.choices or not chunk.choices[0].delta.content:
+                    continue
+                buffer += chunk.choices[0].delta.content
+                # 아직 닫히지 않은 JSON에서 문자열 필드의 지금까지 값을 꺼내 새로 늘어난 부분만 보낸다
+                for field in STREAMED_TEXT_FIELDS:
+                    value = _partial_string_field(buffer, field)
+                    if value is not None and len(value) > sent[field]:
+                        yield "delta", {"field": field, "text": value[sent[field]:]}
+                        sent[field] = len(value)
+            result = json.loads(buffer)
+        except Exception as e:
+            if any(sent.values()):
+                raise
+            # 아직 아무것도 보내지 않았으면 analyze_review처럼 향상된 Mock 응답으로 대체
+            print(f"OpenAI API Error: {str(e)}")
+            result = self._generate_enhanced_mock_response(review_data)["ai_response"]
+            sent = {field: 0 for field in STREAMED_TEXT_FIELDS}
+        finally:
+            # 클라이언트가 끊어 제너레이터가 닫히면 OpenAI 스트림도 닫아 생성을 멈춘다
+            if stream is not None:
+                await stream.close()
+        
+        for field in STREAMED_TEXT_FIELDS:
+            text = result.get(field) or ""
+            if len(text) > sent[field]:
+                yield "delta", {"field": field, "text": text[sent[field]:]}
+        for field in SECTION_FIELDS:
+            if result.get(field) is not None:
+                yield "section", {"field": field, "value": result[field]}
+        yield "done", result
+    
+    async def _stream_mock(self, ai_response: Dict[str, Any]) -> AsyncIterator[Tuple[str, Dict[str, Any]]]:
+        """Mock 결과를 실제 스트리밍과 같은 순서/형식으로 조금씩 내보낸다"""
+        
+        for piece in _text_chunks(ai_response.get("empathy_message")):
+            yield "delta", {"field": "empathy_message", "text": piece}
+            await asyncio.sleep(MOCK_CHUNK_DELAY_SECONDS)
+        for field in ("emotion_analysis", "book_insights"):
+            yield "section", {"field": field, "value": ai_response.get(field)}
+            await asyncio.sleep(MOCK_CHUNK_DELAY_SECONDS)
+        for piece in _text_chunks(ai_response.get("personalized_insight")):
+            yield "delta", {"field": "personalized_insight", "text": piece}
+            await asyncio.sleep(MOCK_CHUNK_DELAY_SECONDS)
+        yield "section", {"field": "book_recommendations", "value": ai_response.get("book_recommendations")}
+        yield "done", ai_response
+    
+    def _build_messages(self, review_data: Dict[str, Any]) -> List[Dict[str, str]]:
+        """분석 프롬프트 (일반 호출과 스트리밍 호출이 같이 쓴다)"""
+        
+        prompt = f"""
+        다음 독서 감상평을 분석하고 응답해주세요:
+        
+        책 제목: {review_data['book_title']}
+        저자: {review_data['author']}
+        장르: {review_data.get('genre', '일반')}
+        평점: {review_data['rating']}/5
+        독자의 감정: {review_data['user_emotion']}
+        감상평: {review_data['content']}
+        
+        다음 형식의 JSON으로 응답해주세요:
+        {{
+            "empathy_message": "독자의 감정과 경험에 깊이 공감하는 따뜻하고 개인화된 메시지 (2-3문장)",
+            "book_insights": [
+                "이 책의 핵심 주제나 메시지에 대한 통찰 1",
+                "작품의 문학적/예술적 가치에 대한 분석",
+                "이 책이 독자에게 미치는 영향이나 의미"
+            ],
+            "emotion_analysis": {{
+                "primary": "주요 감정",
+                "secondary": "보조 감정",
+                "intensity": "강도 (낮음/중간/높음)"
+            }},
+            "book_recommendations": [
+                {{
+                    "title": "추천 도서 제목 1",
+                    "author": "저자명",
+                    "reason": "이 책을 추천하는 이유 (독자의 취향과 현재 책과의 연관성)"
+                }},
+                {{
+                    "title": "추천 도서 제목 2", 
+                    "author": "저자명",
+                    "reason": "추천 이유"
+                }},
+                {{
+                    "title": "추천 도서 제목 3",
+                    "author": "저자명",
+                    "reason": "추천 이유"
+                }}
+            ],
+            "personalized_insight": "이 독자만을 위한 특별한 통찰이나 조언 (1-2문장)"
+        }}
+        
+        주의사항:
+        1. 실제로 존재하는 책들을 추천하고, 해당 책들과 현재 책의 연관성을 명확히 설명하세요
+        2. 독자의 감정 상태와 리뷰 내용을 깊이 이해하고 개인화된 응답을 제공하세요
+        3. 책의 장르와 특성을 고려하여 적절한 추천을 하세요
+        4. 한국어로 응답하세요
+        """
+        
+        return [
+            {
+                "role": "system",
+                "content": "당신은 깊이 있는 문학 비평가이자 따뜻한 독서 멘토입니다. 독자의 감정을 이해하고 책에 대한 통찰력 있는 분석을 제공하며, 개인화된 도서 추천을 합니다."
+            },
+            {
+                "role": "user",
+                "content": prompt
+            }
+        ]
+    
     def _generate_mock_response(self, review_data: Dict[str, Any]) -> Dict[str, Any]:
         """기본 Mock 응답 생성"""
         
@@ -439,4 +528,22 @@ class OpenAIService:
                 base_response["ai_response"]["personalized_insight"] = f"'{review_data['book_title']}'의 깊이 있는 메시지가 당신의 삶에 의미 있는 변화를 가져다주기를 바랍니다. 이 특별한 독서 경험이 앞으로의 책 선택에도 좋은 가이드가 되길 희망합니다."
                 break
         
-        return base_response
\ No newline at end of file
+        return base_response
+
+
+def _text_chunks(text: Optional[str]) -> List[str]:
+    """단어(뒤 공백 포함) 단위 조각"""
+    return re.findall(r"\S+\s*", text or "")
+
+
+def _partial_string_field(buffer: str, field: str) -> Optional[str]:
+    """생성 중인 JSON 텍스트에서 문자열 필드의 지금까지 값 (닫는 따옴표가 아직 없어도)"""
+    match = re.search(r'"%s"\s*:\s*"((?:[^"\\]|\\.)*)' % field, buffer)
+    if not match:
+        return None
+    # 끝에서 잘린 이스케이프(\ 또는 \uXXX)는 다음 조각이 올 때까지 보류
+    raw = re.sub(r"\\(u[0-9a-fA-F]{0,3})?$", "", match.group(1))
+    try:
+        return json.loads(f'"{raw}"')
+    except json.JSONDecodeError:
+        return None
@@ -0,0 +1,50 @@
+package com.bookllm.benchmark;
+
+import com.bookllm.infrastructure.ai.dto.AiAnalysisRequest;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// AI 서비스 요청/응답 JSON (한국어 본문) 직렬화와 역직렬화
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AiJsonBenchmark {
+    
+    private ObjectMapper objectMapper;
+    private AiAnalysisRequest request;
+    private AiAnalysisResponse response;
+    private byte[] requestJson;
+    private byte[] responseJson;
+    
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        request = BenchmarkFixtures.aiRequest(42);
+        response = BenchmarkFixtures.aiResponse(42);
+        requestJson = objectMapper.writeValueAsBytes(request);
+        responseJson = objectMapper.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public byte[] serializeRequest() throws Exception {
+        return objectMapper.writeValueAsBytes(request);
+    }
+    
+    @Benchmark
+    public AiAnalysisRequest deserializeRequest() throws Exception {
+        return objectMapper.readValue(requestJson, AiAnalysisRequest.class);
+    }
+    
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public AiAnalysisResponse deserializeResponse() throws Exception {
+        return objectMapper.readValue(responseJson, AiAnalysisResponse.class);
+    }
+}
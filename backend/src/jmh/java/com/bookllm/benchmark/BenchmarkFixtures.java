@@ -0,0 +1,163 @@
+package com.bookllm.benchmark;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.review.entity.AiAnalysisStatus;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.entity.ReviewAiAnalysis;
+import com.bookllm.domain.user.entity.User;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisRequest;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// 벤치마크용 한국어 데이터, 실제 감상평/AI 응답과 비슷한 길이로 만든다
+final class BenchmarkFixtures {
+    
+    private static final String[] TITLES = {
+            "어린 왕자", "데미안", "채식주의자", "82년생 김지영", "아몬드", "소년이 온다", "달러구트 꿈 백화점",
+            "불편한 편의점", "나미야 잡화점의 기적", "코스모스", "사피엔스", "총, 균, 쇠", "미움받을 용기", "연금술사"
+    };
+    private static final String[] AUTHORS = {
+            "생텍쥐페리", "헤르만 헤세", "한강", "조남주", "손원평", "이미예", "김호연", "히가시노 게이고",
+            "칼 세이건", "유발 하라리", "재레드 다이아몬드", "기시미 이치로", "파울로 코엘료"
+    };
+    private static final String[] GENRES = {"소설", "에세이", "인문", "과학", "자기계발", "판타지", "추리"};
+    private static final String[] SENTENCES = {
+            "책장을 덮고 나서도 한참 동안 마지막 장면이 머릿속에서 떠나지 않았다.",
+            "주인공이 스스로를 마주하는 과정이 마치 내 이야기 같아서 여러 번 멈춰 읽었다.",
+            "문장이 담백한데도 감정의 결이 섬세하게 살아 있어서 놀라웠다.",
+            "어릴 때 읽었을 때와 전혀 다른 책처럼 느껴졌고, 그만큼 내가 변했다는 걸 알았다.",
+            "중간에 조금 지루한 부분도 있었지만 후반부의 전개가 모든 것을 보상해 주었다.",
+            "읽는 내내 위로를 받는 기분이었고 주변 사람들에게도 꼭 권하고 싶다.",
+            "작가가 던지는 질문들이 가볍지 않아서 노트에 몇 문장을 옮겨 적어 두었다."
+    };
+    private static final String[] EMOTIONS = {"감동", "위로", "설렘", "슬픔", "여운", "행복"};
+    
+    private BenchmarkFixtures() {
+    }
+    
+    // Spring Boot 기본 설정과 같은 직렬화 (JavaTimeModule, ISO 날짜)
+    static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+    
+    static String title(long i) {
+        return TITLES[(int) (i % TITLES.length)] + (i < TITLES.length ? "" : " " + i);
+    }
+    
+    static String author(long i) {
+        return AUTHORS[(int) (i % AUTHORS.length)];
+    }
+    
+    static String genre(long i) {
+        return GENRES[(int) (i % GENRES.length)];
+    }
+    
+    static String reviewText(SplittableRandom random, int sentences) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+        }
+        return text.toString();
+    }
+    
+    static Book book(long id) {
+        return Book.builder()
+                .id(id)
+                .title(title(id))
+                .author(author(id))
+                .genre(genre(id))
+                .description(title(id) + "은(는) " + genre(id) + " 분야에서 오랫동안 사랑받아 온 작품으로, " +
+                        "삶과 관계에 대한 질문을 조용하지만 깊게 던진다.")
+                .isbn(String.format("979-11-%07d", id))
+                .publisher("문학동네")
+                .reviewCount(1280)
+                .ratingSum(5632.5)
+                .rating1Count(12)
+                .rating2Count(40)
+                .rating3Count(158)
+                .rating4Count(470)
+                .rating5Count(600)
+                .createdAt(LocalDateTime.of(2024, 3, 1, 9, 0))
+                .updatedAt(LocalDateTime.of(2024, 5, 1, 9, 0))
+                .build();
+    }
+    
+    static Review review(long id, Book book, SplittableRandom random) {
+        return Review.builder()
+                .id(id)
+                .user(User.builder().id(id % 1000).email("reader" + id + "@bookllm.com").nickname("책벌레" + id % 1000).build())
+                .book(book)
+                .content(reviewText(random, 6))
+                .rating(1 + random.nextInt(9) * 0.5)
+                .userEmotion(EMOTIONS[random.nextInt(EMOTIONS.length)])
+                .aiAnalysisStatus(AiAnalysisStatus.COMPLETED)
+                .readingDate(LocalDateTime.of(2024, 4, 20, 21, 30))
+                .createdAt(LocalDateTime.of(2024, 4, 21, 8, 15))
+                .updatedAt(LocalDateTime.of(2024, 4, 21, 8, 16))
+                .build();
+    }
+    
+    static ReviewAiAnalysis analysis(Review review, ObjectMapper objectMapper) throws Exception {
+        AiAnalysisResponse response = aiResponse(review.getId());
+        return ReviewAiAnalysis.builder()
+                .reviewId(review.getId())
+                .empathyMessage(response.getEmpathyMessage())
+                .bookInsights(String.join(", ", response.getAiResponse().getBookInsights()))
+                .emotionAnalysis(objectMapper.writeValueAsString(response.getAiResponse().getEmotionAnalysis()))
+                .bookRecommendations(objectMapper.writeValueAsString(response.getAiResponse().getBookRecommendations()))
+                .personalizedInsight(response.getPersonalizedInsight())
+                .createdAt(LocalDateTime.of(2024, 4, 21, 8, 16))
+                .build();
+    }
+    
+    static AiAnalysisRequest aiRequest(long reviewId) {
+        SplittableRandom random = new SplittableRandom(reviewId);
+        return AiAnalysisRequest.builder()
+                .reviewId(reviewId)
+                .bookTitle(title(reviewId))
+                .author(author(reviewId))
+                .genre(genre(reviewId))
+                .content(reviewText(random, 8))
+                .rating(4.5)
+                .userEmotion("여운")
+                .build();
+    }
+    
+    static AiAnalysisResponse aiResponse(long reviewId) {
+        List<AiAnalysisResponse.Recommendation> recommendations = List.of(
+                new AiAnalysisResponse.Recommendation("연금술사", "파울로 코엘료",
+                        "자신의 길을 찾아가는 여정이 이번 감상평에서 느낀 성장의 감정과 맞닿아 있습니다.", 0.91),
+                new AiAnalysisResponse.Recommendation("데미안", "헤르만 헤세",
+                        "내면의 목소리에 귀 기울이는 주인공의 이야기가 깊은 여운을 이어 줄 것입니다.", 0.87),
+                new AiAnalysisResponse.Recommendation("아몬드", "손원평",
+                        "감정을 배워 가는 과정을 섬세하게 그려 위로가 필요한 지금 읽기 좋습니다.", 0.82));
+        AiAnalysisResponse.AiResponse aiResponse = new AiAnalysisResponse.AiResponse(
+                "마지막 장면이 오래 마음에 남으셨다니, 그만큼 이 책이 지금의 당신에게 필요한 이야기였나 봅니다. " +
+                        "책을 덮은 뒤에도 이어지는 여운은 스스로를 돌아보게 하는 소중한 시간이 됩니다.",
+                List.of("관계의 본질에 대한 질문", "성장과 상실의 이중성", "익숙한 것을 낯설게 보는 시선",
+                        "어른이 되며 잃어버린 감각의 회복"),
+                Map.of("primary_emotion", "여운", "intensity", 0.82,
+                        "emotions", Map.of("감동", 0.7, "위로", 0.55, "슬픔", 0.3)),
+                recommendations,
+                "최근 감상평들에서 성장과 자기 이해에 관한 이야기에 자주 마음이 움직이는 경향이 보입니다. " +
+                        "비슷한 결의 고전 소설과 에세이를 번갈아 읽어 보시는 것도 좋겠습니다.");
+        return AiAnalysisResponse.builder()
+                .reviewId(reviewId)
+                .aiResponse(aiResponse)
+                .recommendations(recommendations)
+                .build();
+    }
+}
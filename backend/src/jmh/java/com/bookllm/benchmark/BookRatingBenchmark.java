@@ -0,0 +1,74 @@
+package com.bookllm.benchmark;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.review.entity.Review;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 도서 평균 평점: 비정규화 집계 컬럼(Book.getAverageRating) vs 예전 방식인 리뷰 목록 전체 순회
+// 순회 쪽은 리뷰 엔티티가 이미 메모리에 있다고 가정한 하한이다 (실제로는 지연 로딩 쿼리가 더 든다)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BookRatingBenchmark {
+    
+    @Param({"100", "10000", "100000"})
+    private int reviews;
+    
+    private Book book;
+    
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<Review> list = new ArrayList<>(reviews);
+        Book source = BenchmarkFixtures.book(1);
+        double sum = 0;
+        long[] buckets = new long[5];
+        for (int i = 0; i < reviews; i++) {
+            Review review = Review.builder()
+                    .id((long) i)
+                    .book(source)
+                    .content("")
+                    .rating(1 + random.nextInt(9) * 0.5)
+                    .build();
+            list.add(review);
+            sum += review.getRating();
+            buckets[Book.ratingBucket(review.getRating()) - 1]++;
+        }
+        book = Book.builder()
+                .id(1L)
+                .title(source.getTitle())
+                .author(source.getAuthor())
+                .reviews(list)
+                .reviewCount(reviews)
+                .ratingSum(sum)
+                .rating1Count(buckets[0])
+                .rating2Count(buckets[1])
+                .rating3Count(buckets[2])
+                .rating4Count(buckets[3])
+                .rating5Count(buckets[4])
+                .build();
+    }
+    
+    @Benchmark
+    public double aggregateAverage() {
+        return book.getAverageRating();
+    }
+    
+    @Benchmark
+    public List<Long> aggregateHistogram() {
+        return book.getRatingHistogram();
+    }
+    
+    @Benchmark
+    public double streamAverage() {
+        return book.getReviews().stream()
+                .mapToDouble(Review::getRating)
+                .average()
+                .orElse(0.0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.bookllm.benchmark;
+
+import com.bookllm.domain.book.event.BookSavedEvent;
+import com.bookllm.domain.book.search.BookSearchIndex;
+import com.bookllm.domain.book.search.BookSearchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 메모리 역색인(바이그램 + BM25) 검색 vs 같은 데이터에 대한 LOWER(...) LIKE '%kw%' 전수 비교
+// 전수 비교 쪽은 DB 왕복이 없는 하한이다, 실제 쿼리는 RepositoryQueryBenchmark 참고
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BookSearchBenchmark {
+    
+    private static final String[] WORDS = {
+            "사랑", "바다", "여름", "겨울", "고양이", "기억", "도시", "별", "밤", "편지", "정원", "시간",
+            "여행", "소년", "소녀", "우주", "마음", "거짓말", "비밀", "숲", "이별", "약속", "골목", "새벽",
+            "달", "기차", "도서관", "섬", "꿈", "계절", "하루", "노래", "빛", "그림자", "언어", "집"
+    };
+    
+    @Param({"100000"})
+    private int books;
+    
+    private BookSearchIndex index;
+    private List<BookSavedEvent> catalog;
+    
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(3);
+        index = new BookSearchIndex();
+        catalog = new ArrayList<>(books);
+        for (long id = 1; id <= books; id++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + "의 " + WORDS[random.nextInt(WORDS.length)]
+                    + (random.nextInt(4) == 0 ? " " + WORDS[random.nextInt(WORDS.length)] : "");
+            BookSavedEvent book = new BookSavedEvent(id, title, BenchmarkFixtures.author(id),
+                    BenchmarkFixtures.genre(id), BenchmarkFixtures.reviewText(random, 2));
+            catalog.add(book);
+            index.add(book);
+        }
+    }
+    
+    @Benchmark
+    public BookSearchResult indexSingleTerm() {
+        return index.search("고양이", 0, 20);
+    }
+    
+    @Benchmark
+    public BookSearchResult indexMultiTerm() {
+        return index.search("바다의 기억 헤세", 0, 20);
+    }
+    
+    @Benchmark
+    public BookSearchResult indexDeepPage() {
+        return index.search("사랑", 1000, 20);
+    }
+    
+    @Benchmark
+    public int likeScan() {
+        String keyword = "고양이".toLowerCase(Locale.ROOT);
+        int matched = 0;
+        for (BookSavedEvent book : catalog) {
+            if (book.title().toLowerCase(Locale.ROOT).contains(keyword)
+                    || book.author().toLowerCase(Locale.ROOT).contains(keyword)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,72 @@
+package com.bookllm.benchmark;
+
+import com.bookllm.domain.recommendation.similarity.ItemSimilarityIndex;
+import com.bookllm.domain.recommendation.similarity.SimilarItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// 아이템 협업 필터링 색인: 평점 100만 건 기준 전체 재계산, 유사 도서 조회, 증분 갱신
+// 도서 인기는 한쪽으로 치우치게(앞쪽 id일수록 많이 평가) 만들어 실제 분포에 가깝게 한다
+@State(Scope.Benchmark)
+public class ItemSimilarityBenchmark {
+    
+    @Param({"1000000"})
+    private int ratings;
+    
+    @Param({"50000"})
+    private int users;
+    
+    @Param({"20000"})
+    private int books;
+    
+    private ItemSimilarityIndex index;
+    private ForkJoinPool pool;
+    private SplittableRandom random;
+    
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(11);
+        index = new ItemSimilarityIndex(50, 5.0);
+        for (int i = 0; i < ratings; i++) {
+            index.load(1 + random.nextInt(users), popularBook(), 1 + random.nextInt(9) * 0.5f);
+        }
+        index.finishLoad();
+        pool = ForkJoinPool.commonPool();
+        index.rebuild(pool);
+        System.out.printf("%n평점 %d건, 사용자 %d명, 도서 %d권%n", index.ratingCount(), index.userCount(), index.itemCount());
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void rebuild() {
+        index.rebuild(pool);
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<SimilarItem> similar() {
+        return index.similar(popularBook(), 20);
+    }
+    
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void putThenRemove() {
+        long user = 1 + users + random.nextInt(users);
+        long book = popularBook();
+        index.put(user, book, 4.5f);
+        index.remove(user, book);
+    }
+    
+    // id는 1부터 (0은 LongIntHashMap의 빈 칸 표시)
+    private long popularBook() {
+        double u = random.nextDouble();
+        return 1 + (long) (books * u * u);
+    }
+}
@@ -0,0 +1,203 @@
+package com.bookllm.benchmark;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.domain.review.dto.ReviewField;
+import com.bookllm.domain.review.dto.ReviewResponse;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.repository.ReviewAiAnalysisRepository;
+import com.bookllm.domain.review.repository.ReviewRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 저장소 쿼리를 MySQL 모드 H2(메모리)에서 잰다, 절대값보다 같은 커밋 간 비교용
+// - 도서 검색: LOWER(...) LIKE '%kw%' (인덱스를 못 타는 전수 검색)
+// - 리뷰 단건/목록: 엔티티 + ReviewResponse 경로 vs fields= 프로젝션 경로 (읽는 행/엔티티 수와 응답 크기는 setup에서 출력)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RepositoryQueryBenchmark {
+    
+    private static final Set<ReviewField> LIST_FIELDS = ReviewField.parse("id,bookTitle,rating,contentSnippet");
+    
+    @Param({"20000"})
+    private int books;
+    
+    @Param({"2000"})
+    private int users;
+    
+    @Param({"25"})
+    private int reviewsPerUser;
+    
+    private ConfigurableApplicationContext context;
+    private BookRepository bookRepository;
+    private ReviewRepository reviewRepository;
+    private ReviewAiAnalysisRepository reviewAiAnalysisRepository;
+    private SplittableRandom random;
+    
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackages = "com.bookllm.domain")
+    @EnableJpaRepositories(basePackageClasses = {BookRepository.class, ReviewRepository.class})
+    static class JpaOnly {
+    }
+    
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(JpaOnly.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "logging.level.root=WARN")
+                .run();
+        bookRepository = context.getBean(BookRepository.class);
+        reviewRepository = context.getBean(ReviewRepository.class);
+        reviewAiAnalysisRepository = context.getBean(ReviewAiAnalysisRepository.class);
+        random = new SplittableRandom(5);
+        seed(context.getBean(JdbcTemplate.class));
+        report();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<Book> searchByKeyword() {
+        return bookRepository.searchByKeyword("어린 왕자");
+    }
+    
+    @Benchmark
+    public List<Book> findByTitleContaining() {
+        return bookRepository.findByTitleContainingIgnoreCase("데미안");
+    }
+    
+    @Benchmark
+    public ReviewResponse reviewDetailEntity() {
+        return reviewDetail(randomReviewId());
+    }
+    
+    @Benchmark
+    public Map<String, Object> reviewDetailFields() {
+        return reviewRepository.findFieldsById(randomReviewId(), LIST_FIELDS).orElseThrow();
+    }
+    
+    @Benchmark
+    public List<ReviewResponse> userPageEntity() {
+        return reviewRepository.findFirstPageByUserId(randomUserId(), Limit.of(20)).stream()
+                .map(ReviewResponse::from)
+                .toList();
+    }
+    
+    @Benchmark
+    public List<Map<String, Object>> userPageFields() {
+        return reviewRepository.findFieldsByUserId(randomUserId(), LIST_FIELDS, null, 20);
+    }
+    
+    private ReviewResponse reviewDetail(long reviewId) {
+        Review review = reviewRepository.findWithUserAndBookById(reviewId).orElseThrow();
+        return ReviewResponse.from(review, reviewAiAnalysisRepository.findById(reviewId).orElse(null));
+    }
+    
+    private long randomReviewId() {
+        return 1 + random.nextInt(users * reviewsPerUser);
+    }
+    
+    private long randomUserId() {
+        return 1 + random.nextInt(users);
+    }
+    
+    // Book/Review는 IDENTITY라 JPA로 넣으면 느리므로 JDBC 배치로 채운다
+    private void seed(JdbcTemplate jdbc) throws Exception {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 4, 21, 8, 0));
+        List<Object[]> bookRows = new ArrayList<>(books);
+        for (long id = 1; id <= books; id++) {
+            bookRows.add(new Object[]{id, BenchmarkFixtures.title(id), BenchmarkFixtures.author(id),
+                    BenchmarkFixtures.genre(id), "설명 " + id, "key-" + id, now, now});
+        }
+        jdbc.batchUpdate("INSERT INTO books (id, title, author, genre, description, normalized_key, review_count, " +
+                "rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, version, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, 0, 0, ?, ?)", bookRows);
+        
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (long id = 1; id <= users; id++) {
+            userRows.add(new Object[]{id, "reader" + id + "@bookllm.com", "{noop}password", "책벌레" + id, now, now});
+        }
+        jdbc.batchUpdate("INSERT INTO users (id, email, password, nickname, role, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, 'USER', ?, ?)", userRows);
+        
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        var analysis = BenchmarkFixtures.analysis(BenchmarkFixtures.review(0, BenchmarkFixtures.book(1), random),
+                objectMapper);
+        List<Object[]> reviewRows = new ArrayList<>();
+        List<Object[]> analysisRows = new ArrayList<>();
+        long reviewId = 1;
+        for (long user = 1; user <= users; user++) {
+            long firstBook = random.nextInt(books);
+            for (int i = 0; i < reviewsPerUser; i++, reviewId++) {
+                long book = 1 + (firstBook + (long) i * 7919) % books;
+                reviewRows.add(new Object[]{reviewId, user, book, BenchmarkFixtures.reviewText(random, 6),
+                        1 + random.nextInt(9) * 0.5, "여운", Timestamp.valueOf(now.toLocalDateTime().plusMinutes(reviewId)),
+                        now});
+                analysisRows.add(new Object[]{reviewId, analysis.getEmpathyMessage(), analysis.getBookInsights(),
+                        analysis.getEmotionAnalysis(), analysis.getBookRecommendations(),
+                        analysis.getPersonalizedInsight(), now});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO reviews (id, user_id, book_id, content, rating, user_emotion, " +
+                "ai_analysis_status, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 'COMPLETED', 0, ?, ?)",
+                reviewRows);
+        jdbc.batchUpdate("INSERT INTO review_ai_analysis (review_id, empathy_message, book_insights, " +
+                "emotion_analysis, book_recommendations, personalized_insight, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", analysisRows);
+    }
+    
+    // 경로별로 한 번씩 실행해 Hibernate가 만든 엔티티 수와 응답 크기를 남긴다
+    private void report() throws Exception {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        Statistics statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        System.out.println();
+        measure(statistics, objectMapper, "리뷰 단건 (엔티티)", () -> reviewDetail(1));
+        measure(statistics, objectMapper, "리뷰 단건 (fields)", () -> reviewRepository.findFieldsById(1L, LIST_FIELDS));
+        measure(statistics, objectMapper, "리뷰 목록 20건 (엔티티)", () -> reviewRepository
+                .findFirstPageByUserId(1L, Limit.of(20)).stream().map(ReviewResponse::from).toList());
+        measure(statistics, objectMapper, "리뷰 목록 20건 (fields)", () -> reviewRepository
+                .findFieldsByUserId(1L, LIST_FIELDS, null, 20));
+    }
+    
+    private static void measure(Statistics statistics, ObjectMapper objectMapper, String name,
+                                Supplier<?> query) throws Exception {
+        statistics.clear();
+        Object result = query.get();
+        System.out.printf("%s: 쿼리 %d개, 엔티티 %d개, 응답 %d bytes%n", name,
+                statistics.getPrepareStatementCount(), statistics.getEntityLoadCount(),
+                objectMapper.writeValueAsBytes(result).length);
+    }
+}
@@ -0,0 +1,85 @@
+package com.bookllm.benchmark;
+
+import com.bookllm.domain.book.dto.BookResponse;
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.review.dto.ReviewField;
+import com.bookllm.domain.review.dto.ReviewResponse;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.entity.ReviewAiAnalysis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 -> 응답 DTO 매핑과 직렬화 비용
+// sparse*는 fields=id,bookTitle,rating,contentSnippet 조회(SQL 프로젝션)가 만드는 응답과 같은 모양
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+    
+    private ObjectMapper objectMapper;
+    private Book book;
+    private Review review;
+    private ReviewAiAnalysis analysis;
+    private ReviewResponse fullResponse;
+    private Map<String, Object> sparseResponse;
+    
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        book = BenchmarkFixtures.book(1);
+        review = BenchmarkFixtures.review(1, book, new SplittableRandom(1));
+        analysis = BenchmarkFixtures.analysis(review, objectMapper);
+        fullResponse = ReviewResponse.from(review, analysis);
+        sparseResponse = sparse(review);
+        
+        System.out.printf("%n리뷰 응답 크기: 전체 %d bytes, fields 4개 %d bytes%n",
+                objectMapper.writeValueAsBytes(fullResponse).length,
+                objectMapper.writeValueAsBytes(sparseResponse).length);
+    }
+    
+    @Benchmark
+    public ReviewResponse reviewFrom() {
+        return ReviewResponse.from(review, analysis);
+    }
+    
+    @Benchmark
+    public ReviewResponse reviewFromWithoutAnalysis() {
+        return ReviewResponse.from(review);
+    }
+    
+    @Benchmark
+    public BookResponse bookFrom() {
+        return BookResponse.from(book);
+    }
+    
+    @Benchmark
+    public byte[] serializeFullReview() throws Exception {
+        return objectMapper.writeValueAsBytes(ReviewResponse.from(review, analysis));
+    }
+    
+    @Benchmark
+    public byte[] serializeSparseReview() throws Exception {
+        return objectMapper.writeValueAsBytes(sparse(review));
+    }
+    
+    @Benchmark
+    public byte[] serializeBook() throws Exception {
+        return objectMapper.writeValueAsBytes(BookResponse.from(book));
+    }
+    
+    private static Map<String, Object> sparse(Review review) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put(ReviewField.ID.getName(), review.getId());
+        row.put(ReviewField.BOOK_TITLE.getName(), review.getBook().getTitle());
+        row.put(ReviewField.RATING.getName(), review.getRating());
+        String content = review.getContent();
+        row.put(ReviewField.CONTENT_SNIPPET.getName(),
+                content.substring(0, Math.min(content.length(), ReviewField.SNIPPET_LENGTH)));
+        return row;
+    }
+}
@@ -0,0 +1,162 @@
+package com.bookllm.loadtest;
+
+import com.bookllm.BookllmApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// 부하 대상 백엔드: 실제 BookllmApplication 전체를 임의 포트로 띄우고 스텁 AI 서비스를 바라보게 한다
+// DB는 Testcontainers MySQL (db=mysql) 또는 MySQL 모드 H2 (db=h2, Docker가 없을 때 - 수치는 참고용)
+public class Backend implements AutoCloseable {
+    
+    private static final String[] EMOTIONS = {"감동", "여운", "설렘", "슬픔", "위로", "분노"};
+    private static final String[] GENRES = {"소설", "에세이", "인문", "과학", "역사", "시"};
+    
+    private final ConfigurableApplicationContext context;
+    private final int port;
+    
+    private Backend(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+    
+    public static Backend start(Database database, StubAiService ai, boolean virtualThreads,
+                                Map<String, String> overrides) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", database.url());
+        properties.put("spring.datasource.username", database.username());
+        properties.put("spring.datasource.password", database.password());
+        properties.putAll(database.properties());
+        properties.put("spring.datasource.hikari.maximum-pool-size", "50");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+        properties.put("ai-service.base-url", ai.baseUrl());
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.bookllm", "WARN");
+        properties.putAll(overrides);
+        
+        // application.properties보다 우선하도록 명령행 인자로 넘긴다
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new Backend(new SpringApplicationBuilder(BookllmApplication.class).run(args));
+    }
+    
+    public String baseUrl() {
+        return "http://127.0.0.1:" + port;
+    }
+    
+    public JdbcTemplate jdbc() {
+        return context.getBean(JdbcTemplate.class);
+    }
+    
+    // Book/Review는 IDENTITY라 JPA로 넣으면 느리므로 JDBC 배치로 채운다
+    // 사용자 1..users는 reviewsPerUser권씩 리뷰가 있고, 그 뒤 writers명은 쓰기 시나리오용으로 비워 둔다
+    public void seed(int books, int users, int reviewsPerUser, int writers) {
+        JdbcTemplate jdbc = jdbc();
+        SplittableRandom random = new SplittableRandom(7);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().withNano(0));
+        
+        // 리뷰를 먼저 만들어 도서별 평점 집계(review_count, rating_sum, 1~5점 분포)를 함께 채운다
+        long[][] aggregates = new long[books + 1][6];
+        double[] ratingSums = new double[books + 1];
+        List<Object[]> reviewRows = new ArrayList<>();
+        List<Object[]> analysisRows = new ArrayList<>();
+        long reviewId = 1;
+        for (long user = 1; user <= users; user++) {
+            long firstBook = random.nextInt(books);
+            for (int i = 0; i < reviewsPerUser; i++, reviewId++) {
+                int book = (int) (1 + (firstBook + (long) i * 7919) % books);
+                double rating = 1 + random.nextInt(9) * 0.5;
+                aggregates[book][0]++;
+                aggregates[book][(int) Math.floor(rating + 0.5)]++;
+                ratingSums[book] += rating;
+                reviewRows.add(new Object[]{reviewId, user, book,
+                        "부하 테스트 감상평 " + reviewId + ": 마지막 장을 덮고 한참을 생각했다.",
+                        rating, EMOTIONS[random.nextInt(EMOTIONS.length)], now, now});
+                analysisRows.add(new Object[]{reviewId, "공감 메시지", "통찰 1, 통찰 2",
+                        "{primary=감동, secondary=여운, intensity=높음}", "[]", "개인화 통찰", now});
+            }
+        }
+        
+        List<Object[]> bookRows = new ArrayList<>();
+        for (int id = 1; id <= books; id++) {
+            long[] counts = aggregates[id];
+            bookRows.add(new Object[]{id, "도서 " + id + " " + GENRES[id % GENRES.length], "작가 " + (id % 997),
+                    GENRES[id % GENRES.length], "부하 테스트용 도서 설명 " + id, "loadtest-" + id,
+                    counts[0], ratingSums[id], counts[1], counts[2], counts[3], counts[4], counts[5], now, now});
+        }
+        batch(jdbc, "INSERT INTO books (id, title, author, genre, description, normalized_key, review_count, " +
+                "rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, version, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)", bookRows);
+        
+        List<Object[]> userRows = new ArrayList<>();
+        for (long id = 1; id <= users + writers; id++) {
+            userRows.add(new Object[]{id, "reader" + id + "@bookllm.com", "{noop}password", "책벌레" + id, now, now});
+        }
+        batch(jdbc, "INSERT INTO users (id, email, password, nickname, role, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, 'USER', ?, ?)", userRows);
+        
+        batch(jdbc, "INSERT INTO reviews (id, user_id, book_id, content, rating, user_emotion, " +
+                "ai_analysis_status, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 'COMPLETED', 0, ?, ?)",
+                reviewRows);
+        batch(jdbc, "INSERT INTO review_ai_analysis (review_id, empathy_message, book_insights, " +
+                "emotion_analysis, book_recommendations, personalized_insight, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", analysisRows);
+    }
+    
+    @Override
+    public void close() {
+        context.close();
+    }
+    
+    private static void batch(JdbcTemplate jdbc, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += 1000) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + 1000)));
+        }
+    }
+    
+    public record Database(String url, String username, String password, Map<String, String> properties,
+                           AutoCloseable container) implements AutoCloseable {
+        
+        public static Database start(String type) {
+            return switch (type) {
+                case "mysql" -> {
+                    MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+                            .withDatabaseName("bookllm_loadtest")
+                            .withCommand("--max-connections=500");
+                    mysql.start();
+                    yield new Database(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword(), Map.of(), mysql);
+                }
+                // H2 방언은 double 파라미터 캐스트를 float($p)로 만들어 H2가 거부하므로 MySQL 방언으로 SQL을 만든다
+                case "h2" -> new Database("jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "sa", "", Map.of("spring.jpa.database-platform", "org.hibernate.dialect.MySQLDialect",
+                                "spring.jpa.properties.jakarta.persistence.database-major-version", "8"), () -> { });
+                default -> throw new IllegalArgumentException("db는 mysql|h2: " + type);
+            };
+        }
+        
+        // try-with-resources에서 InterruptedException이 새지 않도록 인터럽트 상태만 되살리고 나머지는 unchecked로 던진다
+        @Override
+        public void close() {
+            try {
+                container.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                throw new IllegalStateException("DB 컨테이너 종료 실패", e);
+            }
+        }
+    }
+}
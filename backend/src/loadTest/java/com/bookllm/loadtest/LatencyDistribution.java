@@ -0,0 +1,89 @@
+package com.bookllm.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 스텁 AI 서비스의 응답 지연 분포
+// fixed:200ms | uniform:100ms..2s | lognormal:800ms,3s (중앙값, p99)
+// LLM 응답 시간은 꼬리가 긴 편이라 기본은 로그정규
+public sealed interface LatencyDistribution {
+    
+    long sampleMillis();
+    
+    static LatencyDistribution parse(String spec) {
+        int colon = spec.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("지연 분포 형식이 아닙니다: " + spec);
+        }
+        String type = spec.substring(0, colon);
+        String args = spec.substring(colon + 1);
+        return switch (type) {
+            case "fixed" -> new Fixed(millis(args));
+            case "uniform" -> {
+                String[] range = args.split("\\.\\.");
+                yield new Uniform(millis(range[0]), millis(range[1]));
+            }
+            case "lognormal" -> {
+                String[] params = args.split(",");
+                yield LogNormal.of(millis(params[0]), millis(params[1]));
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 지연 분포: " + type);
+        };
+    }
+    
+    private static long millis(String value) {
+        Duration duration = LoadTestOptions.duration(value.trim());
+        return duration.toMillis();
+    }
+    
+    record Fixed(long millis) implements LatencyDistribution {
+        
+        @Override
+        public long sampleMillis() {
+            return millis;
+        }
+        
+        @Override
+        public String toString() {
+            return "fixed " + millis + "ms";
+        }
+    }
+    
+    record Uniform(long minMillis, long maxMillis) implements LatencyDistribution {
+        
+        @Override
+        public long sampleMillis() {
+            return ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+        }
+        
+        @Override
+        public String toString() {
+            return "uniform " + minMillis + ".." + maxMillis + "ms";
+        }
+    }
+    
+    record LogNormal(double mu, double sigma, long medianMillis, long p99Millis) implements LatencyDistribution {
+        
+        // 표준정규분포의 99 백분위 z값
+        private static final double Z99 = 2.3263;
+        
+        static LogNormal of(long medianMillis, long p99Millis) {
+            if (p99Millis < medianMillis) {
+                throw new IllegalArgumentException("p99는 중앙값보다 작을 수 없습니다");
+            }
+            double mu = Math.log(medianMillis);
+            double sigma = (Math.log(p99Millis) - mu) / Z99;
+            return new LogNormal(mu, sigma, medianMillis, p99Millis);
+        }
+        
+        @Override
+        public long sampleMillis() {
+            return Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+        
+        @Override
+        public String toString() {
+            return "lognormal p50 " + medianMillis + "ms, p99 " + p99Millis + "ms";
+        }
+    }
+}
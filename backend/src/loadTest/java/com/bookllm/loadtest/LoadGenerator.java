@@ -0,0 +1,106 @@
+package com.bookllm.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// 열린 모델(open model) 부하 생성기: 응답을 기다리지 않고 정해진 간격으로 요청을 출발시킨다
+// 지연은 "출발했어야 할 시각"부터 재므로 서버가 밀려 생성기가 늦어져도 대기 시간이 결과에 들어간다
+// (coordinated omission 보정), 요청마다 가상 스레드 하나를 쓴다
+public class LoadGenerator {
+    
+    private final HttpClient client;
+    private final int maxInFlight;
+    
+    public LoadGenerator(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+    
+    // 워밍업 동안의 결과는 버리고 duration 동안만 기록한다
+    public LoadResult run(Workload workload, double rps, Duration warmup, Duration duration) {
+        LoadResult result = new LoadResult(workload.operationNames());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rps);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Workload.Operation operation = workload.next();
+                boolean measured = intended >= measureFrom;
+                // 서버가 완전히 멈춰도 생성기 메모리가 무한히 늘지 않도록 동시 요청 수를 제한, 넘치면 버린 것으로 센다
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        result.recordError(operation.name(), "dropped (in-flight 상한)");
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        send(operation.name(), operation.request(), intended, measured ? result : null);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        result.finish(duration);
+        return result;
+    }
+    
+    // 한꺼번에 count개를 출발시키고 모두 끝날 때까지 기다린다 (ai-burst의 리뷰 작성)
+    public LoadResult burst(String name, Supplier<HttpRequest> request, int count) {
+        LoadResult result = new LoadResult(List.of(name));
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                executor.execute(() -> send(name, request, start, result));
+            }
+        }
+        result.finish(Duration.ofNanos(System.nanoTime() - start));
+        return result;
+    }
+    
+    private void send(String name, Supplier<HttpRequest> request, long intended, LoadResult result) {
+        try {
+            HttpResponse<Void> response = client.send(request.get(), HttpResponse.BodyHandlers.discarding());
+            if (result != null) {
+                int status = response.statusCode();
+                result.record(name, System.nanoTime() - intended, status < 400 ? null : "HTTP " + status);
+            }
+        } catch (HttpTimeoutException e) {
+            if (result != null) {
+                result.record(name, System.nanoTime() - intended, "timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            if (result != null) {
+                result.record(name, System.nanoTime() - intended, e.getClass().getSimpleName());
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.bookllm.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 요청 종류별 HDR 히스토그램(ns, 유효숫자 3자리)과 오류 분류
+// 지연은 성공/실패를 가리지 않고 응답을 받은(또는 실패가 확정된) 모든 요청을 기록한다
+public class LoadResult {
+    
+    private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toNanos(2);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private Duration elapsed = Duration.ZERO;
+    
+    public LoadResult(List<String> operations) {
+        for (String operation : operations) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE, 3));
+        }
+    }
+    
+    public void record(String operation, long latencyNanos, String error) {
+        histograms.get(operation).recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE));
+        if (error != null) {
+            recordError(operation, error);
+        }
+    }
+    
+    public void recordError(String operation, String error) {
+        errors.computeIfAbsent(operation + " " + error, key -> new LongAdder()).increment();
+    }
+    
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+    
+    public Histogram histogram(String operation) {
+        return histograms.get(operation);
+    }
+    
+    public Histogram total() {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE, 3);
+        histograms.values().forEach(total::add);
+        return total;
+    }
+    
+    public long errorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+    
+    public void print(PrintStream out, String title) {
+        out.println();
+        out.println("== " + title + " (" + elapsed.toSeconds() + "s 측정) ==");
+        out.printf("%-20s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        histograms.forEach((name, histogram) -> printRow(out, name, histogram, errorsOf(name)));
+        printRow(out, "TOTAL", total(), errorCount());
+        if (!errors.isEmpty()) {
+            out.println("errors:");
+            new TreeMap<>(errors).forEach((key, count) -> out.printf("  %-50s %d%n", key, count.sum()));
+        }
+    }
+    
+    // 요청 종류별 .hgrm (HdrHistogram 플로터로 겹쳐 그릴 수 있다)과 요약 표를 남긴다
+    public void write(Path directory, String title) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            write(directory.resolve(entry.getKey() + ".hgrm"), entry.getValue());
+        }
+        write(directory.resolve("total.hgrm"), total());
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            print(out, title);
+        }
+    }
+    
+    private void printRow(PrintStream out, String name, Histogram histogram, long errorCount) {
+        long count = histogram.getTotalCount();
+        double seconds = Math.max(1, elapsed.toMillis()) / 1000.0;
+        out.printf("%-20s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, count, errorCount, count / seconds,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+    
+    private long errorsOf(String operation) {
+        String prefix = operation + " ";
+        return errors.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+    
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+    
+    private static void write(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+}
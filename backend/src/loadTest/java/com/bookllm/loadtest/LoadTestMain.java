@@ -0,0 +1,126 @@
+package com.bookllm.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 부하 테스트 진입점 (./gradlew loadTest -PloadTestArgs="...")
+//
+// scenario=mixed   : 읽기/쓰기 혼합 요청을 rps로 duration 동안 보내고 요청 종류별 지연 분포와 오류를 낸다
+// scenario=ai-burst: 읽기 부하를 거는 중에 리뷰 ai-burst건(기본 1000)을 한꺼번에 작성해 느린 AI 분석이
+//                    동시에 그만큼 돌게 하고, 작업이 다 끝나는 시간과 그동안의 읽기 지연을 잰다
+//                    threads=both면 플랫폼 스레드/가상 스레드 백엔드를 차례로 띄워 비교한다
+public class LoadTestMain {
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.printf("시나리오 %s, DB %s, 목표 %.0f rps, 워밍업 %ds + 측정 %ds, AI 지연 %s, AI 오류율 %.1f%%%n",
+                options.scenario(), options.db(), options.rps(), options.warmup().toSeconds(),
+                options.duration().toSeconds(), options.aiLatency(), options.aiErrorRate() * 100);
+        
+        try (Backend.Database database = Backend.Database.start(options.db());
+             StubAiService ai = StubAiService.start(options.aiLatency(), options.aiErrorRate())) {
+            for (boolean virtualThreads : options.virtualThreads()) {
+                String label = options.scenario() + "-" + (virtualThreads ? "virtual" : "platform");
+                try (Backend backend = Backend.start(database, ai, virtualThreads, backendProperties(options))) {
+                    backend.seed(options.books(), options.users(), options.reviewsPerUser(), options.writers());
+                    ai.resetStats();
+                    if (options.scenario().equals("ai-burst")) {
+                        runAiBurst(options, backend, ai, label);
+                    } else {
+                        runMixed(options, backend, ai, label);
+                    }
+                }
+            }
+        }
+        System.exit(0);
+    }
+    
+    private static void runMixed(LoadTestOptions options, Backend backend, StubAiService ai, String label)
+            throws Exception {
+        Workload workload = workload(options, backend);
+        LoadResult result = new LoadGenerator(options.maxInFlight())
+                .run(workload, options.rps(), options.warmup(), options.duration());
+        result.print(System.out, label);
+        result.write(options.out().resolve(label), label);
+        printAi(ai);
+    }
+    
+    private static void runAiBurst(LoadTestOptions options, Backend backend, StubAiService ai, String label)
+            throws Exception {
+        Workload workload = workload(options, backend);
+        LoadGenerator generator = new LoadGenerator(options.maxInFlight());
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        
+        // 읽기 부하는 워밍업부터 측정 끝까지 계속 걸고, 측정 구간이 시작될 때 리뷰를 한꺼번에 작성한다
+        CompletableFuture<LoadResult> reads = CompletableFuture.supplyAsync(
+                () -> generator.run(workload, options.rps(), options.warmup(), options.duration()));
+        TimeUnit.NANOSECONDS.sleep(options.warmup().toNanos());
+        
+        threads.resetPeakThreadCount();
+        long started = System.nanoTime();
+        LoadResult writes = generator.burst("createReview", workload::createReview, options.aiBurst());
+        long drained = awaitJobs(backend, options.aiBurst(), options.duration());
+        Duration drainTime = Duration.ofNanos(drained - started);
+        int peakThreads = threads.getPeakThreadCount();
+        
+        LoadResult readResult = reads.join();
+        readResult.print(System.out, label + " 읽기 (AI 작업 " + options.aiBurst() + "건 처리 중)");
+        writes.print(System.out, label + " 리뷰 작성 " + options.aiBurst() + "건 동시 요청");
+        System.out.printf("AI 분석 작업 %d건 완료까지 %.1fs, JVM 최대 스레드 수 %d%n",
+                options.aiBurst(), drainTime.toMillis() / 1000.0, peakThreads);
+        printAi(ai);
+        
+        readResult.write(options.out().resolve(label).resolve("reads"), label);
+        writes.write(options.out().resolve(label).resolve("writes"), label);
+    }
+    
+    // 모든 AI 분석 작업이 DONE/FAILED가 될 때까지 기다린다, 시간 안에 안 끝나면 그 시점을 돌려준다
+    private static long awaitJobs(Backend backend, int expected, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            Integer finished = backend.jdbc().queryForObject(
+                    "SELECT COUNT(*) FROM ai_analysis_jobs WHERE status IN ('DONE', 'FAILED')", Integer.class);
+            if (finished != null && finished >= expected) {
+                return System.nanoTime();
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        System.out.println("경고: 제한 시간 안에 AI 분석 작업이 모두 끝나지 않았습니다");
+        return System.nanoTime();
+    }
+    
+    private static Workload workload(LoadTestOptions options, Backend backend) {
+        return new Workload(backend.baseUrl(), options.mix(), options.books(), options.users(),
+                options.reviewsPerUser(), options.writers());
+    }
+    
+    // ai-burst는 AI 작업이 한꺼번에 돌 수 있도록 워커 동시성/커넥션 풀/대기열을 버스트 크기만큼 늘리고
+    // 배치와 결과 캐시, 동시 호출 한도는 꺼서 요청마다 AI 호출 하나가 그대로 나가게 한다 (인자로 다시 덮어쓸 수 있다)
+    private static Map<String, String> backendProperties(LoadTestOptions options) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        if (options.scenario().equals("ai-burst")) {
+            String burst = String.valueOf(options.aiBurst());
+            properties.put("ai-analysis.job.concurrency", burst);
+            properties.put("ai-analysis.job.claim-batch-size", burst);
+            properties.put("ai-analysis.job.poll-interval-ms", "100");
+            properties.put("ai-service.pool.max-connections", burst);
+            properties.put("ai-service.pool.pending-acquire-max-count", String.valueOf(options.aiBurst() * 2));
+            properties.put("ai-service.batch.enabled", "false");
+            properties.put("ai-service.cache.enabled", "false");
+            properties.put("ai-service.limiter.enabled", "false");
+        }
+        properties.putAll(options.backendProperties());
+        return properties;
+    }
+    
+    private static void printAi(StubAiService ai) {
+        StubAiService.Stats stats = ai.stats();
+        System.out.printf("스텁 AI 서비스: 호출 %d건, 오류 응답 %d건, 최대 동시 호출 %d%n",
+                stats.calls(), stats.errors(), stats.peakInFlight());
+    }
+}
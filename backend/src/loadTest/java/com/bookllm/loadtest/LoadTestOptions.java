@@ -0,0 +1,94 @@
+package com.bookllm.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// key=value 형식 인자, 점(.)이 들어간 키는 백엔드 설정으로 그대로 넘긴다
+// 예) scenario=ai-burst threads=both ai-latency=lognormal:2s,6s ai-service.pool.max-connections=2000
+public record LoadTestOptions(
+        String scenario,
+        String db,
+        List<Boolean> virtualThreads,
+        double rps,
+        Duration warmup,
+        Duration duration,
+        Map<String, Integer> mix,
+        LatencyDistribution aiLatency,
+        double aiErrorRate,
+        int aiBurst,
+        int books,
+        int users,
+        int reviewsPerUser,
+        int writers,
+        int maxInFlight,
+        Path out,
+        Map<String, String> backendProperties) {
+    
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> backend = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+            }
+            String key = arg.substring(0, eq);
+            (key.contains(".") ? backend : values).put(key, arg.substring(eq + 1));
+        }
+        
+        String scenario = values.getOrDefault("scenario", "mixed");
+        if (!scenario.equals("mixed") && !scenario.equals("ai-burst")) {
+            throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+        }
+        String threads = values.getOrDefault("threads", "virtual");
+        List<Boolean> virtualThreads = switch (threads) {
+            case "virtual" -> List.of(true);
+            case "platform" -> List.of(false);
+            case "both" -> List.of(false, true);
+            default -> throw new IllegalArgumentException("threads는 virtual|platform|both: " + threads);
+        };
+        // ai-burst는 느린 AI 호출이 동시에 몰리는 상황만 보려는 것이므로 지연은 길게, 오류(재시도)는 없이 둔다
+        boolean burst = scenario.equals("ai-burst");
+        String defaultLatency = burst ? "fixed:3s" : "lognormal:800ms,3s";
+        String defaultMix = burst
+                ? "reviewDetail:40,bookDetail:30,bookReviews:30"
+                : "reviewDetail:40,bookDetail:20,bookReviews:15,search:15,createReview:10";
+        
+        return new LoadTestOptions(
+                scenario,
+                values.getOrDefault("db", "mysql"),
+                virtualThreads,
+                Double.parseDouble(values.getOrDefault("rps", "200")),
+                duration(values.getOrDefault("warmup", "10s")),
+                duration(values.getOrDefault("duration", "60s")),
+                mix(values.getOrDefault("mix", defaultMix)),
+                LatencyDistribution.parse(values.getOrDefault("ai-latency", defaultLatency)),
+                Double.parseDouble(values.getOrDefault("ai-error-rate", burst ? "0" : "0.01")),
+                Integer.parseInt(values.getOrDefault("ai-burst", "1000")),
+                Integer.parseInt(values.getOrDefault("books", "20000")),
+                Integer.parseInt(values.getOrDefault("users", "2000")),
+                Integer.parseInt(values.getOrDefault("reviews-per-user", "10")),
+                Integer.parseInt(values.getOrDefault("writers", "500")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                Path.of(values.getOrDefault("out", "build/reports/loadtest")),
+                backend);
+    }
+    
+    static Duration duration(String value) {
+        return DurationStyle.detectAndParse(value);
+    }
+    
+    private static Map<String, Integer> mix(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.split(":");
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
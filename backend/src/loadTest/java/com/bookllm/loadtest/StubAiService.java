@@ -0,0 +1,202 @@
+package com.bookllm.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// ai-service(FastAPI)의 /api/v1/reviews/analyze(/batch), /api/v1/recommendations 를 흉내 내는 JVM 내 스텁
+// 응답 형식은 ai-service/app/models/schemas.py와 같고, 지연은 분포에서 뽑고 errorRate 비율로 500을 돌려준다
+// /analyze/stream 은 같은 지연을 조각 사이에 나눠 delta/section/done SSE 이벤트로 흘려보낸다
+// 요청마다 가상 스레드에서 sleep 하므로 동시 호출 수에 상한이 없다 (느린 LLM이 병목인 상황)
+public class StubAiService implements AutoCloseable {
+    
+    private static final List<String> BOOK_INSIGHTS =
+            List.of("인물의 선택이 이야기 전체를 이끈다", "짧은 문장 속에 긴 여운이 남는다");
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    
+    private StubAiService(LatencyDistribution latency, double errorRate) throws IOException {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        server.createContext("/api/v1/reviews/analyze/batch", exchange -> handle(exchange, this::analyzeBatch));
+        server.createContext("/api/v1/reviews/analyze/stream", this::handleStream);
+        server.createContext("/api/v1/reviews/analyze", exchange -> handle(exchange, this::analyze));
+        server.createContext("/api/v1/recommendations", exchange -> handle(exchange, this::recommend));
+        server.createContext("/health", exchange -> respond(exchange, 200, Map.of("status", "healthy")));
+        server.setExecutor(executor);
+    }
+    
+    public static StubAiService start(LatencyDistribution latency, double errorRate) throws IOException {
+        StubAiService stub = new StubAiService(latency, errorRate);
+        stub.server.start();
+        return stub;
+    }
+    
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+    
+    public Stats stats() {
+        return new Stats(calls.sum(), errors.sum(), peakInFlight.get());
+    }
+    
+    public void resetStats() {
+        calls.reset();
+        errors.reset();
+        peakInFlight.set(inFlight.get());
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+        calls.increment();
+        try {
+            JsonNode body = read(exchange.getRequestBody());
+            Thread.sleep(latency.sampleMillis());
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                errors.increment();
+                respond(exchange, 500, Map.of("detail", "stub: upstream LLM error"));
+                return;
+            }
+            respond(exchange, 200, handler.handle(body));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+    
+    // 전체 지연의 1/4 뒤에 첫 조각을 보내고 나머지는 조각 사이에 나눠 쉰다
+    private void handleStream(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+        calls.increment();
+        try {
+            JsonNode request = read(exchange.getRequestBody());
+            long total = latency.sampleMillis();
+            Thread.sleep(total / 4);
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                errors.increment();
+                respond(exchange, 500, Map.of("detail", "stub: upstream LLM error"));
+                return;
+            }
+            List<String> chunks = List.of("그 마음이 ", "잘 전해집니다. ", "오래 남는 ", "책이었네요.");
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (String chunk : chunks) {
+                    writeEvent(out, "delta", Map.of("field", "empathy_message", "text", chunk));
+                    Thread.sleep(total * 3 / 4 / chunks.size());
+                }
+                writeEvent(out, "section", Map.of("field", "book_insights", "value", BOOK_INSIGHTS));
+                writeEvent(out, "done", analyze(request));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+        } catch (IOException e) {
+            // 백엔드가 스트림을 취소하면 커넥션이 닫혀 쓰기가 실패한다
+            exchange.close();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+    
+    private void writeEvent(OutputStream out, String event, Object data) throws IOException {
+        out.write(("event: " + event + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+        out.write(objectMapper.writeValueAsBytes(data));
+        out.write("\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+    
+    private Map<String, Object> analyze(JsonNode request) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("review_id", request.hasNonNull("review_id") ? request.get("review_id").asLong() : null);
+        response.put("ai_response", Map.of(
+                "empathy_message", request.path("book_title").asText() + "을(를) 읽고 " +
+                        request.path("user_emotion").asText() + "을(를) 느끼셨군요. 그 마음이 잘 전해집니다.",
+                "book_insights", BOOK_INSIGHTS,
+                "emotion_analysis", Map.of("primary", "감동", "secondary", "그리움", "intensity", "높음"),
+                "personalized_insight", "비슷한 감정을 주는 성장 소설을 좋아하실 것 같아요."));
+        response.put("recommendations", recommendations());
+        response.put("created_at", LocalDateTime.now().toString());
+        return response;
+    }
+    
+    // 배치는 LLM 한 번 호출로 처리한다고 보고 지연을 한 번만 적용한다
+    private Object analyzeBatch(JsonNode requests) {
+        List<Object> responses = new ArrayList<>(requests.size());
+        for (JsonNode request : requests) {
+            responses.add(analyze(request));
+        }
+        return responses;
+    }
+    
+    private Object recommend(JsonNode request) {
+        return Map.of("recommendations", recommendations(), "generated_at", LocalDateTime.now().toString());
+    }
+    
+    private static List<Map<String, Object>> recommendations() {
+        return List.of(
+                Map.of("title", "데미안", "author", "헤르만 헤세", "reason", "자아를 찾아가는 이야기", "similarity_score", 0.82),
+                Map.of("title", "연금술사", "author", "파울로 코엘료", "reason", "꿈을 좇는 여정", "similarity_score", 0.74));
+    }
+    
+    private JsonNode read(InputStream body) throws IOException {
+        try (body) {
+            return objectMapper.readTree(body.readAllBytes());
+        }
+    }
+    
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(JsonNode body);
+    }
+    
+    public record Stats(long calls, long errors, int peakInFlight) {
+    }
+}
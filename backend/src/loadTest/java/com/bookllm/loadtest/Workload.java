@@ -0,0 +1,121 @@
+package com.bookllm.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 읽기/쓰기 혼합 시나리오, 가중치에 따라 요청 하나를 고른다
+// 쓰기(createReview)는 리뷰가 없는 writer 사용자들에게 (사용자, 도서) 쌍을 겹치지 않게 배정해 409가 나지 않게 한다
+public class Workload {
+    
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] QUERIES = {"도서 소설", "에세이", "작가 12", "인문 도서", "역사", "과학 도서 1"};
+    private static final String[] EMOTIONS = {"감동", "여운", "설렘", "슬픔", "위로"};
+    
+    private final String baseUrl;
+    private final int books;
+    private final int users;
+    private final long reviews;
+    private final int writers;
+    private final AtomicLong writeSequence = new AtomicLong();
+    
+    private final List<Operation> operations = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    
+    public Workload(String baseUrl, Map<String, Integer> mix, int books, int users, int reviewsPerUser, int writers) {
+        this.baseUrl = baseUrl;
+        this.books = books;
+        this.users = users;
+        this.reviews = (long) users * reviewsPerUser;
+        this.writers = writers;
+        
+        cumulativeWeights = new int[mix.size()];
+        int sum = 0;
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            operations.add(operation(entry.getKey()));
+            sum += entry.getValue();
+            cumulativeWeights[operations.size() - 1] = sum;
+        }
+        totalWeight = sum;
+    }
+    
+    public List<String> operationNames() {
+        return operations.stream().map(Operation::name).toList();
+    }
+    
+    public Operation next() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        throw new IllegalStateException();
+    }
+    
+    // ai-burst용: writer 사용자의 새 리뷰 작성 요청 (AI 분석 작업이 하나씩 큐에 들어간다)
+    public HttpRequest createReview() {
+        long sequence = writeSequence.getAndIncrement();
+        long userId = users + 1 + sequence % writers;
+        long bookId = 1 + (sequence / writers) % books;
+        String body = String.format(Locale.ROOT, """
+                {"bookId": %d, "content": "부하 테스트로 남기는 감상평 %d - 주인공의 마지막 선택이 오래 남는다.", \
+                "rating": %.1f, "userEmotion": "%s"}""", bookId, sequence,
+                1 + ThreadLocalRandom.current().nextInt(9) * 0.5,
+                EMOTIONS[ThreadLocalRandom.current().nextInt(EMOTIONS.length)]);
+        return request("/api/reviews")
+                .header("Content-Type", "application/json")
+                .header("userId", String.valueOf(userId))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+    
+    private Operation operation(String name) {
+        return switch (name) {
+            case "reviewDetail" -> new Operation(name, () -> get("/api/reviews/" + randomReview()));
+            case "reviewDetailFields" -> new Operation(name,
+                    () -> get("/api/reviews/" + randomReview() + "?fields=id,bookTitle,rating,contentSnippet"));
+            case "bookDetail" -> new Operation(name, () -> get("/api/books/" + randomBook()));
+            case "bookReviews" -> new Operation(name, () -> get("/api/reviews/book/" + randomBook() + "?size=20"));
+            case "userReviews" -> new Operation(name, () -> get("/api/reviews/user/" + randomUser() + "?size=20"));
+            case "search" -> new Operation(name, () -> get("/api/books/search/text?q=" +
+                    URLEncoder.encode(QUERIES[ThreadLocalRandom.current().nextInt(QUERIES.length)], StandardCharsets.UTF_8)));
+            case "similarBooks" -> new Operation(name, () -> get("/api/books/" + randomBook() + "/similar"));
+            case "createReview" -> new Operation(name, this::createReview);
+            default -> throw new IllegalArgumentException("알 수 없는 요청 종류: " + name);
+        };
+    }
+    
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+    
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+    
+    private long randomReview() {
+        return 1 + ThreadLocalRandom.current().nextLong(reviews);
+    }
+    
+    private long randomBook() {
+        return 1 + ThreadLocalRandom.current().nextInt(books);
+    }
+    
+    private long randomUser() {
+        return 1 + ThreadLocalRandom.current().nextInt(users);
+    }
+    
+    public record Operation(String name, Supplier<HttpRequest> request) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.bookllm.api;
+
+import com.bookllm.domain.book.dto.BookExportFormat;
+import com.bookllm.domain.book.importer.BookImportResult;
+import com.bookllm.domain.book.importer.BookImportService;
+import com.bookllm.global.cache.ResponseCache;
+import com.bookllm.global.cache.ResponseCacheStats;
+import com.bookllm.global.query.QueryBudgetStats;
+import com.bookllm.global.query.QueryCountFilter;
+import com.bookllm.infrastructure.ai.cache.AiAnalysisCache;
+import com.bookllm.infrastructure.ai.cache.AiAnalysisCacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+    
+    private final AiAnalysisCache aiAnalysisCache;
+    private final QueryCountFilter queryCountFilter;
+    private final BookImportService bookImportService;
+    private final ResponseCache responseCache;
+    
+    @GetMapping("/ai-cache")
+    public ResponseEntity<AiAnalysisCacheStats> getAiCacheStats() {
+        return ResponseEntity.ok(aiAnalysisCache.stats());
+    }
+    
+    // promptVersion을 생략하면 현재 프롬프트 버전이 아닌 항목을 모두 삭제
+    @DeleteMapping("/ai-cache")
+    public ResponseEntity<Map<String, Integer>> invalidateAiCache(
+            @RequestParam(required = false) String promptVersion) {
+        int deleted = aiAnalysisCache.invalidate(promptVersion);
+        return ResponseEntity.ok(Map.of("deleted", deleted));
+    }
+    
+    @GetMapping("/response-cache")
+    public ResponseEntity<ResponseCacheStats> getResponseCacheStats() {
+        return ResponseEntity.ok(responseCache.stats());
+    }
+    
+    @GetMapping("/query-stats")
+    public ResponseEntity<QueryBudgetStats> getQueryStats() {
+        return ResponseEntity.ok(queryCountFilter.stats());
+    }
+    
+    // 요청 본문(CSV/NDJSON)을 스트리밍으로 가져온다, 같은 job으로 다시 보내면 체크포인트 이후부터 이어서 처리
+    @PostMapping("/book-import")
+    public ResponseEntity<BookImportResult> importBooks(
+            @RequestParam String job,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean restart,
+            InputStream body) throws IOException {
+        if (restart) {
+            bookImportService.reset(job);
+        }
+        return ResponseEntity.ok(bookImportService.importBooks(job, BookExportFormat.from(format), body));
+    }
+}
@@ -1,13 +1,27 @@
 package com.bookllm.api;
 
+import com.bookllm.domain.book.dto.BookExportFormat;
 import com.bookllm.domain.book.dto.CreateBookRequest;
 import com.bookllm.domain.book.dto.BookResponse;
+import com.bookllm.domain.book.dto.BookSearchResponse;
+import com.bookllm.domain.book.service.BookExportService;
 import com.bookllm.domain.book.service.BookService;
+import com.bookllm.domain.recommendation.dto.RecommendationResponse;
+import com.bookllm.domain.recommendation.dto.SimilarBookResponse;
+import com.bookllm.domain.recommendation.service.RecommendationService;
+import com.bookllm.domain.recommendation.service.SemanticSimilarityService;
+import com.bookllm.domain.recommendation.service.SimilarBookService;
+import com.bookllm.global.cache.CachedResource;
+import com.bookllm.global.cache.ResponseCache;
+import com.bookllm.global.http.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,6 +32,12 @@ import java.util.List;
 public class BookController {
     
     private final BookService bookService;
+    private final BookExportService bookExportService;
+    private final RecommendationService recommendationService;
+    private final SimilarBookService similarBookService;
+    private final SemanticSimilarityService semanticSimilarityService;
+    private final ResponseCache responseCache;
+    private final ConditionalGet conditionalGet;
     
     @PostMapping
     public ResponseEntity<BookResponse> createBook(@Valid @RequestBody CreateBookRequest request) {
@@ -34,10 +54,45 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/search/text")
+    public ResponseEntity<BookSearchResponse> searchText(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookService.searchText(query, page, size));
+    }
+    
     @GetMapping("/{bookId}")
-    public ResponseEntity<BookResponse> getBook(@PathVariable Long bookId) {
-        BookResponse book = bookService.getBook(bookId);
-        return ResponseEntity.ok(book);
+    public ResponseEntity<byte[]> getBook(
+            @PathVariable Long bookId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long version = bookService.getBookVersion(bookId);
+        return conditionalGet.respond(ifNoneMatch, version, () ->
+                responseCache.get(CachedResource.BOOK, bookId, version, () -> bookService.getBook(bookId)));
+    }
+    
+    // 이 책의 리뷰들에서 AI가 추천한 도서를 모아 많이 추천된 순으로 (LLM 호출 없음)
+    @GetMapping("/{bookId}/recommendations")
+    public ResponseEntity<List<RecommendationResponse>> getRecommendations(
+            @PathVariable Long bookId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(recommendationService.getForBook(bookId, limit));
+    }
+    
+    // 리뷰 평점 기반 아이템 협업 필터링 (메모리 행렬, LLM 호출 없음)
+    @GetMapping("/{bookId}/similar")
+    public ResponseEntity<List<SimilarBookResponse>> getSimilarBooks(
+            @PathVariable Long bookId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(similarBookService.getSimilarBooks(bookId, limit));
+    }
+    
+    // 제목/저자/장르/설명 임베딩 기반 유사 도서 (HNSW 근사 최근접 이웃)
+    @GetMapping("/{bookId}/similar/semantic")
+    public ResponseEntity<List<SimilarBookResponse>> getSemanticallySimilarBooks(
+            @PathVariable Long bookId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(semanticSimilarityService.getSimilarBooks(bookId, limit));
     }
     
     @GetMapping
@@ -45,4 +100,15 @@ public class BookController {
         List<BookResponse> books = bookService.getAllBooks();
         return ResponseEntity.ok(books);
     }
-}
\ No newline at end of file
+    
+    // 전체 카탈로그를 NDJSON/CSV로 스트리밍 (메모리에 목록을 만들지 않음)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(@RequestParam(defaultValue = "ndjson") String format) {
+        BookExportFormat exportFormat = BookExportFormat.from(format);
+        StreamingResponseBody body = out -> bookExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=books." + exportFormat.getExtension())
+                .body(body);
+    }
+}
@@ -1,13 +1,27 @@
 package com.bookllm.api;
 
+import com.bookllm.domain.recommendation.dto.RecommendationResponse;
+import com.bookllm.domain.recommendation.dto.SimilarReviewResponse;
+import com.bookllm.domain.recommendation.service.RecommendationService;
+import com.bookllm.domain.recommendation.service.SemanticSimilarityService;
 import com.bookllm.domain.review.dto.CreateReviewRequest;
+import com.bookllm.domain.review.dto.ReviewAnalysisStatusResponse;
 import com.bookllm.domain.review.dto.ReviewResponse;
+import com.bookllm.domain.review.service.AiAnalysisStreamService;
 import com.bookllm.domain.review.service.ReviewService;
+import com.bookllm.global.cache.CachedResource;
+import com.bookllm.global.cache.ResponseCache;
+import com.bookllm.global.dto.CursorPageResponse;
+import com.bookllm.global.http.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -17,6 +31,11 @@ import java.util.List;
 public class ReviewController {
     
     private final ReviewService reviewService;
+    private final AiAnalysisStreamService aiAnalysisStreamService;
+    private final RecommendationService recommendationService;
+    private final SemanticSimilarityService semanticSimilarityService;
+    private final ResponseCache responseCache;
+    private final ConditionalGet conditionalGet;
     
     @PostMapping
     public ResponseEntity<ReviewResponse> createReview(
@@ -27,21 +46,66 @@ public class ReviewController {
     }
     
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<ReviewResponse>> getUserReviews(@PathVariable Long userId) {
-        List<ReviewResponse> reviews = reviewService.getUserReviews(userId);
+    public ResponseEntity<CursorPageResponse<?>> getUserReviews(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
+        CursorPageResponse<?> reviews = fields == null
+                ? reviewService.getUserReviews(userId, cursor, size)
+                : reviewService.getUserReviewFields(userId, fields, cursor, size);
         return ResponseEntity.ok(reviews);
     }
     
     @GetMapping("/book/{bookId}")
-    public ResponseEntity<List<ReviewResponse>> getBookReviews(@PathVariable Long bookId) {
-        List<ReviewResponse> reviews = reviewService.getBookReviews(bookId);
+    public ResponseEntity<CursorPageResponse<?>> getBookReviews(
+            @PathVariable Long bookId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
+        CursorPageResponse<?> reviews = fields == null
+                ? reviewService.getBookReviews(bookId, cursor, size)
+                : reviewService.getBookReviewFields(bookId, fields, cursor, size);
         return ResponseEntity.ok(reviews);
     }
     
     @GetMapping("/{reviewId}")
-    public ResponseEntity<ReviewResponse> getReview(@PathVariable Long reviewId) {
-        ReviewResponse review = reviewService.getReview(reviewId);
-        return ResponseEntity.ok(review);
+    public ResponseEntity<?> getReview(
+            @PathVariable Long reviewId,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (fields != null) {
+            return ResponseEntity.ok(reviewService.getReviewFields(reviewId, fields));
+        }
+        // 전체 응답만 ETag(버전)로 재검증하고 직렬화된 바이트로 캐시, 부분 필드 조회는 둘 다 하지 않는다
+        long version = reviewService.getReviewVersion(reviewId);
+        return conditionalGet.respond(ifNoneMatch, version, () ->
+                responseCache.get(CachedResource.REVIEW, reviewId, version, () -> reviewService.getReview(reviewId)));
+    }
+    
+    @GetMapping("/{reviewId}/analysis")
+    public ResponseEntity<ReviewAnalysisStatusResponse> getAnalysisStatus(@PathVariable Long reviewId) {
+        ReviewAnalysisStatusResponse status = reviewService.getAnalysisStatus(reviewId);
+        return ResponseEntity.ok(status);
+    }
+    
+    // 분석 결과를 만들어지는 대로 SSE(delta, section, status, done, error)로 받는다, 폴링 대신 첫 조각부터 보여 줄 수 있다
+    @GetMapping(value = "/{reviewId}/analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamAnalysis(@PathVariable Long reviewId) {
+        return aiAnalysisStreamService.stream(reviewId);
+    }
+    
+    @GetMapping("/{reviewId}/recommendations")
+    public ResponseEntity<List<RecommendationResponse>> getRecommendations(@PathVariable Long reviewId) {
+        return ResponseEntity.ok(recommendationService.getForReview(reviewId));
+    }
+    
+    // 본문 임베딩이 가까운 다른 리뷰
+    @GetMapping("/{reviewId}/similar")
+    public ResponseEntity<List<SimilarReviewResponse>> getSimilarReviews(
+            @PathVariable Long reviewId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(semanticSimilarityService.getSimilarReviews(reviewId, limit));
     }
     
     @DeleteMapping("/{reviewId}")
@@ -0,0 +1,26 @@
+package com.bookllm.domain.book.dto;
+
+import com.bookllm.global.exception.BusinessException;
+import com.bookllm.global.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Locale;
+
+@Getter
+@AllArgsConstructor
+public enum BookExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+    
+    private final String contentType;
+    private final String extension;
+    
+    public static BookExportFormat from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "지원하지 않는 내보내기 형식: " + value);
+        }
+    }
+}
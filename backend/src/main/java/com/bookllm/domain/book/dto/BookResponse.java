@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
@@ -21,6 +22,10 @@ public class BookResponse {
     private String isbn;
     private String publisher;
     private String coverImageUrl;
+    private long reviewCount;
+    private double averageRating;
+    // 인덱스 0부터 1점~5점 구간별 리뷰 수
+    private List<Long> ratingHistogram;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -34,6 +39,9 @@ public class BookResponse {
                 .isbn(book.getIsbn())
                 .publisher(book.getPublisher())
                 .coverImageUrl(book.getCoverImageUrl())
+                .reviewCount(book.getReviewCount())
+                .averageRating(book.getAverageRating())
+                .ratingHistogram(book.getRatingHistogram())
                 .createdAt(book.getCreatedAt())
                 .updatedAt(book.getUpdatedAt())
                 .build();
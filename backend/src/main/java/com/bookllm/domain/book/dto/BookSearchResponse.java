@@ -0,0 +1,28 @@
+package com.bookllm.domain.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSearchResponse {
+    private List<Hit> items;
+    private int totalHits;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Hit {
+        private BookResponse book;
+        private double score;
+    }
+}
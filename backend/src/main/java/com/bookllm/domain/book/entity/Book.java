@@ -4,12 +4,20 @@ import com.bookllm.domain.review.entity.Review;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 
 @Entity
-@Table(name = "books")
+@Table(name = "books", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_books_normalized_key", columnNames = "normalized_key")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -26,6 +34,10 @@ public class Book {
     @Column(nullable = false)
     private String author;
     
+    // 정규화한 (제목, 저자)의 SHA-256, 같은 책이 중복 생성되지 않도록 유니크 인덱스를 건다
+    @Column(name = "normalized_key", nullable = false, length = 64, updatable = false)
+    private String normalizedKey;
+    
     private String isbn;
     
     private String publisher;
@@ -41,6 +53,41 @@ public class Book {
     @Builder.Default
     private List<Review> reviews = new ArrayList<>();
     
+    // 평점 집계 (비정규화), 리뷰 작성/삭제 시 SQL 증감으로 갱신하고 BookRatingReconciler가 주기적으로 보정
+    @Column(nullable = false)
+    @Builder.Default
+    private long reviewCount = 0;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private double ratingSum = 0;
+    
+    // 반올림한 별점(1~5)별 리뷰 수
+    @Column(name = "rating1_count", nullable = false)
+    @Builder.Default
+    private long rating1Count = 0;
+    
+    @Column(name = "rating2_count", nullable = false)
+    @Builder.Default
+    private long rating2Count = 0;
+    
+    @Column(name = "rating3_count", nullable = false)
+    @Builder.Default
+    private long rating3Count = 0;
+    
+    @Column(name = "rating4_count", nullable = false)
+    @Builder.Default
+    private long rating4Count = 0;
+    
+    @Column(name = "rating5_count", nullable = false)
+    @Builder.Default
+    private long rating5Count = 0;
+    
+    // 낙관적 락 겸 ETag 원천, 평점 집계를 바꾸는 벌크 UPDATE도 함께 올린다
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -48,6 +95,9 @@ public class Book {
     
     @PrePersist
     protected void onCreate() {
+        if (normalizedKey == null) {
+            normalizedKey = normalizedKeyOf(title, author);
+        }
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
@@ -58,12 +108,39 @@ public class Book {
     }
     
     public double getAverageRating() {
-        if (reviews.isEmpty()) {
+        if (reviewCount == 0) {
             return 0.0;
         }
-        return reviews.stream()
-                .mapToDouble(Review::getRating)
-                .average()
-                .orElse(0.0);
+        return ratingSum / reviewCount;
+    }
+    
+    public List<Long> getRatingHistogram() {
+        return List.of(rating1Count, rating2Count, rating3Count, rating4Count, rating5Count);
+    }
+    
+    // 0.0~5.0 평점을 1~5 구간으로 (x.5는 올림, 1 미만은 1)
+    public static int ratingBucket(double rating) {
+        return (int) Math.max(1, Math.min(5, Math.round(rating)));
+    }
+    
+    // 유니코드 정규화(NFKC), 공백 정리, 소문자화 후 해시
+    public static String normalizedKeyOf(String title, String author) {
+        String canonical = normalize(title) + "\u001f" + normalize(author);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
     }
-}
\ No newline at end of file
+}
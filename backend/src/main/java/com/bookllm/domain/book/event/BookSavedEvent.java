@@ -0,0 +1,11 @@
+package com.bookllm.domain.book.event;
+
+import com.bookllm.domain.book.entity.Book;
+
+// 도서가 저장(생성/갱신)되었음을 알린다, 검색 색인 등 부가 처리는 커밋 이후에 수행
+public record BookSavedEvent(Long bookId, String title, String author, String genre, String description) {
+    
+    public static BookSavedEvent of(Book book) {
+        return new BookSavedEvent(book.getId(), book.getTitle(), book.getAuthor(), book.getGenre(), book.getDescription());
+    }
+}
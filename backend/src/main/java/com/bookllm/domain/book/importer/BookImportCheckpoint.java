@@ -0,0 +1,67 @@
+package com.bookllm.domain.book.importer;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 가져오기 작업별 진행 상황, 배치 INSERT와 같은 트랜잭션에서 갱신되어 중단 후 이어서 실행할 수 있다
+@Entity
+@Table(name = "book_import_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BookImportCheckpoint {
+    
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+    
+    // 커밋까지 끝난 마지막 데이터 행 번호
+    @Column(nullable = false)
+    private long lastRow;
+    
+    @Column(nullable = false)
+    private long inserted;
+    
+    @Column(nullable = false)
+    private long duplicates;
+    
+    @Column(nullable = false)
+    private long invalid;
+    
+    @Column(nullable = false)
+    private boolean completed;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+    
+    public static BookImportCheckpoint start(String jobName) {
+        return BookImportCheckpoint.builder().jobName(jobName).build();
+    }
+    
+    public void advance(long lastRow, long inserted, long duplicates, long invalid) {
+        this.lastRow = lastRow;
+        this.inserted += inserted;
+        this.duplicates += duplicates;
+        this.invalid += invalid;
+    }
+    
+    public void complete() {
+        this.completed = true;
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
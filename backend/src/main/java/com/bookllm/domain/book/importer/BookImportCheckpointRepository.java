@@ -0,0 +1,8 @@
+package com.bookllm.domain.book.importer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BookImportCheckpointRepository extends JpaRepository<BookImportCheckpoint, String> {
+}
@@ -0,0 +1,21 @@
+package com.bookllm.domain.book.importer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "book-import")
+public class BookImportProperties {
+    
+    // 한 트랜잭션(배치 INSERT + 체크포인트)에 담을 행 수
+    private int chunkSize = 1000;
+    
+    // 설정하면 기동 시 BookImportRunner가 이 파일을 가져오고 종료한다
+    private String file;
+    
+    private String format = "csv";
+    
+    private String jobName;
+}
@@ -0,0 +1,165 @@
+package com.bookllm.domain.book.importer;
+
+import com.bookllm.domain.book.dto.BookExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// 가져오기 파일을 한 행씩 읽는다 (전체를 메모리에 올리지 않음)
+// CSV는 내보내기(BookExportService)와 같은 헤더 이름을 쓰며 순서는 자유, 없는 열은 null
+public abstract class BookImportReader implements Iterator<BookImportRow>, Closeable {
+    
+    protected long rowNumber;
+    
+    public static BookImportReader open(BookExportFormat format, InputStream in, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(objectMapper.readerFor(JsonNode.class).readValues(in));
+            case CSV -> new Csv(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        };
+    }
+    
+    private static final class Ndjson extends BookImportReader {
+        private final MappingIterator<JsonNode> lines;
+        
+        private Ndjson(MappingIterator<JsonNode> lines) {
+            this.lines = lines;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return lines.hasNext();
+        }
+        
+        @Override
+        public BookImportRow next() {
+            JsonNode node = lines.next();
+            return new BookImportRow(++rowNumber, text(node, "title"), text(node, "author"), text(node, "genre"),
+                    text(node, "description"), text(node, "isbn"), text(node, "publisher"),
+                    text(node, "coverImageUrl"));
+        }
+        
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+        
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+    
+    // RFC 4180: 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 두 번 쓴 따옴표를 처리
+    private static final class Csv extends BookImportReader {
+        private final Reader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private List<String> nextRecord;
+        
+        private Csv(Reader reader) throws IOException {
+            this.reader = reader;
+            List<String> header = readRecord();
+            if (header == null) {
+                return;
+            }
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).strip();
+                // 내보내기 파일의 BOM
+                if (i == 0 && name.startsWith("\uFEFF")) {
+                    name = name.substring(1);
+                }
+                columns.put(name.toLowerCase(Locale.ROOT), i);
+            }
+            nextRecord = readRecord();
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return nextRecord != null;
+        }
+        
+        @Override
+        public BookImportRow next() {
+            if (nextRecord == null) {
+                throw new NoSuchElementException();
+            }
+            List<String> record = nextRecord;
+            try {
+                nextRecord = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new BookImportRow(++rowNumber, column(record, "title"), column(record, "author"),
+                    column(record, "genre"), column(record, "description"), column(record, "isbn"),
+                    column(record, "publisher"), column(record, "coverimageurl"));
+        }
+        
+        private String column(List<String> record, String name) {
+            Integer index = columns.get(name);
+            if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+                return null;
+            }
+            return record.get(index);
+        }
+        
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
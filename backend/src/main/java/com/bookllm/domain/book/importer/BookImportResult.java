@@ -0,0 +1,22 @@
+package com.bookllm.domain.book.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookImportResult {
+    private String jobName;
+    // 이전 실행에서 이미 커밋된 행 수 (이번 실행에서 건너뜀)
+    private long resumedFrom;
+    private long lastRow;
+    private long inserted;
+    private long duplicates;
+    private long invalid;
+    private long elapsedMs;
+    private double rowsPerSecond;
+}
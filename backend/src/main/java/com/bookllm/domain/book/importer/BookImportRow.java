@@ -0,0 +1,6 @@
+package com.bookllm.domain.book.importer;
+
+// 가져오기 파일의 한 행, rowNumber는 헤더를 뺀 1부터의 데이터 행 번호 (체크포인트 기준)
+public record BookImportRow(long rowNumber, String title, String author, String genre, String description,
+                            String isbn, String publisher, String coverImageUrl) {
+}
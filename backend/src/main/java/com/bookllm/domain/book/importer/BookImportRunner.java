@@ -0,0 +1,50 @@
+package com.bookllm.domain.book.importer;
+
+import com.bookllm.domain.book.dto.BookExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// CLI 실행: java -jar backend.jar --spring.main.web-application-type=none \
+//   --book-import.file=books.csv [--book-import.format=ndjson] [--book-import.job-name=seed-2025]
+// 같은 job-name으로 다시 실행하면 마지막 체크포인트 다음 행부터 이어서 가져온다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "book-import", name = "file")
+public class BookImportRunner implements ApplicationRunner {
+    
+    private final BookImportService bookImportService;
+    private final BookImportProperties properties;
+    private final ConfigurableApplicationContext context;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        Path file = Path.of(properties.getFile());
+        String jobName = properties.getJobName() != null ? properties.getJobName() : file.getFileName().toString();
+        
+        int exitCode = 0;
+        try (InputStream in = Files.newInputStream(file)) {
+            BookImportResult result = bookImportService.importBooks(
+                    jobName, BookExportFormat.from(properties.getFormat()), in);
+            log.info("도서 가져오기 결과: 추가 {}건, 중복 {}건, 오류 {}건, 초당 {}행",
+                    result.getInserted(), result.getDuplicates(), result.getInvalid(),
+                    Math.round(result.getRowsPerSecond()));
+        } catch (Exception e) {
+            log.error("도서 가져오기 실패: {} (같은 job-name으로 다시 실행하면 이어서 진행)", file, e);
+            exitCode = 1;
+        }
+        
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
@@ -0,0 +1,256 @@
+package com.bookllm.domain.book.importer;
+
+import com.bookllm.domain.book.dto.BookExportFormat;
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.event.BookSavedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// 대량 도서 가져오기
+// 파일을 스트리밍으로 읽어 청크 단위로: 병렬 검증 -> 중복 제거 -> JdbcTemplate 배치 INSERT + 체크포인트 갱신 (한 트랜잭션)
+// Book은 IDENTITY 전략이라 Hibernate가 INSERT를 묶지 못하므로 JDBC로 직접 쓴다
+@Slf4j
+@Service
+public class BookImportService {
+    
+    private static final int MAX_LENGTH = 255;
+    
+    // (제목, 저자) 중복은 정규화 키 유니크 인덱스에 걸려 무시된다
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO books (title, author, genre, description, isbn, publisher, cover_image_url, " +
+            "normalized_key, review_count, rating_sum, rating1_count, rating2_count, rating3_count, " +
+            "rating4_count, rating5_count, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, 0, 0, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final BookImportCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final BookImportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    
+    public BookImportService(JdbcTemplate jdbcTemplate,
+                             BookImportCheckpointRepository checkpointRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             ObjectMapper objectMapper,
+                             BookImportProperties properties,
+                             PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.checkpointRepository = checkpointRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    public BookImportResult importBooks(String jobName, BookExportFormat format, InputStream in) throws IOException {
+        long started = System.currentTimeMillis();
+        BookImportCheckpoint checkpoint = checkpointRepository.findById(jobName)
+                .orElseGet(() -> checkpointRepository.save(BookImportCheckpoint.start(jobName)));
+        long resumedFrom = checkpoint.getLastRow();
+        if (resumedFrom > 0) {
+            log.info("도서 가져오기 재개: {} - {}행 이후부터", jobName, resumedFrom);
+        }
+        
+        int chunkSize = properties.getChunkSize();
+        try (BookImportReader reader = BookImportReader.open(format, in, objectMapper)) {
+            List<BookImportRow> chunk = new ArrayList<>(chunkSize);
+            while (reader.hasNext()) {
+                BookImportRow row = reader.next();
+                // 이미 커밋된 행은 건너뛴다
+                if (row.rowNumber() <= resumedFrom) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(jobName, chunk, started);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(jobName, chunk, started);
+            }
+        }
+        
+        BookImportCheckpoint finished = transactionTemplate.execute(status -> {
+            BookImportCheckpoint current = checkpointRepository.findById(jobName).orElseThrow();
+            current.complete();
+            return current;
+        });
+        long elapsedMs = Math.max(1, System.currentTimeMillis() - started);
+        log.info("도서 가져오기 완료: {} - 추가 {}건, 중복 {}건, 오류 {}건, {}ms",
+                jobName, finished.getInserted(), finished.getDuplicates(), finished.getInvalid(), elapsedMs);
+        return BookImportResult.builder()
+                .jobName(jobName)
+                .resumedFrom(resumedFrom)
+                .lastRow(finished.getLastRow())
+                .inserted(finished.getInserted())
+                .duplicates(finished.getDuplicates())
+                .invalid(finished.getInvalid())
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond((finished.getLastRow() - resumedFrom) * 1000.0 / elapsedMs)
+                .build();
+    }
+    
+    public void reset(String jobName) {
+        checkpointRepository.deleteById(jobName);
+    }
+    
+    private void writeChunk(String jobName, List<BookImportRow> chunk, long started) {
+        // 검증과 정규화 키 계산(SHA-256)은 CPU 작업이라 병렬로
+        List<ValidRow> validated = chunk.parallelStream()
+                .map(BookImportService::validate)
+                .filter(Objects::nonNull)
+                .toList();
+        long invalid = chunk.size() - validated.size();
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            List<ValidRow> unique = dedupe(validated);
+            List<BookSavedEvent> inserted = unique.isEmpty() ? List.of() : insert(unique);
+            
+            BookImportCheckpoint checkpoint = checkpointRepository.findById(jobName).orElseThrow();
+            checkpoint.advance(chunk.get(chunk.size() - 1).rowNumber(), inserted.size(),
+                    validated.size() - inserted.size(), invalid);
+            
+            // 새로 들어간 도서를 검색 색인에 반영 (커밋 이후 처리됨)
+            inserted.forEach(eventPublisher::publishEvent);
+            
+            double elapsedSeconds = Math.max(1, System.currentTimeMillis() - started) / 1000.0;
+            log.info("도서 가져오기 진행: {} - {}행까지 커밋 (추가 {}건, 초당 {}행)",
+                    jobName, checkpoint.getLastRow(), checkpoint.getInserted(),
+                    Math.round(checkpoint.getLastRow() / elapsedSeconds));
+        });
+    }
+    
+    // 청크 안 중복 + 이미 등록된 (제목, 저자)/ISBN 제거
+    // 여기서 남은 키는 이 트랜잭션을 시작할 때 없던 키이므로 insert()가 키로 다시 읽으면 이번 청크가 넣은 행만 나온다
+    private List<ValidRow> dedupe(List<ValidRow> rows) {
+        Set<String> isbns = new HashSet<>();
+        rows.forEach(row -> {
+            if (row.isbn() != null) {
+                isbns.add(row.isbn());
+            }
+        });
+        Set<String> existingIsbns = isbns.isEmpty() ? Set.of() : new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT isbn FROM books WHERE isbn IN (:isbns)", new MapSqlParameterSource("isbns", isbns),
+                String.class));
+        List<String> keys = rows.stream().map(ValidRow::normalizedKey).distinct().toList();
+        Set<String> existingKeys = new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT normalized_key FROM books WHERE normalized_key IN (:keys)",
+                new MapSqlParameterSource("keys", keys), String.class));
+        
+        Set<String> seenKeys = new HashSet<>(existingKeys);
+        Set<String> seenIsbns = new HashSet<>(existingIsbns);
+        List<ValidRow> unique = new ArrayList<>(rows.size());
+        for (ValidRow row : rows) {
+            if (!seenKeys.add(row.normalizedKey())) {
+                continue;
+            }
+            if (row.isbn() != null && !seenIsbns.add(row.isbn())) {
+                continue;
+            }
+            unique.add(row);
+        }
+        return unique;
+    }
+    
+    // 배치 INSERT는 행별 영향 수를 돌려주지 않으므로 dedupe()가 남긴 이번 청크의 키로 들어간 행을 다시 읽는다
+    private List<BookSavedEvent> insert(List<ValidRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        List<Object[]> args = rows.stream()
+                .map(row -> new Object[]{
+                        row.title(), row.author(), row.genre(), row.description(), row.isbn(), row.publisher(),
+                        row.coverImageUrl(), row.normalizedKey(), now, now
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+        
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keys", rows.stream().map(ValidRow::normalizedKey).toList());
+        return namedJdbcTemplate.query(
+                "SELECT id, title, author, genre, description FROM books WHERE normalized_key IN (:keys)",
+                params,
+                (rs, rowNum) -> new BookSavedEvent(rs.getLong("id"), rs.getString("title"), rs.getString("author"),
+                        rs.getString("genre"), rs.getString("description")));
+    }
+    
+    static ValidRow validate(BookImportRow row) {
+        String title = trimToNull(row.title());
+        String author = trimToNull(row.author());
+        if (title == null || author == null || title.length() > MAX_LENGTH || author.length() > MAX_LENGTH) {
+            return null;
+        }
+        String isbn = normalizeIsbn(row.isbn());
+        if (row.isbn() != null && !row.isbn().isBlank() && isbn == null) {
+            return null;
+        }
+        String genre = trimToNull(row.genre());
+        String publisher = trimToNull(row.publisher());
+        String coverImageUrl = trimToNull(row.coverImageUrl());
+        if (exceeds(genre) || exceeds(publisher) || exceeds(coverImageUrl)) {
+            return null;
+        }
+        return new ValidRow(title, author, genre, trimToNull(row.description()), isbn, publisher, coverImageUrl,
+                Book.normalizedKeyOf(title, author));
+    }
+    
+    // 하이픈/공백을 빼고 ISBN-10/13 체크섬까지 확인, 잘못된 값이면 null
+    static String normalizeIsbn(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        String isbn = raw.replaceAll("[\\s-]", "").toUpperCase();
+        if (isbn.matches("\\d{13}")) {
+            int sum = 0;
+            for (int i = 0; i < 12; i++) {
+                sum += (isbn.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+            }
+            return (10 - sum % 10) % 10 == isbn.charAt(12) - '0' ? isbn : null;
+        }
+        if (isbn.matches("\\d{9}[\\dX]")) {
+            int sum = 0;
+            for (int i = 0; i < 10; i++) {
+                int digit = isbn.charAt(i) == 'X' ? 10 : isbn.charAt(i) - '0';
+                sum += digit * (10 - i);
+            }
+            return sum % 11 == 0 ? isbn : null;
+        }
+        return null;
+    }
+    
+    private static boolean exceeds(String value) {
+        return value != null && value.length() > MAX_LENGTH;
+    }
+    
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.strip();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+    
+    record ValidRow(String title, String author, String genre, String description, String isbn, String publisher,
+                    String coverImageUrl, String normalizedKey) {
+    }
+}
@@ -1,13 +1,21 @@
 package com.bookllm.domain.book.repository;
 
 import com.bookllm.domain.book.entity.Book;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
@@ -15,6 +23,23 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     
     Optional<Book> findByTitleAndAuthor(String title, String author);
     
+    @Query("SELECT b.id FROM Book b WHERE b.normalizedKey = :normalizedKey")
+    Optional<Long> findIdByNormalizedKey(@Param("normalizedKey") String normalizedKey);
+    
+    // 조건부 GET용, 엔티티를 읽지 않고 버전만
+    @Query("SELECT b.version FROM Book b WHERE b.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+    
+    // 유니크 키가 이미 있으면 아무것도 바꾸지 않는 업서트, 동시에 여러 요청이 와도 한 행만 생긴다
+    @Modifying
+    @Query(value = "INSERT INTO books (title, author, genre, normalized_key, review_count, rating_sum, " +
+                   "rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, version, created_at, updated_at) " +
+                   "VALUES (:title, :author, :genre, :normalizedKey, 0, 0, 0, 0, 0, 0, 0, 0, NOW(6), NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE id = id",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("title") String title, @Param("author") String author,
+                       @Param("genre") String genre, @Param("normalizedKey") String normalizedKey);
+    
     List<Book> findByTitleContainingIgnoreCase(String title);
     
     List<Book> findByAuthorContainingIgnoreCase(String author);
@@ -24,4 +49,53 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     List<Book> searchByKeyword(@Param("keyword") String keyword);
     
     List<Book> findByGenre(String genre);
-}
\ No newline at end of file
+    
+    // 읽고-고치고-쓰기 대신 한 문장으로 증감해 동시 작성/삭제에도 집계가 어긋나지 않는다
+    @Modifying
+    @Query("UPDATE Book b SET b.reviewCount = b.reviewCount + :count, b.ratingSum = b.ratingSum + :ratingSum, " +
+           "b.rating1Count = b.rating1Count + :r1, b.rating2Count = b.rating2Count + :r2, " +
+           "b.rating3Count = b.rating3Count + :r3, b.rating4Count = b.rating4Count + :r4, " +
+           "b.rating5Count = b.rating5Count + :r5, b.version = b.version + 1 WHERE b.id = :bookId")
+    int addRatingAggregates(@Param("bookId") Long bookId, @Param("count") long count,
+                            @Param("ratingSum") double ratingSum,
+                            @Param("r1") long r1, @Param("r2") long r2, @Param("r3") long r3,
+                            @Param("r4") long r4, @Param("r5") long r5);
+    
+    // 전체 카탈로그 스트리밍: MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 행 단위로 흘려보낸다
+    // 호출자는 트랜잭션 안에서 스트림을 닫고, 영속성 컨텍스트를 주기적으로 비워야 한다
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Book b ORDER BY b.id")
+    Stream<Book> streamAll();
+    
+    @Query("SELECT b FROM Book b WHERE b.id > :afterId ORDER BY b.id")
+    List<Book> findBatchAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    @Query("SELECT b.id FROM Book b WHERE b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    // id 구간의 집계를 reviews에서 다시 계산해 덮어쓴다 (MySQL UPDATE ... JOIN)
+    // 값이 실제로 달라진 행만 갱신해 버전(ETag)을 올린다, 반환값은 보정된 도서 수
+    // DOUBLE에 대한 ROUND()는 짝수 반올림일 수 있어 Book.ratingBucket과 같은 FLOOR(x + 0.5)를 쓴다
+    @Modifying
+    @Query(value = "UPDATE books b LEFT JOIN (" +
+                   "  SELECT book_id, COUNT(*) AS cnt, SUM(rating) AS total, " +
+                   "         SUM(FLOOR(rating + 0.5) <= 1) AS r1, SUM(FLOOR(rating + 0.5) = 2) AS r2, " +
+                   "         SUM(FLOOR(rating + 0.5) = 3) AS r3, SUM(FLOOR(rating + 0.5) = 4) AS r4, " +
+                   "         SUM(FLOOR(rating + 0.5) >= 5) AS r5 " +
+                   "  FROM reviews WHERE book_id BETWEEN :fromId AND :toId GROUP BY book_id" +
+                   ") a ON a.book_id = b.id " +
+                   "SET b.review_count = COALESCE(a.cnt, 0), b.rating_sum = COALESCE(a.total, 0), " +
+                   "    b.rating1_count = COALESCE(a.r1, 0), b.rating2_count = COALESCE(a.r2, 0), " +
+                   "    b.rating3_count = COALESCE(a.r3, 0), b.rating4_count = COALESCE(a.r4, 0), " +
+                   "    b.rating5_count = COALESCE(a.r5, 0), b.version = b.version + 1 " +
+                   "WHERE b.id BETWEEN :fromId AND :toId " +
+                   "  AND (b.review_count <> COALESCE(a.cnt, 0) OR ABS(b.rating_sum - COALESCE(a.total, 0)) > 1e-9 " +
+                   "    OR b.rating1_count <> COALESCE(a.r1, 0) OR b.rating2_count <> COALESCE(a.r2, 0) " +
+                   "    OR b.rating3_count <> COALESCE(a.r3, 0) OR b.rating4_count <> COALESCE(a.r4, 0) " +
+                   "    OR b.rating5_count <> COALESCE(a.r5, 0))",
+           nativeQuery = true)
+    int recomputeRatingAggregates(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -0,0 +1,4 @@
+package com.bookllm.domain.book.search;
+
+public record BookSearchHit(Long bookId, double score) {
+}
@@ -0,0 +1,278 @@
+package com.bookllm.domain.book.search;
+
+import com.bookllm.domain.book.event.BookSavedEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 제목/저자/장르/설명에 대한 메모리 역색인, BM25로 순위를 매긴다
+// 문서 번호(docId)는 색인 순서대로 증가하므로 포스팅 목록은 항상 정렬되어 있다
+// 같은 도서를 다시 색인하면 이전 문서는 삭제 표시만 하고 새 문서를 뒤에 붙인다
+// 삭제 표시가 살아 있는 문서보다 많아지면 살아 있는 문서만 남겨 번호를 다시 매긴다
+public class BookSearchIndex {
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    // 필드별 가중치는 토큰 빈도에 곱해 반영 (제목 일치가 설명 일치보다 중요)
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int GENRE_WEIGHT = 1;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    
+    // 작은 색인에서 재색인마다 압축하지 않도록 삭제 표시가 이만큼 쌓인 뒤부터 본다
+    private static final int MIN_DELETED_TO_COMPACT = 1024;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docIdByBookId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] bookIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private int docCount;
+    private int liveDocs;
+    private int deletedDocs;
+    private long totalLength;
+    
+    public void add(BookSavedEvent book) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addField(termFrequencies, book.title(), TITLE_WEIGHT);
+        addField(termFrequencies, book.author(), AUTHOR_WEIGHT);
+        addField(termFrequencies, book.genre(), GENRE_WEIGHT);
+        addField(termFrequencies, book.description(), DESCRIPTION_WEIGHT);
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        
+        lock.writeLock().lock();
+        try {
+            Integer previous = docIdByBookId.get(book.bookId());
+            if (previous != null) {
+                deleted.set(previous);
+                liveDocs--;
+                deletedDocs++;
+                totalLength -= lengths[previous];
+                if (deletedDocs >= MIN_DELETED_TO_COMPACT && deletedDocs > liveDocs) {
+                    compact();
+                }
+            }
+            
+            int docId = docCount++;
+            if (docId == bookIds.length) {
+                bookIds = Arrays.copyOf(bookIds, docId * 2);
+                lengths = Arrays.copyOf(lengths, docId * 2);
+            }
+            bookIds[docId] = book.bookId();
+            lengths[docId] = length;
+            docIdByBookId.put(book.bookId(), docId);
+            liveDocs++;
+            totalLength += length;
+            
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new Postings()).add(docId, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public BookSearchResult search(String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(BookTokenizer.tokenize(query)));
+        
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty() || liveDocs == 0) {
+                return new BookSearchResult(List.of(), 0);
+            }
+            
+            double averageLength = (double) totalLength / liveDocs;
+            List<Postings> lists = new ArrayList<>(terms.size());
+            long postingCount = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                    postingCount += list.size;
+                }
+            }
+            int termCount = lists.size();
+            int[][] docs = new int[termCount][];
+            int[][] frequencies = new int[termCount][];
+            int[] sizes = new int[termCount];
+            double[] idfs = new double[termCount];
+            for (int t = 0; t < termCount; t++) {
+                Postings list = lists.get(t);
+                docs[t] = list.docs;
+                frequencies[t] = list.frequencies;
+                sizes[t] = list.size;
+                // 삭제 표시된 문서도 df에 포함되므로 liveDocs로 상한을 둔다
+                int documentFrequency = Math.min(list.size, liveDocs);
+                idfs[t] = Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            }
+            
+            // 포스팅 목록은 docId 순으로 정렬되어 있으므로 병합하면서 같은 문서의 점수를 더한다
+            // 전체 문서 수가 아니라 질의에 걸린 문서 수만큼만 점수를 담는다
+            int capacity = (int) Math.min(postingCount, liveDocs);
+            int[] hitDocs = new int[capacity];
+            float[] hitScores = new float[capacity];
+            int hitCount = 0;
+            int[] cursors = new int[termCount];
+            while (true) {
+                int docId = Integer.MAX_VALUE;
+                for (int t = 0; t < termCount; t++) {
+                    if (cursors[t] < sizes[t] && docs[t][cursors[t]] < docId) {
+                        docId = docs[t][cursors[t]];
+                    }
+                }
+                if (docId == Integer.MAX_VALUE) {
+                    break;
+                }
+                
+                float score = 0;
+                double norm = K1 * (1 - B + B * lengths[docId] / averageLength);
+                for (int t = 0; t < termCount; t++) {
+                    int cursor = cursors[t];
+                    if (cursor < sizes[t] && docs[t][cursor] == docId) {
+                        int tf = frequencies[t][cursor];
+                        score += (float) (idfs[t] * tf * (K1 + 1) / (tf + norm));
+                        cursors[t] = cursor + 1;
+                    }
+                }
+                if (!deleted.get(docId)) {
+                    hitDocs[hitCount] = docId;
+                    hitScores[hitCount] = score;
+                    hitCount++;
+                }
+            }
+            
+            return rank(hitDocs, hitScores, hitCount, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // offset + limit개만 유지하는 최소 힙으로 상위 문서를 고른다 (힙에는 일치 목록의 위치를 담는다)
+    // 일치한 문서 수보다 크게 잡을 필요가 없고, 큰 offset이 int로 넘치지 않도록 long으로 더한 뒤 자른다
+    private BookSearchResult rank(int[] hitDocs, float[] hitScores, int hitCount, int offset, int limit) {
+        int keep = (int) Math.min((long) Math.max(0, offset) + Math.max(0, limit), hitCount);
+        if (keep == 0) {
+            return new BookSearchResult(List.of(), hitCount);
+        }
+        // 일치 목록은 docId 순이므로 점수가 같으면 위치가 앞선(먼저 색인된) 문서를 앞에 둔다
+        Comparator<Integer> byRelevance = Comparator.<Integer>comparingDouble(hit -> hitScores[hit])
+                .thenComparing(Comparator.<Integer>naturalOrder().reversed());
+        PriorityQueue<Integer> top = new PriorityQueue<>(keep, byRelevance);
+        
+        for (int hit = 0; hit < hitCount; hit++) {
+            if (top.size() < keep) {
+                top.add(hit);
+            } else if (byRelevance.compare(hit, top.peek()) > 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+        
+        List<Integer> ranked = new ArrayList<>(top);
+        ranked.sort(byRelevance.reversed());
+        List<BookSearchHit> hits = new ArrayList<>(Math.max(0, ranked.size() - offset));
+        for (int i = offset; i < ranked.size(); i++) {
+            int hit = ranked.get(i);
+            hits.add(new BookSearchHit(bookIds[hitDocs[hit]], hitScores[hit]));
+        }
+        return new BookSearchResult(hits, hitCount);
+    }
+    
+    // 살아 있는 문서를 순서대로 앞으로 당기므로 포스팅 목록은 정렬된 채로 남는다 (쓰기 잠금 안에서 호출)
+    private void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int docId = 0; docId < docCount; docId++) {
+            if (deleted.get(docId)) {
+                remap[docId] = -1;
+                continue;
+            }
+            remap[docId] = next;
+            bookIds[next] = bookIds[docId];
+            lengths[next] = lengths[docId];
+            next++;
+        }
+        
+        postings.values().removeIf(list -> list.retain(remap) == 0);
+        docIdByBookId.replaceAll((bookId, docId) -> remap[docId]);
+        deleted.clear();
+        deletedDocs = 0;
+        docCount = next;
+        int capacity = Math.max(1024, Integer.highestOneBit(Math.max(1, next)) << 1);
+        if (capacity < bookIds.length) {
+            bookIds = Arrays.copyOf(bookIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+    }
+    
+    // 색인에 실제로 남아 있는 문서 수 (삭제 표시 포함)
+    int indexedDocs() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private static void addField(Map<String, Integer> termFrequencies, String text, int weight) {
+        for (String token : BookTokenizer.tokenize(text)) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+    
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        
+        private void add(int docId, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = docId;
+            frequencies[size] = frequency;
+            size++;
+        }
+        
+        // 삭제된 문서(-1)를 빼고 새 번호로 바꾼 뒤 남은 개수를 돌려준다
+        private int retain(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int docId = remap[docs[i]];
+                if (docId < 0) {
+                    continue;
+                }
+                docs[kept] = docId;
+                frequencies[kept] = frequencies[i];
+                kept++;
+            }
+            size = kept;
+            if (kept > 0 && kept * 4 < docs.length) {
+                docs = Arrays.copyOf(docs, Math.max(4, kept * 2));
+                frequencies = Arrays.copyOf(frequencies, Math.max(4, kept * 2));
+            }
+            return kept;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.bookllm.domain.book.search;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.event.BookSavedEvent;
+import com.bookllm.domain.book.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 기동 후 도서 테이블을 id 키셋 배치로 읽어 색인을 만들고, 이후에는 저장 이벤트로 증분 반영한다
+// 구축 중에도 이벤트는 같은 색인에 바로 들어가며, 같은 도서를 다시 넣으면 교체되므로 순서가 섞여도 안전하다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndexer {
+    
+    private final BookRepository bookRepository;
+    private final BookSearchProperties properties;
+    
+    private final BookSearchIndex index = new BookSearchIndex();
+    private volatile boolean ready;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // 구축하는 동안 요청은 LIKE 검색으로 처리되므로 기동을 막지 않는다
+        Thread.ofVirtual().name("book-search-index").start(this::build);
+    }
+    
+    void build() {
+        long started = System.currentTimeMillis();
+        Limit limit = Limit.of(properties.getBuildBatchSize());
+        long afterId = 0L;
+        try {
+            while (true) {
+                List<Book> books = bookRepository.findBatchAfter(afterId, limit);
+                if (books.isEmpty()) {
+                    break;
+                }
+                books.forEach(book -> index.add(BookSavedEvent.of(book)));
+                afterId = books.get(books.size() - 1).getId();
+            }
+            ready = true;
+            log.info("도서 검색 색인 구축 완료: {}권, {}ms", index.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("도서 검색 색인 구축 실패, LIKE 검색으로 대체합니다", e);
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        if (properties.isEnabled()) {
+            index.add(event);
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public BookSearchResult search(String query, int offset, int limit) {
+        return index.search(query, offset, limit);
+    }
+}
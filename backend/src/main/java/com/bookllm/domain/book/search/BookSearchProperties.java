@@ -0,0 +1,17 @@
+package com.bookllm.domain.book.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "book.search")
+public class BookSearchProperties {
+    
+    // 끄면 색인을 만들지 않고 LIKE 검색으로 처리
+    private boolean enabled = true;
+    
+    // 기동 시 색인 구축에서 한 번에 읽을 도서 수
+    private int buildBatchSize = 1000;
+}
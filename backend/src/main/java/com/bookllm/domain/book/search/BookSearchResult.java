@@ -0,0 +1,6 @@
+package com.bookllm.domain.book.search;
+
+import java.util.List;
+
+public record BookSearchResult(List<BookSearchHit> hits, int totalHits) {
+}
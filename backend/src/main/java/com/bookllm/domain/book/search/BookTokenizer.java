@@ -0,0 +1,58 @@
+package com.bookllm.domain.book.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 색인/질의 공용 토크나이저
+// 한글은 띄어쓰기와 조사가 불규칙하므로 음절 바이그램으로, 그 외 문자는 단어 단위로 자른다
+public final class BookTokenizer {
+    
+    private BookTokenizer() {
+    }
+    
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean runHangul = false;
+        
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+            
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, runHangul, tokens);
+                continue;
+            }
+            boolean hangul = Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+            // "SF소설"처럼 문자 체계가 바뀌는 지점에서도 끊는다
+            if (!run.isEmpty() && hangul != runHangul) {
+                flush(run, runHangul, tokens);
+            }
+            runHangul = hangul;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, runHangul, tokens);
+        return tokens;
+    }
+    
+    private static void flush(StringBuilder run, boolean hangul, List<String> tokens) {
+        if (run.isEmpty()) {
+            return;
+        }
+        if (!hangul || run.length() == 1) {
+            tokens.add(run.toString());
+        } else {
+            for (int i = 0; i + 1 < run.length(); i++) {
+                tokens.add(run.substring(i, i + 2));
+            }
+        }
+        run.setLength(0);
+    }
+}
@@ -0,0 +1,116 @@
+package com.bookllm.domain.book.service;
+
+import com.bookllm.domain.book.dto.BookExportFormat;
+import com.bookllm.domain.book.dto.BookResponse;
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// 도서 전체를 한 행씩 읽어 바로 응답 스트림에 쓴다
+// 목록을 만들지 않고 N행마다 영속성 컨텍스트를 비우므로 카탈로그 크기와 무관하게 메모리가 일정하다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookExportService {
+    
+    static final int CLEAR_INTERVAL = 1000;
+    
+    private static final String[] CSV_HEADER = {
+            "id", "title", "author", "genre", "isbn", "publisher", "reviewCount", "averageRating", "createdAt"
+    };
+    
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    
+    public long export(BookExportFormat format, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        long rows;
+        try (Stream<Book> books = bookRepository.streamAll()) {
+            rows = switch (format) {
+                case NDJSON -> writeNdjson(books.iterator(), out);
+                case CSV -> writeCsv(books.iterator(), out);
+            };
+        }
+        log.info("도서 내보내기 완료: {} {}건, {}ms", format, rows, System.currentTimeMillis() - started);
+        return rows;
+    }
+    
+    private long writeNdjson(Iterator<Book> books, OutputStream out) throws IOException {
+        long rows = 0;
+        // 응답 스트림은 서블릿 컨테이너가 닫으므로 Jackson이 닫지 않게 한다
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            while (books.hasNext()) {
+                writer.write(BookResponse.from(books.next()));
+                if (++rows % CLEAR_INTERVAL == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        out.write('\n');
+        out.flush();
+        return rows;
+    }
+    
+    private long writeCsv(Iterator<Book> books, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // 엑셀에서 한글이 깨지지 않도록 BOM을 붙인다
+        writer.write('\uFEFF');
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+        while (books.hasNext()) {
+            Book book = books.next();
+            writeCsvRow(writer, book.getId(), book.getTitle(), book.getAuthor(), book.getGenre(), book.getIsbn(),
+                    book.getPublisher(), book.getReviewCount(), book.getAverageRating(), book.getCreatedAt());
+            if (++rows % CLEAR_INTERVAL == 0) {
+                writer.flush();
+                entityManager.clear();
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+    
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvEscape(values[i]));
+        }
+        writer.write("\r\n");
+    }
+    
+    // RFC 4180: 구분자/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다
+    static String csvEscape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
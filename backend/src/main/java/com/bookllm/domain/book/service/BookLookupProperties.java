@@ -0,0 +1,18 @@
+package com.bookllm.domain.book.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "book.lookup-cache")
+public class BookLookupProperties {
+    
+    // 정규화 키 -> 도서 id 캐시 크기
+    private long maxSize = 50_000;
+    
+    private Duration ttl = Duration.ofHours(6);
+}
@@ -0,0 +1,16 @@
+package com.bookllm.domain.book.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "book.rating-reconcile")
+public class BookRatingReconcileProperties {
+    
+    private boolean enabled = true;
+    
+    // 한 트랜잭션에서 다시 계산할 도서 수
+    private int batchSize = 500;
+}
@@ -0,0 +1,56 @@
+package com.bookllm.domain.book.service;
+
+import com.bookllm.domain.book.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 증감 누락(수동 데이터 수정, 증감과 재계산의 경합 등)으로 생긴 집계 오차를 주기적으로 바로잡는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookRatingReconciler {
+    
+    private final BookRepository bookRepository;
+    private final BookRatingService bookRatingService;
+    private final BookRatingReconcileProperties properties;
+    
+    @Scheduled(fixedDelayString = "${book.rating-reconcile.interval-ms:3600000}",
+               initialDelayString = "${book.rating-reconcile.initial-delay-ms:600000}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        
+        long started = System.currentTimeMillis();
+        int batches = reconcileAll();
+        log.info("도서 평점 집계 보정 완료: {}개 배치, {}ms", batches, System.currentTimeMillis() - started);
+    }
+    
+    int reconcileAll() {
+        Limit limit = Limit.of(properties.getBatchSize());
+        long afterId = 0L;
+        int batches = 0;
+        
+        // id 키셋으로 구간을 나눠 긴 트랜잭션과 대량 잠금을 피한다
+        while (true) {
+            List<Long> ids = bookRepository.findIdsAfter(afterId, limit);
+            if (ids.isEmpty()) {
+                return batches;
+            }
+            Long fromId = ids.get(0);
+            Long toId = ids.get(ids.size() - 1);
+            try {
+                bookRatingService.reconcile(fromId, toId);
+            } catch (Exception e) {
+                log.warn("도서 평점 집계 보정 실패: id {}~{} - {}", fromId, toId, e.getMessage());
+            }
+            batches++;
+            afterId = toId;
+        }
+    }
+}
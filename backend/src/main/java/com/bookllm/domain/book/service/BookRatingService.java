@@ -0,0 +1,52 @@
+package com.bookllm.domain.book.service;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.global.cache.CachedResource;
+import com.bookllm.global.cache.ResponseCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 도서 평점 집계(리뷰 수, 평점 합, 구간별 분포) 증감
+// 호출자의 트랜잭션 안에서 실행되어 리뷰 저장/삭제와 함께 커밋된다
+// 집계가 바뀐 도서의 단건 조회 캐시는 커밋 이후 무효화
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BookRatingService {
+    
+    private final BookRepository bookRepository;
+    private final ResponseCache responseCache;
+    
+    public void addRating(Long bookId, double rating) {
+        apply(bookId, rating, 1);
+    }
+    
+    public void removeRating(Long bookId, double rating) {
+        apply(bookId, rating, -1);
+    }
+    
+    // id 구간 하나를 reviews 기준으로 다시 계산, 구간마다 별도 트랜잭션
+    public int reconcile(Long fromId, Long toId) {
+        int updated = bookRepository.recomputeRatingAggregates(fromId, toId);
+        if (updated > 0) {
+            responseCache.invalidateAllAfterCommit(CachedResource.BOOK);
+        }
+        return updated;
+    }
+    
+    private void apply(Long bookId, double rating, int sign) {
+        int bucket = Book.ratingBucket(rating);
+        bookRepository.addRatingAggregates(
+                bookId,
+                sign,
+                sign * rating,
+                bucket == 1 ? sign : 0,
+                bucket == 2 ? sign : 0,
+                bucket == 3 ? sign : 0,
+                bucket == 4 ? sign : 0,
+                bucket == 5 ? sign : 0);
+        responseCache.invalidateAfterCommit(CachedResource.BOOK, bookId);
+    }
+}
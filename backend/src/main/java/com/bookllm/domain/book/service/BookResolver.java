@@ -0,0 +1,100 @@
+package com.bookllm.domain.book.service;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.event.BookSavedEvent;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.global.exception.BusinessException;
+import com.bookllm.global.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// (제목, 저자) -> 도서 id 조회/생성
+// 1) 정규화 키 캐시  2) 같은 키의 동시 요청은 하나만 DB에 가고 나머지는 결과를 기다림
+// 3) DB 유니크 인덱스 + 업서트로 다른 인스턴스와의 경합도 한 행으로 수렴
+@Component
+public class BookResolver {
+    
+    private final BookRepository bookRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, Long> idCache;
+    private final ConcurrentHashMap<String, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+    
+    public BookResolver(BookRepository bookRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        PlatformTransactionManager transactionManager,
+                        BookLookupProperties properties) {
+        this.bookRepository = bookRepository;
+        this.eventPublisher = eventPublisher;
+        // 업서트 결과가 커밋된 뒤에 기다리던 요청을 깨워야 하므로 호출자와 별도 트랜잭션으로 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.idCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+    
+    public Long resolveId(String title, String author, String genre) {
+        String key = Book.normalizedKeyOf(title, author);
+        Long cached = idCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        CompletableFuture<Long> mine = new CompletableFuture<>();
+        CompletableFuture<Long> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            return await(leader);
+        }
+        
+        try {
+            Long bookId = bookRepository.findIdByNormalizedKey(key)
+                    .orElseGet(() -> insert(key, title, author, genre));
+            idCache.put(key, bookId);
+            mine.complete(bookId);
+            return bookId;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+    
+    // 캐시된 id의 도서가 사라졌을 때 호출
+    public void evict(String title, String author) {
+        idCache.invalidate(Book.normalizedKeyOf(title, author));
+    }
+    
+    private Long insert(String key, String title, String author, String genre) {
+        // 업서트와 재조회를 한 트랜잭션에서: 다른 트랜잭션이 같은 키를 넣는 중이면 INSERT가 그 커밋을 기다린다
+        Long bookId = transactionTemplate.execute(status -> {
+            bookRepository.insertIfAbsent(title, author, genre, key);
+            return bookRepository.findIdByNormalizedKey(key)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND));
+        });
+        eventPublisher.publishEvent(new BookSavedEvent(bookId, title, author, genre, null));
+        return bookId;
+    }
+    
+    private static Long await(CompletableFuture<Long> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -2,13 +2,26 @@ package com.bookllm.domain.book.service;
 
 import com.bookllm.domain.book.dto.CreateBookRequest;
 import com.bookllm.domain.book.dto.BookResponse;
+import com.bookllm.domain.book.dto.BookSearchResponse;
 import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.event.BookSavedEvent;
 import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.domain.book.search.BookSearchHit;
+import com.bookllm.domain.book.search.BookSearchIndexer;
+import com.bookllm.domain.book.search.BookSearchResult;
+import com.bookllm.global.exception.BusinessException;
+import com.bookllm.global.exception.ConstraintViolations;
+import com.bookllm.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -16,7 +29,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BookService {
     
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    // 색인 검색은 offset + size개를 힙에 담으므로 깊은 페이지를 막는다 (최대 10,000번째 결과까지)
+    private static final int MAX_SEARCH_PAGE = 200;
+    private static final String NORMALIZED_KEY_UNIQUE = "uk_books_normalized_key";
+    
     private final BookRepository bookRepository;
+    private final BookSearchIndexer bookSearchIndexer;
+    private final BookResolver bookResolver;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public BookResponse createBook(CreateBookRequest request) {
@@ -30,23 +51,32 @@ public class BookService {
                 .coverImageUrl(request.getCoverImageUrl())
                 .build();
         
-        Book savedBook = bookRepository.save(book);
+        Book savedBook;
+        try {
+            savedBook = bookRepository.save(book);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 제목/저자(정규화 키) 위반만 이미 있는 책으로 본다, NOT NULL/길이 위반 등은 그대로 던진다
+            if (!ConstraintViolations.isViolationOf(e, NORMALIZED_KEY_UNIQUE)) {
+                throw e;
+            }
+            throw new BusinessException(ErrorCode.BOOK_ALREADY_EXISTS);
+        }
+        // 커밋 후 검색 색인에 반영
+        eventPublisher.publishEvent(BookSavedEvent.of(savedBook));
         return BookResponse.from(savedBook);
     }
     
-    @Transactional
+    // 바깥 트랜잭션 없이 실행해야 BookResolver가 커밋한 행을 바로 읽을 수 있다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookResponse findOrCreateBook(String title, String author, String genre) {
-        // 먼저 제목과 저자로 책을 찾기
-        return bookRepository.findByTitleAndAuthor(title, author)
+        Long bookId = bookResolver.resolveId(title, author, genre);
+        return bookRepository.findById(bookId)
+                .or(() -> {
+                    bookResolver.evict(title, author);
+                    return bookRepository.findById(bookResolver.resolveId(title, author, genre));
+                })
                 .map(BookResponse::from)
-                .orElseGet(() -> {
-                    // 없으면 새로 생성
-                    CreateBookRequest request = new CreateBookRequest();
-                    request.setTitle(title);
-                    request.setAuthor(author);
-                    request.setGenre(genre);
-                    return createBook(request);
-                });
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND));
     }
     
     public BookResponse getBook(Long bookId) {
@@ -55,9 +85,54 @@ public class BookService {
         return BookResponse.from(book);
     }
     
+    public long getBookVersion(Long bookId) {
+        return bookRepository.findVersionById(bookId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND));
+    }
+    
     public List<BookResponse> getAllBooks() {
         return bookRepository.findAll().stream()
                 .map(BookResponse::from)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+    
+    // 메모리 역색인 + BM25 전문 검색, 색인이 준비되기 전에는 LIKE 검색 결과를 그대로 페이징
+    public BookSearchResponse searchText(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        page = Math.max(0, Math.min(page, MAX_SEARCH_PAGE));
+        int offset = page * pageSize;
+        
+        if (!bookSearchIndexer.isReady()) {
+            List<Book> matched = bookRepository.searchByKeyword(query);
+            List<BookSearchResponse.Hit> items = matched.stream()
+                    .skip(offset)
+                    .limit(pageSize)
+                    .map(book -> new BookSearchResponse.Hit(BookResponse.from(book), 0.0))
+                    .collect(Collectors.toList());
+            return toSearchResponse(items, matched.size(), page, pageSize, offset);
+        }
+        
+        BookSearchResult result = bookSearchIndexer.search(query, offset, pageSize);
+        List<Long> ids = result.hits().stream().map(BookSearchHit::bookId).toList();
+        Map<Long, Book> books = bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        
+        // 색인 점수 순서를 유지하고, 색인에는 있지만 이미 지워진 도서는 건너뛴다
+        List<BookSearchResponse.Hit> items = result.hits().stream()
+                .filter(hit -> books.containsKey(hit.bookId()))
+                .map(hit -> new BookSearchResponse.Hit(BookResponse.from(books.get(hit.bookId())), hit.score()))
+                .collect(Collectors.toList());
+        return toSearchResponse(items, result.totalHits(), page, pageSize, offset);
+    }
+    
+    private static BookSearchResponse toSearchResponse(List<BookSearchResponse.Hit> items, int totalHits,
+                                                       int page, int pageSize, int offset) {
+        return BookSearchResponse.builder()
+                .items(items)
+                .totalHits(totalHits)
+                .page(page)
+                .size(pageSize)
+                .hasNext(offset + pageSize < totalHits)
+                .build();
+    }
+}
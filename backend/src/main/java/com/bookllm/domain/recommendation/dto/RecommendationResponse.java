@@ -0,0 +1,30 @@
+package com.bookllm.domain.recommendation.dto;
+
+import com.bookllm.domain.recommendation.entity.Recommendation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationResponse {
+    private String title;
+    private String author;
+    private String reason;
+    private Double similarityScore;
+    // 같은 도서의 리뷰들에서 이 책이 추천된 횟수
+    private long mentions;
+    
+    public static RecommendationResponse from(Recommendation recommendation) {
+        return RecommendationResponse.builder()
+                .title(recommendation.getRecommendedTitle())
+                .author(recommendation.getRecommendedAuthor())
+                .reason(recommendation.getReason())
+                .similarityScore(recommendation.getSimilarityScore())
+                .mentions(1)
+                .build();
+    }
+}
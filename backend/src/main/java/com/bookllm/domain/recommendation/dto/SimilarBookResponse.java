@@ -0,0 +1,30 @@
+package com.bookllm.domain.recommendation.dto;
+
+import com.bookllm.domain.book.entity.Book;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarBookResponse {
+    private Long bookId;
+    private String title;
+    private String author;
+    private String genre;
+    // 평점 기반 아이템 코사인 유사도 (동시 평가자 수로 보정, 0~1)
+    private double similarity;
+    
+    public static SimilarBookResponse of(Book book, double similarity) {
+        return SimilarBookResponse.builder()
+                .bookId(book.getId())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .genre(book.getGenre())
+                .similarity(similarity)
+                .build();
+    }
+}
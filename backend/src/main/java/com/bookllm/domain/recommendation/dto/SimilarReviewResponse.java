@@ -0,0 +1,36 @@
+package com.bookllm.domain.recommendation.dto;
+
+import com.bookllm.domain.review.dto.ReviewField;
+import com.bookllm.domain.review.entity.Review;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarReviewResponse {
+    private Long reviewId;
+    private Long bookId;
+    private String bookTitle;
+    private Double rating;
+    private String contentSnippet;
+    // 본문 임베딩의 코사인 유사도
+    private double similarity;
+    
+    public static SimilarReviewResponse of(Review review, double similarity) {
+        String content = review.getContent();
+        return SimilarReviewResponse.builder()
+                .reviewId(review.getId())
+                .bookId(review.getBook().getId())
+                .bookTitle(review.getBook().getTitle())
+                .rating(review.getRating())
+                .contentSnippet(content != null && content.length() > ReviewField.SNIPPET_LENGTH
+                        ? content.substring(0, ReviewField.SNIPPET_LENGTH)
+                        : content)
+                .similarity(similarity)
+                .build();
+    }
+}
@@ -8,7 +8,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "recommendations")
+@Table(name = "recommendations", indexes = {
+        @Index(name = "idx_recommendations_source_book", columnList = "source_book_id"),
+        @Index(name = "idx_recommendations_review", columnList = "review_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -1,7 +1,12 @@
 package com.bookllm.domain.recommendation.repository;
 
+import com.bookllm.domain.recommendation.dto.RecommendationResponse;
 import com.bookllm.domain.recommendation.entity.Recommendation;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +16,16 @@ public interface RecommendationRepository extends JpaRepository<Recommendation,
     List<Recommendation> findBySourceBookId(Long sourceBookId);
     
     List<Recommendation> findByReviewId(Long reviewId);
-}
\ No newline at end of file
+    
+    // 도서의 모든 리뷰에서 나온 추천을 (제목, 저자)로 묶어 많이 추천된 순으로
+    @Query("SELECT new com.bookllm.domain.recommendation.dto.RecommendationResponse(" +
+           "r.recommendedTitle, r.recommendedAuthor, MAX(r.reason), AVG(r.similarityScore), COUNT(r)) " +
+           "FROM Recommendation r WHERE r.sourceBook.id = :bookId " +
+           "GROUP BY r.recommendedTitle, r.recommendedAuthor " +
+           "ORDER BY COUNT(r) DESC, AVG(r.similarityScore) DESC")
+    List<RecommendationResponse> findTopBySourceBookId(@Param("bookId") Long bookId, Limit limit);
+    
+    @Modifying
+    @Query("DELETE FROM Recommendation r WHERE r.review.id = :reviewId")
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+}
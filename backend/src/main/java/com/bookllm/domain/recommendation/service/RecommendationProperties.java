@@ -0,0 +1,20 @@
+package com.bookllm.domain.recommendation.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommendation")
+public class RecommendationProperties {
+    
+    // 도서별 추천 목록 캐시에 담을 도서 수
+    private long cacheMaxSize = 10_000;
+    
+    private Duration cacheTtl = Duration.ofMinutes(10);
+    
+    private int maxPerBook = 50;
+}
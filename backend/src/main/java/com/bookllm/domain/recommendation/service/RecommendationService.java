@@ -0,0 +1,130 @@
+package com.bookllm.domain.recommendation.service;
+
+import com.bookllm.domain.recommendation.dto.RecommendationResponse;
+import com.bookllm.domain.recommendation.repository.RecommendationRepository;
+import com.bookllm.domain.recommendation.vector.VectorIndexer;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.global.cache.CacheLoads;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// AI 분석이 돌려준 추천 도서를 행으로 저장하고, 도서별로 모아 LLM 호출 없이 "비슷한 책"을 제공한다
+@Service
+@Transactional(readOnly = true)
+public class RecommendationService {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO recommendations (source_book_id, review_id, recommended_title, recommended_author, " +
+            "reason, similarity_score, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    
+    private final RecommendationRepository recommendationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RecommendationProperties properties;
+    private final VectorIndexer vectorIndexer;
+    private final AsyncCache<Long, List<RecommendationResponse>> byBook;
+    
+    public RecommendationService(RecommendationRepository recommendationRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 RecommendationProperties properties,
+                                 VectorIndexer vectorIndexer) {
+        this.recommendationRepository = recommendationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.vectorIndexer = vectorIndexer;
+        this.byBook = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .buildAsync();
+    }
+    
+    // 리뷰의 추천을 통째로 교체 (재분석 시 이전 추천 제거), Recommendation은 IDENTITY라 JDBC 배치로 넣는다
+    @Transactional
+    public int replaceForReview(Review review, List<AiAnalysisResponse.Recommendation> recommendations) {
+        recommendationRepository.deleteByReviewId(review.getId());
+        
+        Long bookId = review.getBook().getId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Set<String> seen = new HashSet<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (AiAnalysisResponse.Recommendation recommendation : recommendations) {
+            if (isBlank(recommendation.getTitle()) || isBlank(recommendation.getAuthor())) {
+                continue;
+            }
+            String key = (recommendation.getTitle().strip() + "\u001f" + recommendation.getAuthor().strip())
+                    .toLowerCase(Locale.ROOT);
+            if (!seen.add(key)) {
+                continue;
+            }
+            rows.add(new Object[]{
+                    bookId, review.getId(), recommendation.getTitle().strip(), recommendation.getAuthor().strip(),
+                    recommendation.getReason(), similarityScore(bookId, recommendation), now
+            });
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+        evictAfterCommit(bookId);
+        return rows.size();
+    }
+    
+    @Transactional
+    public void deleteForReview(Long reviewId, Long bookId) {
+        recommendationRepository.deleteByReviewId(reviewId);
+        evictAfterCommit(bookId);
+    }
+    
+    public List<RecommendationResponse> getForBook(Long bookId, int limit) {
+        List<RecommendationResponse> all = CacheLoads.getOrLoad(byBook, bookId, id ->
+                recommendationRepository.findTopBySourceBookId(id, Limit.of(properties.getMaxPerBook())));
+        return all.subList(0, Math.min(Math.max(limit, 0), all.size()));
+    }
+    
+    public List<RecommendationResponse> getForReview(Long reviewId) {
+        return recommendationRepository.findByReviewId(reviewId).stream()
+                .map(RecommendationResponse::from)
+                .collect(Collectors.toList());
+    }
+    
+    // 커밋 전에 지우면 다른 요청이 이전 목록으로 다시 채울 수 있으므로 커밋 이후에 무효화
+    private void evictAfterCommit(Long bookId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            byBook.synchronous().invalidate(bookId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                byBook.synchronous().invalidate(bookId);
+            }
+        });
+    }
+    
+    // LLM이 주는 점수는 응답마다 기준이 달라 비교가 어려우므로, 원본 도서 벡터와 추천(제목/저자/이유) 임베딩의
+    // 코사인 유사도로 채운다, 원본 도서가 아직 색인에 없으면 LLM 점수를 그대로 둔다
+    private Double similarityScore(Long bookId, AiAnalysisResponse.Recommendation recommendation) {
+        String text = String.join(" ", recommendation.getTitle(), recommendation.getAuthor(),
+                recommendation.getReason() != null ? recommendation.getReason() : "");
+        Double score = vectorIndexer.similarityToBook(bookId, text);
+        return score != null ? score : recommendation.getSimilarityScore();
+    }
+    
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,62 @@
+package com.bookllm.domain.recommendation.service;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.domain.recommendation.dto.SimilarBookResponse;
+import com.bookllm.domain.recommendation.dto.SimilarReviewResponse;
+import com.bookllm.domain.recommendation.vector.VectorHit;
+import com.bookllm.domain.recommendation.vector.VectorIndexer;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 도서 설명/리뷰 본문 임베딩의 근사 최근접 이웃 (ai-service 없이 동작)
+// 색인에는 이미 지워진 행이 남아 있을 수 있으므로 DB에서 다시 읽어 없는 것은 거른다
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SemanticSimilarityService {
+    
+    private static final int MAX_LIMIT = 50;
+    
+    private final VectorIndexer vectorIndexer;
+    private final BookRepository bookRepository;
+    private final ReviewRepository reviewRepository;
+    
+    public List<SimilarBookResponse> getSimilarBooks(Long bookId, int limit) {
+        List<VectorHit> hits = vectorIndexer.similarBooks(bookId, clamp(limit));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Book> books = bookRepository.findAllById(hits.stream().map(VectorHit::id).toList()).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return hits.stream()
+                .filter(hit -> books.containsKey(hit.id()))
+                .map(hit -> SimilarBookResponse.of(books.get(hit.id()), hit.score()))
+                .collect(Collectors.toList());
+    }
+    
+    public List<SimilarReviewResponse> getSimilarReviews(Long reviewId, int limit) {
+        List<VectorHit> hits = vectorIndexer.similarReviews(reviewId, clamp(limit));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Review> reviews = reviewRepository.findByIdIn(hits.stream().map(VectorHit::id).toList()).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        return hits.stream()
+                .filter(hit -> reviews.containsKey(hit.id()))
+                .map(hit -> SimilarReviewResponse.of(reviews.get(hit.id()), hit.score()))
+                .collect(Collectors.toList());
+    }
+    
+    private static int clamp(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_LIMIT);
+    }
+}
@@ -0,0 +1,45 @@
+package com.bookllm.domain.recommendation.service;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.domain.recommendation.dto.SimilarBookResponse;
+import com.bookllm.domain.recommendation.similarity.ItemSimilarityIndexer;
+import com.bookllm.domain.recommendation.similarity.SimilarItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 리뷰 평점으로 만든 아이템 기반 협업 필터링 결과, 유사도 조회는 메모리에서 끝나고 도서 정보만 한 번에 읽는다
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SimilarBookService {
+    
+    private static final int MAX_LIMIT = 50;
+    
+    private final ItemSimilarityIndexer itemSimilarityIndexer;
+    private final BookRepository bookRepository;
+    
+    public List<SimilarBookResponse> getSimilarBooks(Long bookId, int limit) {
+        // 행렬을 만드는 중이면 빈 목록 (AI 추천 목록으로 대체하도록 클라이언트에 맡긴다)
+        if (!itemSimilarityIndexer.isReady()) {
+            return List.of();
+        }
+        List<SimilarItem> similar = itemSimilarityIndexer.similar(bookId, Math.min(Math.max(limit, 1), MAX_LIMIT));
+        if (similar.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Book> books = bookRepository.findAllById(similar.stream().map(SimilarItem::bookId).toList()).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return similar.stream()
+                .filter(item -> books.containsKey(item.bookId()))
+                .map(item -> SimilarBookResponse.of(books.get(item.bookId()), item.score()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,462 @@
+package com.bookllm.domain.recommendation.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 사용자 x 도서 평점 희소 행렬과 도서별 상위 K 유사 도서(아이템 기반 코사인 유사도)를 메모리에 둔다
+// 도서 행(평가한 사용자들)과 사용자 행(평가한 도서들)을 모두 들고 있어, 한 도서의 유사도는
+// "이 책을 평가한 사용자들이 평가한 다른 책"만 훑어 구한다 (동시 평가가 없는 쌍은 보지 않는다)
+// 값은 전부 int[]/float[]/double[]에 두고 Long/Double 박싱 맵은 쓰지 않는다
+public class ItemSimilarityIndex {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private final int topK;
+    private final double shrinkage;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final LongIntHashMap itemByBookId = new LongIntHashMap(INITIAL_CAPACITY);
+    private final LongIntHashMap userByUserId = new LongIntHashMap(INITIAL_CAPACITY);
+    private long[] bookIds = new long[INITIAL_CAPACITY];
+    private SparseRow[] items = new SparseRow[INITIAL_CAPACITY];
+    private SparseRow[] users = new SparseRow[INITIAL_CAPACITY];
+    private double[] itemSquaredNorms = new double[INITIAL_CAPACITY];
+    private Neighbors[] neighbors = new Neighbors[INITIAL_CAPACITY];
+    private int itemCount;
+    private int userCount;
+    private long ratingCount;
+    
+    // 증분 갱신은 쓰기 잠금 안에서만 하므로 작업 배열 하나를 재사용한다
+    private Scratch updateScratch = new Scratch(INITIAL_CAPACITY);
+    
+    // shrinkage: 함께 평가한 사용자 수 n에 n / (n + shrinkage)를 곱해, 한두 명만 겹친 쌍이 1.0으로 튀는 것을 누른다
+    public ItemSimilarityIndex(int topK, double shrinkage) {
+        this.topK = topK;
+        this.shrinkage = shrinkage;
+    }
+    
+    // 초기 적재: 정렬 없이 붙이기만 하고 finishLoad에서 한 번에 정렬한다 (put/remove와 섞어 쓰지 않는다)
+    public void load(long userId, long bookId, float rating) {
+        lock.writeLock().lock();
+        try {
+            int item = itemIndex(bookId);
+            int user = userIndex(userId);
+            items[item].append(user, rating);
+            users[user].append(item, rating);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void finishLoad() {
+        lock.writeLock().lock();
+        try {
+            ratingCount = 0;
+            for (int item = 0; item < itemCount; item++) {
+                items[item].sortAndDedupe();
+                itemSquaredNorms[item] = items[item].squaredNorm();
+                ratingCount += items[item].size;
+            }
+            for (int user = 0; user < userCount; user++) {
+                users[user].sortAndDedupe();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // 모든 도서의 상위 K를 fork-join으로 다시 계산한다
+    // 구간마다 읽기 잠금을 잡았다 놓으므로 계산 중에도 조회는 계속되고, 증분 갱신은 구간 사이에 끼어든다
+    public void rebuild(ForkJoinPool pool) {
+        int count;
+        lock.readLock().lock();
+        try {
+            count = itemCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+        int threshold = Math.max(64, count / (pool.getParallelism() * 8));
+        pool.invoke(new RebuildTask(0, count, threshold));
+    }
+    
+    public void put(long userId, long bookId, float rating) {
+        lock.writeLock().lock();
+        try {
+            int item = itemIndex(bookId);
+            int user = userIndex(userId);
+            float previous = items[item].put(user, rating);
+            users[user].put(item, rating);
+            if (Float.isNaN(previous)) {
+                ratingCount++;
+                previous = 0f;
+            }
+            itemSquaredNorms[item] += (double) rating * rating - (double) previous * previous;
+            refresh(item, user);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(long userId, long bookId) {
+        lock.writeLock().lock();
+        try {
+            int item = itemByBookId.get(bookId);
+            int user = userByUserId.get(userId);
+            if (item == LongIntHashMap.MISSING || user == LongIntHashMap.MISSING) {
+                return;
+            }
+            float previous = items[item].remove(user);
+            if (Float.isNaN(previous)) {
+                return;
+            }
+            users[user].remove(item);
+            ratingCount--;
+            itemSquaredNorms[item] = Math.max(0, itemSquaredNorms[item] - (double) previous * previous);
+            refresh(item, user);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public List<SimilarItem> similar(long bookId, int limit) {
+        lock.readLock().lock();
+        try {
+            int item = itemByBookId.get(bookId);
+            if (item == LongIntHashMap.MISSING) {
+                return List.of();
+            }
+            Neighbors list = neighbors[item];
+            int size = Math.min(Math.max(limit, 0), list.items.length);
+            List<SimilarItem> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(new SimilarItem(bookIds[list.items[i]], list.scores[i]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int itemCount() {
+        lock.readLock().lock();
+        try {
+            return itemCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int userCount() {
+        lock.readLock().lock();
+        try {
+            return userCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public long ratingCount() {
+        lock.readLock().lock();
+        try {
+            return ratingCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 평점 하나가 바뀌면 그 도서의 목록은 새로 계산하고, 같은 사용자가 평가한 도서들의 목록에서는 이 도서 항목만 고친다
+    // 이 도서의 노름 변화는 다른 사용자만 겹친 도서들의 점수에도 영향을 주지만 그건 주기적 rebuild에서 맞춘다
+    private void refresh(int item, int user) {
+        if (updateScratch.capacity() < itemCount) {
+            updateScratch = new Scratch(itemCount);
+        }
+        neighbors[item] = computeNeighbors(item, updateScratch);
+        
+        SparseRow rated = users[user];
+        for (int p = 0; p < rated.size; p++) {
+            int other = rated.indexes[p];
+            if (other != item) {
+                neighbors[other] = neighbors[other].with(item, similarity(item, other), topK);
+            }
+        }
+    }
+    
+    private Neighbors computeNeighbors(int item, Scratch scratch) {
+        SparseRow row = items[item];
+        float[] dot = scratch.dot;
+        int[] coRaters = scratch.coRaters;
+        int[] touched = scratch.touched;
+        int touchedCount = 0;
+        
+        for (int p = 0; p < row.size; p++) {
+            float rating = row.values[p];
+            SparseRow rated = users[row.indexes[p]];
+            for (int q = 0; q < rated.size; q++) {
+                int other = rated.indexes[q];
+                if (other == item) {
+                    continue;
+                }
+                if (coRaters[other] == 0) {
+                    touched[touchedCount++] = other;
+                }
+                dot[other] += rating * rated.values[q];
+                coRaters[other]++;
+            }
+        }
+        
+        TopK top = new TopK(topK);
+        double norm = itemSquaredNorms[item];
+        for (int t = 0; t < touchedCount; t++) {
+            int other = touched[t];
+            top.offer(other, score(dot[other], norm, itemSquaredNorms[other], coRaters[other]));
+            dot[other] = 0f;
+            coRaters[other] = 0;
+        }
+        return top.toNeighbors();
+    }
+    
+    // 두 도서 행을 병합해 내적과 함께 평가한 사용자 수를 구한다
+    private float similarity(int left, int right) {
+        SparseRow a = items[left];
+        SparseRow b = items[right];
+        double dot = 0;
+        int coRaters = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            int difference = Integer.compare(a.indexes[i], b.indexes[j]);
+            if (difference == 0) {
+                dot += (double) a.values[i++] * b.values[j++];
+                coRaters++;
+            } else if (difference < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return score(dot, itemSquaredNorms[left], itemSquaredNorms[right], coRaters);
+    }
+    
+    private float score(double dot, double leftNorm, double rightNorm, int coRaters) {
+        if (coRaters == 0 || leftNorm <= 0 || rightNorm <= 0) {
+            return 0f;
+        }
+        double cosine = dot / Math.sqrt(leftNorm * rightNorm);
+        return (float) (cosine * coRaters / (coRaters + shrinkage));
+    }
+    
+    private int itemIndex(long bookId) {
+        int item = itemByBookId.get(bookId);
+        if (item != LongIntHashMap.MISSING) {
+            return item;
+        }
+        item = itemCount++;
+        if (item == bookIds.length) {
+            int capacity = item * 2;
+            bookIds = Arrays.copyOf(bookIds, capacity);
+            items = Arrays.copyOf(items, capacity);
+            itemSquaredNorms = Arrays.copyOf(itemSquaredNorms, capacity);
+            neighbors = Arrays.copyOf(neighbors, capacity);
+        }
+        bookIds[item] = bookId;
+        items[item] = new SparseRow();
+        neighbors[item] = Neighbors.EMPTY;
+        itemByBookId.put(bookId, item);
+        return item;
+    }
+    
+    private int userIndex(long userId) {
+        int user = userByUserId.get(userId);
+        if (user != LongIntHashMap.MISSING) {
+            return user;
+        }
+        user = userCount++;
+        if (user == users.length) {
+            users = Arrays.copyOf(users, user * 2);
+        }
+        users[user] = new SparseRow();
+        userByUserId.put(userId, user);
+        return user;
+    }
+    
+    private class RebuildTask extends RecursiveAction {
+        
+        private final int from;
+        private final int to;
+        private final int threshold;
+        
+        RebuildTask(int from, int to, int threshold) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RebuildTask(from, middle, threshold), new RebuildTask(middle, to, threshold));
+                return;
+            }
+            lock.readLock().lock();
+            try {
+                Scratch scratch = new Scratch(itemCount);
+                for (int item = from; item < to; item++) {
+                    // 구간마다 잠금이 다르므로 이 구간의 도서 목록은 다른 구간이 건드리지 않는다
+                    neighbors[item] = computeNeighbors(item, scratch);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+    
+    // 한 도서를 계산할 때 도서 번호별로 내적과 동시 평가자 수를 모으는 작업 배열, 다 쓰면 건드린 칸만 0으로 되돌린다
+    private static final class Scratch {
+        
+        final float[] dot;
+        final int[] coRaters;
+        final int[] touched;
+        
+        Scratch(int capacity) {
+            dot = new float[capacity];
+            coRaters = new int[capacity];
+            touched = new int[capacity];
+        }
+        
+        int capacity() {
+            return dot.length;
+        }
+    }
+    
+    // 점수 내림차순으로 정렬된 유사 도서 목록, 교체만 하고 고치지 않으므로 잠금 없이 넘겨도 찢어지지 않는다
+    static final class Neighbors {
+        
+        static final Neighbors EMPTY = new Neighbors(new int[0], new float[0]);
+        
+        final int[] items;
+        final float[] scores;
+        
+        Neighbors(int[] items, float[] scores) {
+            this.items = items;
+            this.scores = scores;
+        }
+        
+        // item의 점수를 score로 바꾼 새 목록, 0 이하면 빼고 k개를 넘으면 꼴찌를 버린다
+        Neighbors with(int item, float score, int k) {
+            int[] nextItems = new int[Math.min(items.length + 1, k)];
+            float[] nextScores = new float[nextItems.length];
+            int size = 0;
+            boolean inserted = score <= 0f;
+            for (int i = 0; i < items.length && size < nextItems.length; i++) {
+                if (items[i] == item) {
+                    continue;
+                }
+                if (!inserted && score > scores[i]) {
+                    nextItems[size] = item;
+                    nextScores[size++] = score;
+                    inserted = true;
+                    if (size == nextItems.length) {
+                        break;
+                    }
+                }
+                nextItems[size] = items[i];
+                nextScores[size++] = scores[i];
+            }
+            if (!inserted && size < nextItems.length) {
+                nextItems[size] = item;
+                nextScores[size++] = score;
+            }
+            return size == nextItems.length
+                    ? new Neighbors(nextItems, nextScores)
+                    : new Neighbors(Arrays.copyOf(nextItems, size), Arrays.copyOf(nextScores, size));
+        }
+    }
+    
+    // 점수 기준 최소 힙으로 상위 k개만 유지한다
+    private static final class TopK {
+        
+        private final int[] items;
+        private final float[] scores;
+        private int size;
+        
+        TopK(int k) {
+            items = new int[k];
+            scores = new float[k];
+        }
+        
+        void offer(int item, float score) {
+            if (score <= 0f || items.length == 0) {
+                return;
+            }
+            if (size < items.length) {
+                items[size] = item;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                items[0] = item;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+        
+        Neighbors toNeighbors() {
+            // 힙에서 최솟값을 하나씩 빼 뒤에서부터 채우면 내림차순이 된다
+            int[] sortedItems = new int[size];
+            float[] sortedScores = new float[size];
+            for (int i = size - 1; i >= 0; i--) {
+                sortedItems[i] = items[0];
+                sortedScores[i] = scores[0];
+                size--;
+                items[0] = items[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return new Neighbors(sortedItems, sortedScores);
+        }
+        
+        private void siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (scores[parent] <= scores[position]) {
+                    return;
+                }
+                swap(parent, position);
+                position = parent;
+            }
+        }
+        
+        private void siftDown(int position) {
+            while (true) {
+                int smallest = position;
+                int left = position * 2 + 1;
+                int right = left + 1;
+                if (left < size && scores[left] < scores[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && scores[right] < scores[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == position) {
+                    return;
+                }
+                swap(smallest, position);
+                position = smallest;
+            }
+        }
+        
+        private void swap(int a, int b) {
+            int item = items[a];
+            items[a] = items[b];
+            items[b] = item;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.bookllm.domain.recommendation.similarity;
+
+import com.bookllm.domain.review.dto.ReviewRatingRow;
+import com.bookllm.domain.review.event.ReviewRatingChangedEvent;
+import com.bookllm.domain.review.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 기동 후 리뷰 평점을 id 키셋 배치로 읽어 행렬을 만들고 전체 유사도를 계산한 뒤, 이후에는 평점 이벤트로 증분 반영한다
+// 적재 중에 들어온 이벤트는 모아 두었다가 적재가 끝나면 순서대로 다시 적용한다
+@Slf4j
+@Component
+public class ItemSimilarityIndexer {
+    
+    private final ReviewRepository reviewRepository;
+    private final ItemSimilarityProperties properties;
+    private final ItemSimilarityIndex index;
+    private final ForkJoinPool pool;
+    
+    private final Queue<ReviewRatingChangedEvent> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private volatile boolean loaded;
+    private volatile boolean ready;
+    
+    public ItemSimilarityIndexer(ReviewRepository reviewRepository, ItemSimilarityProperties properties) {
+        this.reviewRepository = reviewRepository;
+        this.properties = properties;
+        this.index = new ItemSimilarityIndex(properties.getTopK(), properties.getShrinkage());
+        this.pool = properties.getParallelism() > 0
+                ? new ForkJoinPool(properties.getParallelism())
+                : ForkJoinPool.commonPool();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Thread.ofVirtual().name("item-similarity-index").start(this::build);
+    }
+    
+    void build() {
+        long started = System.currentTimeMillis();
+        Limit limit = Limit.of(properties.getBuildBatchSize());
+        long afterId = 0L;
+        try {
+            while (true) {
+                List<ReviewRatingRow> rows = reviewRepository.findRatingsAfter(afterId, limit);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                for (ReviewRatingRow row : rows) {
+                    if (row.rating() != null) {
+                        index.load(row.userId(), row.bookId(), row.rating().floatValue());
+                    }
+                }
+                afterId = rows.get(rows.size() - 1).id();
+            }
+            index.finishLoad();
+            pendingLock.lock();
+            try {
+                loaded = true;
+                drainPending();
+            } finally {
+                pendingLock.unlock();
+            }
+            index.rebuild(pool);
+            ready = true;
+            log.info("유사 도서 행렬 구축 완료: 도서 {}권, 사용자 {}명, 평점 {}건, {}ms",
+                    index.itemCount(), index.userCount(), index.ratingCount(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("유사 도서 행렬 구축 실패", e);
+        }
+    }
+    
+    // 증분 갱신은 바뀐 평점과 직접 얽힌 점수만 고치므로 쌓인 오차를 주기적으로 전체 재계산해 없앤다
+    @Scheduled(fixedDelayString = "${recommendation.item-similarity.rebuild-interval-ms:3600000}",
+               initialDelayString = "${recommendation.item-similarity.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!ready) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        index.rebuild(pool);
+        log.info("유사 도서 전체 재계산 완료: 도서 {}권, {}ms", index.itemCount(), System.currentTimeMillis() - started);
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRatingChanged(ReviewRatingChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!loaded) {
+            pendingLock.lock();
+            try {
+                if (!loaded) {
+                    pending.add(event);
+                    return;
+                }
+            } finally {
+                pendingLock.unlock();
+            }
+        }
+        apply(event);
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public List<SimilarItem> similar(long bookId, int limit) {
+        return index.similar(bookId, limit);
+    }
+    
+    private void drainPending() {
+        ReviewRatingChangedEvent event;
+        while ((event = pending.poll()) != null) {
+            apply(event);
+        }
+    }
+    
+    private void apply(ReviewRatingChangedEvent event) {
+        if (event.removed()) {
+            index.remove(event.userId(), event.bookId());
+        } else if (event.rating() != null) {
+            index.put(event.userId(), event.bookId(), event.rating().floatValue());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.bookllm.domain.recommendation.similarity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommendation.item-similarity")
+public class ItemSimilarityProperties {
+    
+    // 끄면 행렬을 만들지 않고 유사 도서 조회는 빈 목록을 돌려준다
+    private boolean enabled = true;
+    
+    // 도서마다 보관할 유사 도서 수
+    private int topK = 50;
+    
+    // 함께 평가한 사용자가 적은 쌍의 점수를 깎는 정도 (n / (n + shrinkage))
+    private double shrinkage = 5.0;
+    
+    // 기동 시 리뷰 평점을 한 번에 읽을 행 수
+    private int buildBatchSize = 10_000;
+    
+    // 전체 재계산 병렬도, 0이면 CPU 코어 수
+    private int parallelism = 0;
+}
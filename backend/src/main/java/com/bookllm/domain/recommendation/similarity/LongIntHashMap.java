@@ -0,0 +1,82 @@
+package com.bookllm.domain.recommendation.similarity;
+
+// long -> int 오픈 어드레싱 맵, HashMap<Long, Integer>의 박싱/엔트리 객체 없이 id를 행렬 번호로 바꾼다
+// 키 0은 빈 칸 표시로 쓰므로 넣을 수 없다 (엔티티 id는 1부터 시작)
+public final class LongIntHashMap {
+    
+    public static final int MISSING = -1;
+    
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    
+    public LongIntHashMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(expected * 2, 16) - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+    
+    public int get(long key) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+    
+    public void put(long key, int value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+    
+    private int slot(long key) {
+        // 연속된 id가 한쪽에 몰리지 않도록 섞는다 (fmix64)
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
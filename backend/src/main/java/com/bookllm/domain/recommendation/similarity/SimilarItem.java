@@ -0,0 +1,4 @@
+package com.bookllm.domain.recommendation.similarity;
+
+public record SimilarItem(long bookId, double score) {
+}
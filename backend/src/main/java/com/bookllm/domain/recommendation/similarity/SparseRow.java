@@ -0,0 +1,100 @@
+package com.bookllm.domain.recommendation.similarity;
+
+import java.util.Arrays;
+
+// 희소 행렬의 한 행, 열 번호 오름차순 int[]와 값 float[]를 나란히 둔다
+// 정렬되어 있으므로 두 행의 내적은 병합 한 번으로 구할 수 있다
+final class SparseRow {
+    
+    private static final int[] EMPTY_INDEXES = new int[0];
+    private static final float[] EMPTY_VALUES = new float[0];
+    
+    int[] indexes = EMPTY_INDEXES;
+    float[] values = EMPTY_VALUES;
+    int size;
+    
+    // 이전 값을 돌려준다, 없었으면 NaN
+    float put(int index, float value) {
+        int position = Arrays.binarySearch(indexes, 0, size, index);
+        if (position >= 0) {
+            float previous = values[position];
+            values[position] = value;
+            return previous;
+        }
+        int insertAt = -position - 1;
+        if (size == indexes.length) {
+            int capacity = Math.max(4, size + (size >> 1));
+            indexes = Arrays.copyOf(indexes, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(indexes, insertAt, indexes, insertAt + 1, size - insertAt);
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        indexes[insertAt] = index;
+        values[insertAt] = value;
+        size++;
+        return Float.NaN;
+    }
+    
+    // 지운 값을 돌려준다, 없었으면 NaN
+    float remove(int index) {
+        int position = Arrays.binarySearch(indexes, 0, size, index);
+        if (position < 0) {
+            return Float.NaN;
+        }
+        float previous = values[position];
+        System.arraycopy(indexes, position + 1, indexes, position, size - position - 1);
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+        return previous;
+    }
+    
+    // 초기 적재는 정렬 없이 붙이고 마지막에 한 번 정렬한다
+    void append(int index, float value) {
+        if (size == indexes.length) {
+            int capacity = Math.max(4, size + (size >> 1));
+            indexes = Arrays.copyOf(indexes, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        indexes[size] = index;
+        values[size] = value;
+        size++;
+    }
+    
+    // append 후 정렬, 같은 열이 여러 번 들어왔으면 마지막 값만 남긴다
+    void sortAndDedupe() {
+        if (size < 2) {
+            return;
+        }
+        long[] packed = new long[size];
+        for (int i = 0; i < size; i++) {
+            // 상위 32비트는 열 번호, 하위 32비트는 입력 순서 (안정 정렬 대신)
+            packed[i] = ((long) indexes[i] << 32) | i;
+        }
+        Arrays.sort(packed);
+        int[] sortedIndexes = new int[size];
+        float[] sortedValues = new float[size];
+        int count = 0;
+        for (long entry : packed) {
+            int index = (int) (entry >>> 32);
+            float value = values[(int) entry];
+            if (count > 0 && sortedIndexes[count - 1] == index) {
+                sortedValues[count - 1] = value;
+            } else {
+                sortedIndexes[count] = index;
+                sortedValues[count] = value;
+                count++;
+            }
+        }
+        indexes = sortedIndexes;
+        values = sortedValues;
+        size = count;
+    }
+    
+    double squaredNorm() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += (double) values[i] * values[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,406 @@
+package com.bookllm.domain.recommendation.vector;
+
+import com.bookllm.domain.recommendation.similarity.LongIntHashMap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// HNSW(계층형 탐색 가능 작은 세상 그래프) 근사 최근접 이웃 색인
+// 벡터는 정규화되어 있다고 보고 내적을 유사도로 쓴다, 벡터 자체는 VectorStore(힙 밖)에 두고 그래프만 힙에 둔다
+// 같은 id를 다시 넣으면 이전 노드는 삭제 표시만 하고(길 찾기에는 계속 쓰인다) 새 노드를 붙인다
+// 삽입은 쓰기 잠금으로 한 번에 하나씩, 검색은 읽기 잠금으로 동시에 한다
+class HnswIndex implements Closeable {
+    
+    private static final int MAGIC = 0x484E5357;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_LEVEL = 16;
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private final VectorStore vectors;
+    private final int dimension;
+    private final int m;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    // 층 배정만 무작위이고 시드를 고정해 같은 입력이면 같은 그래프가 된다
+    private final SplittableRandom random = new SplittableRandom(42);
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final LongIntHashMap nodeById = new LongIntHashMap(INITIAL_CAPACITY);
+    private final BitSet deleted = new BitSet();
+    private long[] ids = new long[INITIAL_CAPACITY];
+    // 노드 -> 층 -> [이웃 수, 이웃1, 이웃2, ...]
+    private int[][][] links = new int[INITIAL_CAPACITY][][];
+    private int count;
+    private int liveCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    // 색인에 넣은 가장 큰 원본 id, 재시작 후 이 id 이후만 따라잡는다
+    private long maxSourceId;
+    
+    HnswIndex(VectorStore vectors, int m, int efConstruction) {
+        this.vectors = vectors;
+        this.dimension = vectors.dimension();
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1.0 / Math.log(m);
+    }
+    
+    void add(long id, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("vector dimension " + vector.length + " != " + dimension);
+        }
+        lock.writeLock().lock();
+        try {
+            int previous = nodeById.get(id);
+            if (previous != LongIntHashMap.MISSING && !deleted.get(previous)) {
+                deleted.set(previous);
+                liveCount--;
+            }
+            
+            int node = count++;
+            if (node == ids.length) {
+                ids = Arrays.copyOf(ids, node * 2);
+                links = Arrays.copyOf(links, node * 2);
+            }
+            ids[node] = id;
+            vectors.set(node, vector);
+            int level = randomLevel();
+            links[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                links[node][l] = new int[1 + maxLinks(l)];
+            }
+            nodeById.put(id, node);
+            liveCount++;
+            maxSourceId = Math.max(maxSourceId, id);
+            
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                return;
+            }
+            
+            int current = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                current = greedyClosest(vector, current, l);
+            }
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                List<Candidate> candidates = searchLayer(vector, current, efConstruction, l);
+                for (int i = 0; i < Math.min(m, candidates.size()); i++) {
+                    int neighbor = candidates.get(i).node();
+                    connect(node, neighbor, l);
+                    connect(neighbor, node, l);
+                }
+                current = candidates.get(0).node();
+            }
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = node;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int node = nodeById.get(id);
+            if (node != LongIntHashMap.MISSING && !deleted.get(node)) {
+                deleted.set(node);
+                liveCount--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // 삭제 표시된 노드와 excludeId는 결과에서 빼고 유사도 내림차순으로 k개
+    List<VectorHit> search(float[] query, int k, int efSearch, long excludeId) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+            int current = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                current = greedyClosest(query, current, l);
+            }
+            List<Candidate> candidates = searchLayer(query, current, Math.max(efSearch, k + 1), 0);
+            List<VectorHit> hits = new ArrayList<>(k);
+            for (Candidate candidate : candidates) {
+                long id = ids[candidate.node()];
+                if (deleted.get(candidate.node()) || id == excludeId) {
+                    continue;
+                }
+                hits.add(new VectorHit(id, candidate.score()));
+                if (hits.size() == k) {
+                    break;
+                }
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 살아 있는 노드의 벡터 사본, 없으면 null
+    float[] vectorOf(long id) {
+        lock.readLock().lock();
+        try {
+            int node = nodeById.get(id);
+            if (node == LongIntHashMap.MISSING || deleted.get(node)) {
+                return null;
+            }
+            return vectors.get(node);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    long maxSourceId() {
+        lock.readLock().lock();
+        try {
+            return maxSourceId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 벡터 파일을 디스크에 내리고 그래프를 임시 파일에 쓴 뒤 바꿔치기한다 (쓰다 죽어도 이전 파일은 남는다)
+    void save(Path graphFile) throws IOException {
+        Path temp = graphFile.resolveSibling(graphFile.getFileName() + ".tmp");
+        lock.readLock().lock();
+        try {
+            vectors.flush();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(dimension);
+                out.writeInt(m);
+                out.writeInt(count);
+                out.writeInt(entryPoint);
+                out.writeInt(maxLevel);
+                out.writeLong(maxSourceId);
+                for (int node = 0; node < count; node++) {
+                    out.writeLong(ids[node]);
+                    out.writeBoolean(deleted.get(node));
+                    out.writeByte(links[node].length);
+                    for (int[] level : links[node]) {
+                        out.writeShort(level[0]);
+                        for (int i = 1; i <= level[0]; i++) {
+                            out.writeInt(level[i]);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(temp, graphFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    // 저장된 그래프를 읽는다, 차원/파라미터가 다르거나 벡터 파일이 모자라면 null (새로 만들어야 한다)
+    static HnswIndex load(Path graphFile, VectorStore vectors, int m, int efConstruction) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(graphFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION
+                    || in.readInt() != vectors.dimension() || in.readInt() != m) {
+                return null;
+            }
+            int count = in.readInt();
+            if (vectors.storedCapacity() < count) {
+                return null;
+            }
+            HnswIndex index = new HnswIndex(vectors, m, efConstruction);
+            index.entryPoint = in.readInt();
+            index.maxLevel = in.readInt();
+            index.maxSourceId = in.readLong();
+            index.ids = new long[Math.max(INITIAL_CAPACITY, count)];
+            index.links = new int[Math.max(INITIAL_CAPACITY, count)][][];
+            for (int node = 0; node < count; node++) {
+                long id = in.readLong();
+                boolean removed = in.readBoolean();
+                int levels = in.readByte();
+                int[][] nodeLinks = new int[levels][];
+                for (int l = 0; l < levels; l++) {
+                    int size = in.readShort();
+                    nodeLinks[l] = new int[1 + index.maxLinks(l)];
+                    nodeLinks[l][0] = size;
+                    for (int i = 1; i <= size; i++) {
+                        nodeLinks[l][i] = in.readInt();
+                    }
+                }
+                index.ids[node] = id;
+                index.links[node] = nodeLinks;
+                if (removed) {
+                    index.deleted.set(node);
+                } else {
+                    index.nodeById.put(id, node);
+                    index.liveCount++;
+                }
+            }
+            index.count = count;
+            vectors.ensureCapacity(count);
+            return index;
+        }
+    }
+    
+    @Override
+    public void close() {
+        vectors.close();
+    }
+    
+    private int maxLinks(int level) {
+        // 0층은 모든 노드가 있으므로 이웃을 두 배까지 허용한다
+        return level == 0 ? m * 2 : m;
+    }
+    
+    private int randomLevel() {
+        return Math.min(MAX_LEVEL, (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier));
+    }
+    
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = vectors.dot(current, query);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] neighbors = links[current][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                float score = vectors.dot(neighbors[i], query);
+                if (score > best) {
+                    best = score;
+                    current = neighbors[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+    
+    // 한 층에서 ef개 후보를 넓혀 가며 찾는다, 결과는 유사도 내림차순
+    private List<Candidate> searchLayer(float[] query, int start, int ef, int level) {
+        VisitedSet visited = new VisitedSet();
+        visited.add(start);
+        Candidate first = new Candidate(start, vectors.dot(start, query));
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score).reversed());
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score));
+        frontier.add(first);
+        results.add(first);
+        
+        while (!frontier.isEmpty()) {
+            Candidate closest = frontier.poll();
+            if (results.size() >= ef && closest.score() < results.peek().score()) {
+                break;
+            }
+            int[] neighbors = links[closest.node()][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                float score = vectors.dot(neighbor, query);
+                if (results.size() < ef || score > results.peek().score()) {
+                    Candidate candidate = new Candidate(neighbor, score);
+                    frontier.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        return sorted;
+    }
+    
+    // 이웃 목록이 차면 기존 이웃과 새 이웃 중 from에 가장 가까운 것들만 남긴다
+    private void connect(int from, int to, int level) {
+        int[] neighbors = links[from][level];
+        int size = neighbors[0];
+        if (size < neighbors.length - 1) {
+            neighbors[size + 1] = to;
+            neighbors[0] = size + 1;
+            return;
+        }
+        float[] origin = vectors.get(from);
+        Candidate[] all = new Candidate[size + 1];
+        for (int i = 0; i < size; i++) {
+            all[i] = new Candidate(neighbors[i + 1], vectors.dot(neighbors[i + 1], origin));
+        }
+        all[size] = new Candidate(to, vectors.dot(to, origin));
+        Arrays.sort(all, Comparator.comparingDouble(Candidate::score).reversed());
+        for (int i = 0; i < size; i++) {
+            neighbors[i + 1] = all[i].node();
+        }
+    }
+    
+    private record Candidate(int node, float score) {
+    }
+    
+    // 한 번의 탐색에서 방문한 노드 번호 (열린 주소법), 검색이 동시에 돌므로 탐색마다 새로 만든다
+    private static final class VisitedSet {
+        
+        private int[] slots = new int[256];
+        private int size;
+        
+        VisitedSet() {
+            Arrays.fill(slots, -1);
+        }
+        
+        boolean add(int node) {
+            if ((size + 1) * 2 > slots.length) {
+                grow();
+            }
+            int mask = slots.length - 1;
+            int slot = (node * 0x9E3779B9) >>> 1 & mask;
+            while (slots[slot] != -1) {
+                if (slots[slot] == node) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = node;
+            size++;
+            return true;
+        }
+        
+        private void grow() {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            Arrays.fill(slots, -1);
+            size = 0;
+            for (int node : old) {
+                if (node != -1) {
+                    add(node);
+                }
+            }
+        }
+    }
+}
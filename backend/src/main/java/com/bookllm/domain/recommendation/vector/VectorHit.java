@@ -0,0 +1,4 @@
+package com.bookllm.domain.recommendation.vector;
+
+public record VectorHit(long id, float score) {
+}
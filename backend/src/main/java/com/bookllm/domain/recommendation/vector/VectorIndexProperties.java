@@ -0,0 +1,29 @@
+package com.bookllm.domain.recommendation.vector;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vector-index")
+public class VectorIndexProperties {
+    
+    // 끄면 색인을 만들지 않고 의미 기반 유사 조회는 빈 목록을 돌려준다
+    private boolean enabled = true;
+    
+    // 벡터(메모리 맵)와 그래프를 저장할 디렉터리, 비우면 힙 밖 메모리에만 두고 재시작 때마다 새로 만든다
+    private String directory;
+    
+    // 노드당 이웃 수 (0층은 두 배)
+    private int m = 16;
+    
+    // 삽입 시 후보 폭, 클수록 그래프 품질이 좋고 구축이 느리다
+    private int efConstruction = 100;
+    
+    // 검색 시 후보 폭, 클수록 재현율이 높고 느리다
+    private int efSearch = 64;
+    
+    // 기동 시 도서/리뷰를 한 번에 읽을 행 수
+    private int buildBatchSize = 1000;
+}
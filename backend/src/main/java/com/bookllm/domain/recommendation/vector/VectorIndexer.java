@@ -0,0 +1,230 @@
+package com.bookllm.domain.recommendation.vector;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.event.BookSavedEvent;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.domain.review.dto.ReviewContentRow;
+import com.bookllm.domain.review.event.ReviewDeletedEvent;
+import com.bookllm.domain.review.event.ReviewSavedEvent;
+import com.bookllm.domain.review.repository.ReviewRepository;
+import com.bookllm.infrastructure.embedding.Embedder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 도서(제목/저자/장르/설명)와 리뷰 본문의 임베딩으로 HNSW 색인 두 개를 유지한다
+// 기동 시 저장해 둔 색인이 있으면 그대로 열고 마지막으로 넣은 id 이후만 따라잡는다 (없으면 처음부터 구축)
+// 이후에는 저장/삭제 이벤트로 증분 반영하고, 주기적으로 그리고 종료 시 디스크에 남긴다
+// 서버가 내려가 있는 동안의 수정/삭제는 따라잡지 못하므로, 조회 결과는 DB에서 다시 읽어 없어진 행을 거른다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VectorIndexer {
+    
+    private static final String BOOKS = "books";
+    private static final String REVIEWS = "reviews";
+    
+    private final BookRepository bookRepository;
+    private final ReviewRepository reviewRepository;
+    private final Embedder embedder;
+    private final VectorIndexProperties properties;
+    
+    private volatile HnswIndex books;
+    private volatile HnswIndex reviews;
+    private volatile boolean ready;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // 파일을 여는 것까지는 바로 해 두어야 이후 이벤트가 유실되지 않는다
+        books = open(BOOKS);
+        reviews = open(REVIEWS);
+        // 따라잡기 시작점은 이벤트가 더 큰 id를 넣기 전에 잡아 둔다
+        long bookWatermark = books.maxSourceId();
+        long reviewWatermark = reviews.maxSourceId();
+        Thread.ofVirtual().name("vector-index").start(() -> build(bookWatermark, reviewWatermark));
+    }
+    
+    void build(long bookWatermark, long reviewWatermark) {
+        long started = System.currentTimeMillis();
+        try {
+            catchUpBooks(bookWatermark);
+            catchUpReviews(reviewWatermark);
+            ready = true;
+            log.info("벡터 색인 준비 완료: 도서 {}건, 리뷰 {}건, {}ms",
+                    books.size(), reviews.size(), System.currentTimeMillis() - started);
+            save();
+        } catch (Exception e) {
+            log.error("벡터 색인 구축 실패", e);
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        HnswIndex index = books;
+        if (index != null) {
+            index.add(event.bookId(), embedder.embed(bookText(event.title(), event.author(), event.genre(), event.description())));
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewSaved(ReviewSavedEvent event) {
+        HnswIndex index = reviews;
+        if (index != null) {
+            index.add(event.reviewId(), embedder.embed(event.content()));
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        HnswIndex index = reviews;
+        if (index != null) {
+            index.remove(event.reviewId());
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public List<VectorHit> similarBooks(long bookId, int limit) {
+        return similar(books, bookId, limit);
+    }
+    
+    public List<VectorHit> similarReviews(long reviewId, int limit) {
+        return similar(reviews, reviewId, limit);
+    }
+    
+    // 도서 벡터와 임의 텍스트(추천 도서의 제목/저자/이유 등)의 코사인 유사도, 색인에 없는 도서면 null
+    public Double similarityToBook(long bookId, String text) {
+        HnswIndex index = books;
+        float[] vector = index == null ? null : index.vectorOf(bookId);
+        if (vector == null) {
+            return null;
+        }
+        float[] other = embedder.embed(text);
+        double dot = 0;
+        for (int i = 0; i < vector.length; i++) {
+            dot += vector[i] * other[i];
+        }
+        return Math.max(0.0, dot);
+    }
+    
+    @Scheduled(fixedDelayString = "${vector-index.save-interval-ms:600000}",
+               initialDelayString = "${vector-index.save-interval-ms:600000}")
+    public void save() {
+        if (!ready || properties.getDirectory() == null) {
+            return;
+        }
+        try {
+            books.save(graphFile(BOOKS));
+            reviews.save(graphFile(REVIEWS));
+        } catch (IOException e) {
+            log.warn("벡터 색인 저장 실패: {}", e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void close() {
+        save();
+        Stream.of(books, reviews).filter(Objects::nonNull).forEach(HnswIndex::close);
+    }
+    
+    private List<VectorHit> similar(HnswIndex index, long id, int limit) {
+        if (!ready) {
+            return List.of();
+        }
+        float[] vector = index.vectorOf(id);
+        if (vector == null) {
+            return List.of();
+        }
+        return index.search(vector, limit, properties.getEfSearch(), id);
+    }
+    
+    private void catchUpBooks(long afterId) {
+        Limit limit = Limit.of(properties.getBuildBatchSize());
+        while (true) {
+            List<Book> batch = bookRepository.findBatchAfter(afterId, limit);
+            if (batch.isEmpty()) {
+                return;
+            }
+            for (Book book : batch) {
+                books.add(book.getId(), embedder.embed(bookText(book.getTitle(), book.getAuthor(), book.getGenre(), book.getDescription())));
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+    }
+    
+    private void catchUpReviews(long afterId) {
+        Limit limit = Limit.of(properties.getBuildBatchSize());
+        while (true) {
+            List<ReviewContentRow> batch = reviewRepository.findContentsAfter(afterId, limit);
+            if (batch.isEmpty()) {
+                return;
+            }
+            for (ReviewContentRow row : batch) {
+                reviews.add(row.id(), embedder.embed(row.content()));
+            }
+            afterId = batch.get(batch.size() - 1).id();
+        }
+    }
+    
+    private HnswIndex open(String name) {
+        int dimension = embedder.dimension();
+        if (properties.getDirectory() == null) {
+            return new HnswIndex(VectorStore.offHeap(dimension), properties.getM(), properties.getEfConstruction());
+        }
+        try {
+            Files.createDirectories(Path.of(properties.getDirectory()));
+            Path graph = graphFile(name);
+            Path vectorFile = Path.of(properties.getDirectory(), name + ".vectors");
+            if (Files.exists(graph)) {
+                VectorStore store = VectorStore.mapped(dimension, vectorFile);
+                try {
+                    HnswIndex loaded = HnswIndex.load(graph, store, properties.getM(), properties.getEfConstruction());
+                    if (loaded != null) {
+                        log.info("저장된 벡터 색인을 열었습니다: {} {}건", name, loaded.size());
+                        return loaded;
+                    }
+                    log.info("저장된 벡터 색인의 차원/파라미터가 달라 새로 만듭니다: {}", name);
+                } catch (IOException e) {
+                    log.warn("저장된 벡터 색인을 읽지 못해 새로 만듭니다: {} - {}", name, e.getMessage());
+                }
+                store.close();
+            }
+            Files.deleteIfExists(graph);
+            Files.deleteIfExists(vectorFile);
+            return new HnswIndex(VectorStore.mapped(dimension, vectorFile), properties.getM(), properties.getEfConstruction());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private Path graphFile(String name) {
+        return Path.of(properties.getDirectory(), name + ".hnsw");
+    }
+    
+    private static String bookText(String title, String author, String genre, String description) {
+        return Stream.of(title, author, genre, description)
+                .filter(part -> part != null && !part.isBlank())
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,128 @@
+package com.bookllm.domain.recommendation.vector;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// 고정 차원 float 벡터를 힙 밖에 둔다, 파일을 주면 메모리 맵(재시작 시 그대로 다시 연다), 없으면 direct 버퍼
+// 한 번에 크게 잡지 않고 세그먼트 단위(약 64MB)로 늘리므로 파일/버퍼를 통째로 다시 복사할 일이 없다
+// 읽기는 절대 위치 get만 쓰므로 여러 스레드가 동시에 읽어도 되고, 쓰기는 호출하는 쪽이 직렬화한다
+final class VectorStore implements Closeable {
+    
+    private static final long SEGMENT_BYTES = 64L << 20;
+    
+    private final int dimension;
+    private final int vectorsPerSegment;
+    private final FileChannel channel;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final List<FloatBuffer> views = new ArrayList<>();
+    
+    private VectorStore(int dimension, FileChannel channel) {
+        this.dimension = dimension;
+        this.vectorsPerSegment = (int) Math.max(1, SEGMENT_BYTES / (dimension * (long) Float.BYTES));
+        this.channel = channel;
+    }
+    
+    static VectorStore offHeap(int dimension) {
+        return new VectorStore(dimension, null);
+    }
+    
+    static VectorStore mapped(int dimension, Path file) {
+        try {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new VectorStore(dimension, channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    int dimension() {
+        return dimension;
+    }
+    
+    // 파일 크기로 본 저장 가능한 벡터 수, 재시작 시 그래프 파일의 노드 수보다 작으면 파일이 잘린 것
+    long storedCapacity() {
+        try {
+            return channel == null ? 0 : channel.size() / ((long) dimension * Float.BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    void set(int node, float[] vector) {
+        ensureCapacity(node + 1);
+        views.get(node / vectorsPerSegment).put(offset(node), vector, 0, dimension);
+    }
+    
+    float[] get(int node) {
+        float[] vector = new float[dimension];
+        views.get(node / vectorsPerSegment).get(offset(node), vector, 0, dimension);
+        return vector;
+    }
+    
+    // 복사 없이 버퍼에서 바로 내적
+    float dot(int node, float[] query) {
+        FloatBuffer view = views.get(node / vectorsPerSegment);
+        int base = offset(node);
+        float sum = 0f;
+        for (int i = 0; i < dimension; i++) {
+            sum += view.get(base + i) * query[i];
+        }
+        return sum;
+    }
+    
+    void flush() {
+        for (ByteBuffer segment : segments) {
+            if (segment instanceof MappedByteBuffer mapped) {
+                mapped.force();
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        flush();
+        segments.clear();
+        views.clear();
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+    
+    void ensureCapacity(int vectors) {
+        while ((long) segments.size() * vectorsPerSegment < vectors) {
+            long bytes = (long) vectorsPerSegment * dimension * Float.BYTES;
+            ByteBuffer segment;
+            if (channel == null) {
+                segment = ByteBuffer.allocateDirect((int) bytes);
+            } else {
+                try {
+                    segment = channel.map(FileChannel.MapMode.READ_WRITE, segments.size() * bytes, bytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+            segments.add(segment);
+            views.add(segment.asFloatBuffer());
+        }
+    }
+    
+    private int offset(int node) {
+        return (node % vectorsPerSegment) * dimension;
+    }
+}
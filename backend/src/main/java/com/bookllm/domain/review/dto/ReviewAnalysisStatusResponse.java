@@ -0,0 +1,43 @@
+package com.bookllm.domain.review.dto;
+
+import com.bookllm.domain.review.entity.AiAnalysisJob;
+import com.bookllm.domain.review.entity.AiAnalysisStatus;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.entity.ReviewAiAnalysis;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewAnalysisStatusResponse {
+    private Long reviewId;
+    private AiAnalysisStatus status;
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private String aiEmpathyMessage;
+    private String aiBookInsights;
+    private String aiEmotionAnalysis;
+    private String aiBookRecommendations;
+    private String aiPersonalizedInsight;
+    
+    public static ReviewAnalysisStatusResponse of(Review review, ReviewAiAnalysis analysis, AiAnalysisJob job) {
+        return ReviewAnalysisStatusResponse.builder()
+                .reviewId(review.getId())
+                .status(review.getAiAnalysisStatus())
+                .attempts(job != null ? job.getAttempts() : null)
+                .nextAttemptAt(job != null && review.getAiAnalysisStatus() == AiAnalysisStatus.PENDING
+                        ? job.getNextAttemptAt() : null)
+                .aiEmpathyMessage(analysis != null ? analysis.getEmpathyMessage() : null)
+                .aiBookInsights(analysis != null ? analysis.getBookInsights() : null)
+                .aiEmotionAnalysis(analysis != null ? analysis.getEmotionAnalysis() : null)
+                .aiBookRecommendations(analysis != null ? analysis.getBookRecommendations() : null)
+                .aiPersonalizedInsight(analysis != null ? analysis.getPersonalizedInsight() : null)
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package com.bookllm.domain.review.dto;
+
+// 벡터 색인 구축용 (리뷰 id, 본문)만 담은 프로젝션
+public record ReviewContentRow(Long id, String content) {
+}
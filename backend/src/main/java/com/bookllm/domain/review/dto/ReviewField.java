@@ -0,0 +1,74 @@
+package com.bookllm.domain.review.dto;
+
+import com.bookllm.global.exception.BusinessException;
+import com.bookllm.global.exception.ErrorCode;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// fields= 파라미터로 고를 수 있는 리뷰 필드 (ReviewResponse와 같은 이름)
+public enum ReviewField {
+    ID("id"),
+    USER_ID("userId"),
+    USER_NICKNAME("userNickname"),
+    BOOK_ID("bookId"),
+    BOOK_TITLE("bookTitle"),
+    BOOK_AUTHOR("bookAuthor"),
+    CONTENT("content"),
+    // 목록 화면용 앞부분 미리보기, SQL에서 잘라서 가져온다
+    CONTENT_SNIPPET("contentSnippet"),
+    RATING("rating"),
+    USER_EMOTION("userEmotion"),
+    AI_EMPATHY_MESSAGE("aiEmpathyMessage"),
+    AI_BOOK_INSIGHTS("aiBookInsights"),
+    AI_EMOTION_ANALYSIS("aiEmotionAnalysis"),
+    AI_BOOK_RECOMMENDATIONS("aiBookRecommendations"),
+    AI_PERSONALIZED_INSIGHT("aiPersonalizedInsight"),
+    AI_ANALYSIS_STATUS("aiAnalysisStatus"),
+    READING_DATE("readingDate"),
+    CREATED_AT("createdAt");
+    
+    public static final int SNIPPET_LENGTH = 100;
+    
+    private static final Map<String, ReviewField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toMap(ReviewField::getName, Function.identity()));
+    
+    private final String name;
+    
+    ReviewField(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    // "id,bookTitle,rating" -> 요청 순서를 유지한 필드 집합
+    public static Set<ReviewField> parse(String fields) {
+        Set<ReviewField> parsed = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            ReviewField field = BY_NAME.get(trimmed);
+            if (field == null) {
+                throw new BusinessException(ErrorCode.INVALID_FIELDS, "알 수 없는 필드입니다: " + trimmed);
+            }
+            parsed.add(field);
+        }
+        if (parsed.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_FIELDS);
+        }
+        return parsed;
+    }
+    
+    public static Set<ReviewField> all() {
+        return EnumSet.allOf(ReviewField.class);
+    }
+}
@@ -0,0 +1,5 @@
+package com.bookllm.domain.review.dto;
+
+// 협업 필터링 행렬 구축용 (리뷰 id, 사용자, 도서, 평점)만 담은 프로젝션
+public record ReviewRatingRow(Long id, Long userId, Long bookId, Double rating) {
+}
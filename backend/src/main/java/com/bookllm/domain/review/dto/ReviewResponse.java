@@ -1,6 +1,8 @@
 package com.bookllm.domain.review.dto;
 
+import com.bookllm.domain.review.entity.AiAnalysisStatus;
 import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.entity.ReviewAiAnalysis;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,10 +29,16 @@ public class ReviewResponse {
     private String aiEmotionAnalysis;
     private String aiBookRecommendations;
     private String aiPersonalizedInsight;
+    private AiAnalysisStatus aiAnalysisStatus;
     private LocalDateTime readingDate;
     private LocalDateTime createdAt;
     
+    // 목록용: AI 분석 본문 없이 리뷰 행만으로 구성
     public static ReviewResponse from(Review review) {
+        return from(review, null);
+    }
+    
+    public static ReviewResponse from(Review review, ReviewAiAnalysis analysis) {
         return ReviewResponse.builder()
                 .id(review.getId())
                 .userId(review.getUser().getId())
@@ -41,11 +49,12 @@ public class ReviewResponse {
                 .content(review.getContent())
                 .rating(review.getRating())
                 .userEmotion(review.getUserEmotion())
-                .aiEmpathyMessage(review.getAiEmpathyMessage())
-                .aiBookInsights(review.getAiBookInsights())
-                .aiEmotionAnalysis(review.getAiEmotionAnalysis())
-                .aiBookRecommendations(review.getAiBookRecommendations())
-                .aiPersonalizedInsight(review.getAiPersonalizedInsight())
+                .aiEmpathyMessage(analysis != null ? analysis.getEmpathyMessage() : null)
+                .aiBookInsights(analysis != null ? analysis.getBookInsights() : null)
+                .aiEmotionAnalysis(analysis != null ? analysis.getEmotionAnalysis() : null)
+                .aiBookRecommendations(analysis != null ? analysis.getBookRecommendations() : null)
+                .aiPersonalizedInsight(analysis != null ? analysis.getPersonalizedInsight() : null)
+                .aiAnalysisStatus(review.getAiAnalysisStatus())
                 .readingDate(review.getReadingDate())
                 .createdAt(review.getCreatedAt())
                 .build();
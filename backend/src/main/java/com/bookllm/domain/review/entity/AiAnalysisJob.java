@@ -0,0 +1,118 @@
+package com.bookllm.domain.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@Entity
+@Table(name = "ai_analysis_jobs", indexes = {
+        @Index(name = "idx_ai_analysis_jobs_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_ai_analysis_jobs_review_id", columnList = "review_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AiAnalysisJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private AiAnalysisJobStatus status = AiAnalysisJobStatus.PENDING;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+    
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    private LocalDateTime lockedUntil;
+    
+    @Column(length = 1000)
+    private String lastError;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    public static AiAnalysisJob of(Long reviewId) {
+        return AiAnalysisJob.builder()
+                .reviewId(reviewId)
+                .build();
+    }
+    
+    // 리스 만료 시각이 claim마다 달라 소유 확인에 쓰므로 컬럼 정밀도(DATETIME(6))에 맞춰 저장 후에도 같은 값이 되게 한다
+    public void markRunning(Duration lease) {
+        this.status = AiAnalysisJobStatus.RUNNING;
+        this.attempts++;
+        this.lockedUntil = LocalDateTime.now().plus(lease).truncatedTo(ChronoUnit.MICROS);
+    }
+    
+    // 가져간 뒤 다른 claim이 리스 만료된 작업을 다시 가져가거나 끝내지 않았으면 아직 그 claim의 작업이다
+    public boolean isClaimedBy(AiAnalysisJob claimed) {
+        return status == AiAnalysisJobStatus.RUNNING
+                && lockedUntil != null
+                && lockedUntil.equals(claimed.getLockedUntil());
+    }
+    
+    public void markDone() {
+        this.status = AiAnalysisJobStatus.DONE;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+    
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = AiAnalysisJobStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+    
+    // 스트리밍 클라이언트가 끊어 끝내지 못한 작업, 시도 횟수를 되돌리고 워커가 바로 다시 가져갈 수 있게 한다
+    public void release(String reason) {
+        this.status = AiAnalysisJobStatus.PENDING;
+        this.attempts = Math.max(0, attempts - 1);
+        this.nextAttemptAt = LocalDateTime.now();
+        this.lockedUntil = null;
+        this.lastError = truncate(reason);
+    }
+    
+    public void markFailed(String error) {
+        this.status = AiAnalysisJobStatus.FAILED;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+    
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 1000) {
+            return error;
+        }
+        return error.substring(0, 1000);
+    }
+}
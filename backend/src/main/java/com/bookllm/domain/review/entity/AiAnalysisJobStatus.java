@@ -0,0 +1,8 @@
+package com.bookllm.domain.review.entity;
+
+public enum AiAnalysisJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
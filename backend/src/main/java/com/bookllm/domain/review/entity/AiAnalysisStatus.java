@@ -0,0 +1,8 @@
+package com.bookllm.domain.review.entity;
+
+public enum AiAnalysisStatus {
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
@@ -8,7 +8,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_reviews_book_created", columnList = "book_id, created_at, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reviews_user_book", columnNames = {"user_id", "book_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -35,23 +40,19 @@ public class Review {
     
     private String userEmotion;
     
-    @Column(columnDefinition = "TEXT")
-    private String aiEmpathyMessage;
-    
-    @Column(columnDefinition = "TEXT")
-    private String aiBookInsights;
-    
-    @Column(columnDefinition = "TEXT")
-    private String aiEmotionAnalysis;
-    
-    @Column(columnDefinition = "TEXT")
-    private String aiBookRecommendations;
-    
-    @Column(columnDefinition = "TEXT")
-    private String aiPersonalizedInsight;
+    // AI 분석 진행 상태, 분석 본문은 review_ai_analysis(ReviewAiAnalysis)에 분리 저장
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private AiAnalysisStatus aiAnalysisStatus = AiAnalysisStatus.PENDING;
     
     private LocalDateTime readingDate;
     
+    // 낙관적 락 겸 ETag 원천, AI 분석 상태를 바꾸는 벌크 UPDATE도 함께 올린다
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -68,18 +69,15 @@ public class Review {
         updatedAt = LocalDateTime.now();
     }
     
-    public void updateAiAnalysis(String empathyMessage, String bookInsights, String emotionAnalysis) {
-        this.aiEmpathyMessage = empathyMessage;
-        this.aiBookInsights = bookInsights;
-        this.aiEmotionAnalysis = emotionAnalysis;
+    public void markAiAnalysisCompleted() {
+        this.aiAnalysisStatus = AiAnalysisStatus.COMPLETED;
+    }
+    
+    public void markAiAnalysisPending() {
+        this.aiAnalysisStatus = AiAnalysisStatus.PENDING;
     }
     
-    public void updateAiAnalysisWithRecommendations(String empathyMessage, String bookInsights, 
-            String emotionAnalysis, String bookRecommendations, String personalizedInsight) {
-        this.aiEmpathyMessage = empathyMessage;
-        this.aiBookInsights = bookInsights;
-        this.aiEmotionAnalysis = emotionAnalysis;
-        this.aiBookRecommendations = bookRecommendations;
-        this.aiPersonalizedInsight = personalizedInsight;
+    public void markAiAnalysisFailed() {
+        this.aiAnalysisStatus = AiAnalysisStatus.FAILED;
     }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.bookllm.domain.review.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+// 리뷰 목록/중복 검사 시 행 스캔이 무거워지지 않도록 AI 분석 TEXT 컬럼을 분리한 테이블
+// reviews와 PK를 공유하며, 리뷰 한 건을 열 때만 조회한다
+@Entity
+@Table(name = "review_ai_analysis")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReviewAiAnalysis {
+    
+    @Id
+    @Column(name = "review_id")
+    private Long reviewId;
+    
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "review_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Review review;
+    
+    @Column(columnDefinition = "TEXT")
+    private String empathyMessage;
+    
+    @Column(columnDefinition = "TEXT")
+    private String bookInsights;
+    
+    @Column(columnDefinition = "TEXT")
+    private String emotionAnalysis;
+    
+    @Column(columnDefinition = "TEXT")
+    private String bookRecommendations;
+    
+    @Column(columnDefinition = "TEXT")
+    private String personalizedInsight;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    public static ReviewAiAnalysis of(Review review) {
+        return ReviewAiAnalysis.builder()
+                .review(review)
+                .build();
+    }
+    
+    public void update(String empathyMessage, String bookInsights, String emotionAnalysis) {
+        this.empathyMessage = empathyMessage;
+        this.bookInsights = bookInsights;
+        this.emotionAnalysis = emotionAnalysis;
+    }
+    
+    public void updateWithRecommendations(String empathyMessage, String bookInsights,
+            String emotionAnalysis, String bookRecommendations, String personalizedInsight) {
+        this.empathyMessage = empathyMessage;
+        this.bookInsights = bookInsights;
+        this.emotionAnalysis = emotionAnalysis;
+        this.bookRecommendations = bookRecommendations;
+        this.personalizedInsight = personalizedInsight;
+    }
+}
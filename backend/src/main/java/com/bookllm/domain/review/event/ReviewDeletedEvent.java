@@ -0,0 +1,4 @@
+package com.bookllm.domain.review.event;
+
+public record ReviewDeletedEvent(Long reviewId) {
+}
@@ -0,0 +1,13 @@
+package com.bookllm.domain.review.event;
+
+// 리뷰 평점이 생기거나 사라졌음을 알린다, 협업 필터링 행렬 등 부가 처리는 커밋 이후에 수행
+public record ReviewRatingChangedEvent(Long userId, Long bookId, Double rating, boolean removed) {
+    
+    public static ReviewRatingChangedEvent added(Long userId, Long bookId, Double rating) {
+        return new ReviewRatingChangedEvent(userId, bookId, rating, false);
+    }
+    
+    public static ReviewRatingChangedEvent removed(Long userId, Long bookId) {
+        return new ReviewRatingChangedEvent(userId, bookId, null, true);
+    }
+}
@@ -0,0 +1,5 @@
+package com.bookllm.domain.review.event;
+
+// 리뷰 본문이 저장되었음을 알린다, 벡터 색인 등 부가 처리는 커밋 이후에 수행
+public record ReviewSavedEvent(Long reviewId, String content) {
+}
@@ -0,0 +1,45 @@
+package com.bookllm.domain.review.repository;
+
+import com.bookllm.domain.review.entity.AiAnalysisJob;
+import com.bookllm.domain.review.entity.AiAnalysisJobStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AiAnalysisJobRepository extends JpaRepository<AiAnalysisJob, Long> {
+    
+    // 여러 워커(인스턴스)가 동시에 폴링해도 같은 작업을 가져가지 않도록 SKIP LOCKED 사용
+    // 리스가 만료된 RUNNING 작업은 워커가 죽은 것으로 보고 다시 가져간다 (시도 횟수를 다 썼으면 claim에서 실패 처리)
+    @Query(value = "SELECT * FROM ai_analysis_jobs " +
+                   "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+                   "OR (status = 'RUNNING' AND locked_until < :now) " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<AiAnalysisJob> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    Optional<AiAnalysisJob> findFirstByReviewIdOrderByIdDesc(Long reviewId);
+    
+    // 결과를 반영하는 동안 워커의 claim(SKIP LOCKED)이 같은 작업을 다시 가져가지 않도록 잠그고 읽는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM AiAnalysisJob j WHERE j.id = :id")
+    Optional<AiAnalysisJob> findByIdForUpdate(@Param("id") Long id);
+    
+    @Modifying
+    @Query("DELETE FROM AiAnalysisJob j WHERE j.status = :status AND j.updatedAt < :before")
+    int deleteByStatusUpdatedBefore(@Param("status") AiAnalysisJobStatus status,
+                                    @Param("before") LocalDateTime before);
+    
+    // 워커의 claim과 같은 작업을 동시에 가져가지 않도록 잠그고 읽는다
+    // 워커가 먼저 가져갔으면 잠금이 풀린 뒤 RUNNING으로 보여 조건에 걸리지 않는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AiAnalysisJob> findFirstByReviewIdAndStatusOrderByIdDesc(Long reviewId, AiAnalysisJobStatus status);
+}
@@ -0,0 +1,9 @@
+package com.bookllm.domain.review.repository;
+
+import com.bookllm.domain.review.entity.ReviewAiAnalysis;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReviewAiAnalysisRepository extends JpaRepository<ReviewAiAnalysis, Long> {
+}
@@ -0,0 +1,18 @@
+package com.bookllm.domain.review.repository;
+
+import com.bookllm.domain.review.dto.ReviewCursor;
+import com.bookllm.domain.review.dto.ReviewField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface ReviewQueryRepository {
+    
+    List<Map<String, Object>> findFieldsByUserId(Long userId, Set<ReviewField> fields, ReviewCursor cursor, int limit);
+    
+    List<Map<String, Object>> findFieldsByBookId(Long bookId, Set<ReviewField> fields, ReviewCursor cursor, int limit);
+    
+    Optional<Map<String, Object>> findFieldsById(Long reviewId, Set<ReviewField> fields);
+}
@@ -0,0 +1,213 @@
+package com.bookllm.domain.review.repository;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.review.dto.ReviewCursor;
+import com.bookllm.domain.review.dto.ReviewField;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.entity.ReviewAiAnalysis;
+import com.bookllm.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 요청된 컬럼만 SELECT 하는 Criteria 튜플 프로젝션
+// 엔티티를 만들지 않고, 필요한 경우에만 users/books를 조인한다
+// AI 분석 필드는 review_ai_analysis에서 id 목록으로 한 번 더 읽어 합친다
+public class ReviewQueryRepositoryImpl implements ReviewQueryRepository {
+    
+    private static final Set<ReviewField> AI_FIELDS = EnumSet.of(
+            ReviewField.AI_EMPATHY_MESSAGE,
+            ReviewField.AI_BOOK_INSIGHTS,
+            ReviewField.AI_EMOTION_ANALYSIS,
+            ReviewField.AI_BOOK_RECOMMENDATIONS,
+            ReviewField.AI_PERSONALIZED_INSIGHT);
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<Map<String, Object>> findFieldsByUserId(Long userId, Set<ReviewField> fields,
+                                                        ReviewCursor cursor, int limit) {
+        return findPage("user", userId, fields, cursor, limit);
+    }
+    
+    @Override
+    public List<Map<String, Object>> findFieldsByBookId(Long bookId, Set<ReviewField> fields,
+                                                        ReviewCursor cursor, int limit) {
+        return findPage("book", bookId, fields, cursor, limit);
+    }
+    
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long reviewId, Set<ReviewField> fields) {
+        Set<ReviewField> selected = new LinkedHashSet<>(fields);
+        selected.add(ReviewField.ID);
+        
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Review> review = query.from(Review.class);
+        
+        query.multiselect(selections(cb, review, selected))
+                .where(cb.equal(review.get("id"), reviewId));
+        
+        List<Map<String, Object>> rows = toRows(entityManager.createQuery(query).getResultList(), selected);
+        fillAiFields(rows, selected);
+        rows.forEach(row -> retainRequested(row, fields));
+        return rows.stream().findFirst();
+    }
+    
+    private List<Map<String, Object>> findPage(String owner, Long ownerId, Set<ReviewField> fields,
+                                               ReviewCursor cursor, int limit) {
+        // 커서 계산용 키는 요청과 무관하게 항상 가져온다 (호출자가 응답에서 제외)
+        Set<ReviewField> selected = new LinkedHashSet<>(fields);
+        selected.add(ReviewField.ID);
+        selected.add(ReviewField.CREATED_AT);
+        
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Review> review = query.from(Review.class);
+        
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(review.get(owner).get("id"), ownerId));
+        if (cursor != null) {
+            Path<LocalDateTime> createdAt = review.get("createdAt");
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(review.get("id"), cursor.id()))));
+        }
+        
+        query.multiselect(selections(cb, review, selected))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(review.get("createdAt")), cb.desc(review.get("id")));
+        
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+        List<Map<String, Object>> rows = toRows(tuples, selected);
+        fillAiFields(rows, selected);
+        return rows;
+    }
+    
+    private List<Selection<?>> selections(CriteriaBuilder cb, Root<Review> review, Set<ReviewField> fields) {
+        LazyJoins joins = new LazyJoins(review);
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        
+        for (ReviewField field : fields) {
+            if (AI_FIELDS.contains(field)) {
+                continue;
+            }
+            Expression<?> expression = switch (field) {
+                case ID -> review.get("id");
+                // FK 컬럼만 읽으므로 조인 불필요
+                case USER_ID -> review.get("user").get("id");
+                case BOOK_ID -> review.get("book").get("id");
+                case USER_NICKNAME -> joins.user().get("nickname");
+                case BOOK_TITLE -> joins.book().get("title");
+                case BOOK_AUTHOR -> joins.book().get("author");
+                case CONTENT -> review.get("content");
+                case CONTENT_SNIPPET -> cb.substring(review.get("content"), 1, ReviewField.SNIPPET_LENGTH);
+                case RATING -> review.get("rating");
+                case USER_EMOTION -> review.get("userEmotion");
+                case AI_ANALYSIS_STATUS -> review.get("aiAnalysisStatus");
+                case READING_DATE -> review.get("readingDate");
+                case CREATED_AT -> review.get("createdAt");
+                default -> throw new IllegalArgumentException("지원하지 않는 필드: " + field);
+            };
+            selections.add(expression.alias(field.getName()));
+        }
+        return selections;
+    }
+    
+    // 요청 순서를 유지하며, AI 필드는 자리만 잡아 둔다
+    private static List<Map<String, Object>> toRows(List<Tuple> tuples, Set<ReviewField> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (ReviewField field : fields) {
+                row.put(field.getName(), AI_FIELDS.contains(field) ? null : tuple.get(field.getName()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+    
+    private void fillAiFields(List<Map<String, Object>> rows, Set<ReviewField> fields) {
+        List<ReviewField> aiFields = fields.stream().filter(AI_FIELDS::contains).toList();
+        if (aiFields.isEmpty() || rows.isEmpty()) {
+            return;
+        }
+        
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ReviewAiAnalysis> analysis = query.from(ReviewAiAnalysis.class);
+        
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(analysis.get("reviewId").alias("reviewId"));
+        for (ReviewField field : aiFields) {
+            String attribute = switch (field) {
+                case AI_EMPATHY_MESSAGE -> "empathyMessage";
+                case AI_BOOK_INSIGHTS -> "bookInsights";
+                case AI_EMOTION_ANALYSIS -> "emotionAnalysis";
+                case AI_BOOK_RECOMMENDATIONS -> "bookRecommendations";
+                case AI_PERSONALIZED_INSIGHT -> "personalizedInsight";
+                default -> throw new IllegalArgumentException("AI 필드가 아닙니다: " + field);
+            };
+            selections.add(analysis.get(attribute).alias(field.getName()));
+        }
+        
+        List<Long> reviewIds = rows.stream().map(row -> (Long) row.get(ReviewField.ID.getName())).toList();
+        query.multiselect(selections).where(analysis.get("reviewId").in(reviewIds));
+        
+        Map<Long, Tuple> byReviewId = new HashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            byReviewId.put(tuple.get("reviewId", Long.class), tuple);
+        }
+        for (Map<String, Object> row : rows) {
+            Tuple tuple = byReviewId.get((Long) row.get(ReviewField.ID.getName()));
+            if (tuple != null) {
+                aiFields.forEach(field -> row.put(field.getName(), tuple.get(field.getName())));
+            }
+        }
+    }
+    
+    private static void retainRequested(Map<String, Object> row, Set<ReviewField> fields) {
+        if (!fields.contains(ReviewField.ID)) {
+            row.remove(ReviewField.ID.getName());
+        }
+    }
+    
+    private static final class LazyJoins {
+        private final Root<Review> review;
+        private Join<Review, User> user;
+        private Join<Review, Book> book;
+        
+        private LazyJoins(Root<Review> review) {
+            this.review = review;
+        }
+        
+        private Join<Review, User> user() {
+            if (user == null) {
+                user = review.join("user");
+            }
+            return user;
+        }
+        
+        private Join<Review, Book> book() {
+            if (book == null) {
+                book = review.join("book");
+            }
+            return book;
+        }
+    }
+}
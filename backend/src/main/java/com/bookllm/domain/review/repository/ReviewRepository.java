@@ -1,22 +1,81 @@
 package com.bookllm.domain.review.repository;
 
+import com.bookllm.domain.review.dto.ReviewContentRow;
+import com.bookllm.domain.review.dto.ReviewRatingRow;
 import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.entity.AiAnalysisStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewQueryRepository {
+    // ReviewResponse가 user/book을 읽으므로 함께 조인해 N+1을 막는다
+    @EntityGraph(attributePaths = {"user", "book"})
     List<Review> findByUserId(Long userId);
     
+    @EntityGraph(attributePaths = {"user", "book"})
     List<Review> findByBookId(Long bookId);
     
-    @Query("SELECT r FROM Review r WHERE r.user.id = :userId AND r.book.id = :bookId")
-    List<Review> findByUserIdAndBookId(@Param("userId") Long userId, @Param("bookId") Long bookId);
+    @EntityGraph(attributePaths = {"user", "book"})
+    Optional<Review> findWithUserAndBookById(Long id);
     
-    @Query("SELECT r FROM Review r JOIN FETCH r.book JOIN FETCH r.user WHERE r.user.id = :userId ORDER BY r.createdAt DESC")
-    List<Review> findByUserIdWithBookAndUser(@Param("userId") Long userId);
+    // 조건부 GET용, 엔티티를 읽지 않고 버전만
+    @Query("SELECT r.version FROM Review r WHERE r.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+    
+    // 엔티티를 만들지 않고 (user_id, book_id) 유니크 인덱스로 id 하나만 확인한다
+    boolean existsByUserIdAndBookId(Long userId, Long bookId);
+    
+    @Query("SELECT r.book.id FROM Review r WHERE r.user.id = :userId")
+    List<Long> findBookIdsByUserId(@Param("userId") Long userId);
+    
+    // 키셋 페이지네이션: (createdAt, id) 내림차순, 커서 이후 행만 인덱스로 탐색
+    @Query("SELECT r FROM Review r JOIN FETCH r.book JOIN FETCH r.user WHERE r.user.id = :userId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+    
+    @Query("SELECT r FROM Review r JOIN FETCH r.book JOIN FETCH r.user WHERE r.user.id = :userId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findPageByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id, Limit limit);
+    
+    @Query("SELECT r FROM Review r JOIN FETCH r.book JOIN FETCH r.user WHERE r.book.id = :bookId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findFirstPageByBookId(@Param("bookId") Long bookId, Limit limit);
+    
+    @Query("SELECT r FROM Review r JOIN FETCH r.book JOIN FETCH r.user WHERE r.book.id = :bookId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findPageByBookIdAfter(@Param("bookId") Long bookId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id, Limit limit);
+    
+    // 평점 행렬 구축용, 엔티티를 만들지 않고 id 키셋으로 끊어 읽는다
+    @Query("SELECT new com.bookllm.domain.review.dto.ReviewRatingRow(r.id, r.user.id, r.book.id, r.rating) " +
+           "FROM Review r WHERE r.id > :afterId ORDER BY r.id")
+    List<ReviewRatingRow> findRatingsAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    @Query("SELECT new com.bookllm.domain.review.dto.ReviewContentRow(r.id, r.content) " +
+           "FROM Review r WHERE r.id > :afterId ORDER BY r.id")
+    List<ReviewContentRow> findContentsAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    @EntityGraph(attributePaths = {"book"})
+    List<Review> findByIdIn(Collection<Long> ids);
+    
+    @Query("SELECT r FROM Review r JOIN FETCH r.book WHERE r.id = :reviewId")
+    Optional<Review> findByIdWithBook(@Param("reviewId") Long reviewId);
+    
+    @Modifying
+    @Query("UPDATE Review r SET r.aiAnalysisStatus = :status, r.version = r.version + 1 WHERE r.id IN :reviewIds")
+    int updateAiAnalysisStatus(@Param("reviewIds") Collection<Long> reviewIds, @Param("status") AiAnalysisStatus status);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.bookllm.domain.review.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai-analysis.job")
+public class AiAnalysisJobProperties {
+    
+    private boolean workerEnabled = true;
+    
+    // 동시에 처리 중인 AI 호출 수 상한
+    private int concurrency = 32;
+    
+    private int claimBatchSize = 16;
+    
+    private int maxAttempts = 5;
+    
+    private Duration backoffBase = Duration.ofSeconds(2);
+    
+    private Duration backoffMax = Duration.ofMinutes(5);
+    
+    // RUNNING 상태로 붙잡고 있을 수 있는 최대 시간, 지나면 다른 워커가 다시 가져간다
+    private Duration lease = Duration.ofMinutes(2);
+    
+    // 끝난(DONE) 작업을 남겨 두는 기간, purge-cron마다 이보다 오래된 작업을 지운다
+    private Duration doneRetention = Duration.ofDays(7);
+}
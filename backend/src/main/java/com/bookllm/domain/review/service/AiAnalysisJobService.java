@@ -0,0 +1,220 @@
+package com.bookllm.domain.review.service;
+
+import com.bookllm.domain.recommendation.service.RecommendationService;
+import com.bookllm.domain.review.entity.AiAnalysisJob;
+import com.bookllm.domain.review.entity.AiAnalysisJobStatus;
+import com.bookllm.domain.review.entity.AiAnalysisStatus;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.entity.ReviewAiAnalysis;
+import com.bookllm.domain.review.repository.AiAnalysisJobRepository;
+import com.bookllm.domain.review.repository.ReviewAiAnalysisRepository;
+import com.bookllm.domain.review.repository.ReviewRepository;
+import com.bookllm.global.cache.CachedResource;
+import com.bookllm.global.cache.ResponseCache;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AiAnalysisJobService {
+    
+    private final AiAnalysisJobRepository jobRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewAiAnalysisRepository reviewAiAnalysisRepository;
+    private final RecommendationService recommendationService;
+    private final ResponseCache responseCache;
+    private final AiAnalysisJobProperties properties;
+    private final ObjectMapper objectMapper;
+    
+    // 리뷰 저장과 같은 트랜잭션에서 호출되어야 한다 (transactional outbox)
+    @Transactional
+    public void enqueue(Long reviewId) {
+        jobRepository.save(AiAnalysisJob.of(reviewId));
+    }
+    
+    @Transactional
+    public List<AiAnalysisJob> claim(int limit) {
+        List<AiAnalysisJob> jobs = jobRepository.findClaimable(LocalDateTime.now(), limit);
+        if (jobs.isEmpty()) {
+            return jobs;
+        }
+        
+        List<AiAnalysisJob> claimed = new ArrayList<>(jobs.size());
+        for (AiAnalysisJob job : jobs) {
+            // 리스가 만료되어 돌아온 작업이 이미 시도 횟수를 다 썼으면 (처리 중 멈추거나 워커를 죽이는 작업) 더 돌리지 않는다
+            if (job.getAttempts() >= properties.getMaxAttempts()) {
+                log.warn("AI 분석 작업 리스 만료 후 최종 실패 - jobId: {}, reviewId: {}", job.getId(), job.getReviewId());
+                job.markFailed("처리 중 리스가 만료된 채 최대 시도 횟수를 모두 썼습니다");
+                reviewRepository.findById(job.getReviewId()).ifPresent(Review::markAiAnalysisFailed);
+                responseCache.invalidateAfterCommit(CachedResource.REVIEW, job.getReviewId());
+                continue;
+            }
+            job.markRunning(properties.getLease());
+            claimed.add(job);
+        }
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+        
+        List<Long> reviewIds = claimed.stream().map(AiAnalysisJob::getReviewId).toList();
+        reviewRepository.updateAiAnalysisStatus(reviewIds, AiAnalysisStatus.PROCESSING);
+        reviewIds.forEach(reviewId -> responseCache.invalidateAfterCommit(CachedResource.REVIEW, reviewId));
+        return claimed;
+    }
+    
+    // 끝난 작업은 분석 결과가 리뷰 쪽에 남아 있으므로 보존 기간이 지나면 지운다
+    @Transactional
+    @Scheduled(cron = "${ai-analysis.job.purge-cron:0 30 4 * * *}")
+    public void purgeDone() {
+        int deleted = jobRepository.deleteByStatusUpdatedBefore(
+                AiAnalysisJobStatus.DONE, LocalDateTime.now().minus(properties.getDoneRetention()));
+        if (deleted > 0) {
+            log.info("끝난 AI 분석 작업 {}건 삭제", deleted);
+        }
+    }
+    
+    public Optional<Review> findReviewForAnalysis(Long reviewId) {
+        return reviewRepository.findByIdWithBook(reviewId);
+    }
+    
+    // 스트리밍 분석이 대기 중인 작업을 가져간다, 워커가 이미 처리 중이거나 대기 중인 작업이 없으면 빈 값
+    @Transactional
+    public Optional<AiAnalysisJob> claimForStreaming(Long reviewId) {
+        Optional<AiAnalysisJob> job = jobRepository.findFirstByReviewIdAndStatusOrderByIdDesc(
+                reviewId, AiAnalysisJobStatus.PENDING);
+        job.ifPresent(claimed -> {
+            claimed.markRunning(properties.getLease());
+            reviewRepository.updateAiAnalysisStatus(List.of(reviewId), AiAnalysisStatus.PROCESSING);
+            responseCache.invalidateAfterCommit(CachedResource.REVIEW, reviewId);
+        });
+        return job;
+    }
+    
+    // 리스가 만료되어 다른 워커가 다시 가져간 작업이면 새 소유자의 결과를 덮지 않도록 버린다
+    @Transactional
+    public void complete(AiAnalysisJob claimed, AiAnalysisResponse response) {
+        AiAnalysisJob job = findOwned(claimed).orElse(null);
+        if (job == null) {
+            return;
+        }
+        
+        saveAnalysis(job.getReviewId(), response);
+        job.markDone();
+    }
+    
+    // 스트림으로 끝까지 받은 결과를 저장한다, 가져간 작업이 없으면(워커가 처리 중) 리뷰 분석만 갱신한다
+    @Transactional
+    public void completeStreamed(Long reviewId, AiAnalysisJob claimed, AiAnalysisResponse response) {
+        if (claimed != null) {
+            complete(claimed, response);
+            return;
+        }
+        saveAnalysis(reviewId, response);
+    }
+    
+    // 클라이언트가 끊어 스트림이 끝내지 못한 작업을 워커에게 돌려준다, 그 사이 다른 워커가 가져갔거나 끝냈으면 그대로 둔다
+    @Transactional
+    public void release(AiAnalysisJob claimed, String reason) {
+        findOwned(claimed).ifPresent(job -> {
+            job.release(reason);
+            reviewRepository.findById(job.getReviewId()).ifPresent(Review::markAiAnalysisPending);
+            responseCache.invalidateAfterCommit(CachedResource.REVIEW, job.getReviewId());
+        });
+    }
+    
+    private void saveAnalysis(Long reviewId, AiAnalysisResponse response) {
+        reviewRepository.findById(reviewId).ifPresent(review -> {
+            ReviewAiAnalysis analysis = reviewAiAnalysisRepository.findById(review.getId())
+                    .orElseGet(() -> ReviewAiAnalysis.of(review));
+            analysis.updateWithRecommendations(
+                    response.getEmpathyMessage(),
+                    String.join(", ", nullToEmpty(response.getAiResponse().getBookInsights())),
+                    toJson(response.getAiResponse().getEmotionAnalysis()),
+                    toJson(response.getAiResponse().getBookRecommendations()),
+                    response.getPersonalizedInsight()
+            );
+            reviewAiAnalysisRepository.save(analysis);
+            recommendationService.replaceForReview(review, response.getAllRecommendations());
+            review.markAiAnalysisCompleted();
+        });
+        responseCache.invalidateAfterCommit(CachedResource.REVIEW, reviewId);
+    }
+    
+    @Transactional
+    public void discard(AiAnalysisJob claimed, String reason) {
+        findOwned(claimed).ifPresent(job -> job.markFailed(reason));
+    }
+    
+    // 이미 다른 워커가 다시 돌리고 있는 작업을 실패시키지 않도록 소유한 작업만 처리한다
+    @Transactional
+    public void fail(AiAnalysisJob claimed, String error) {
+        AiAnalysisJob job = findOwned(claimed).orElse(null);
+        if (job == null) {
+            return;
+        }
+        
+        Optional<Review> review = reviewRepository.findById(job.getReviewId());
+        responseCache.invalidateAfterCommit(CachedResource.REVIEW, job.getReviewId());
+        if (job.getAttempts() >= properties.getMaxAttempts()) {
+            log.warn("AI 분석 작업 최종 실패 - jobId: {}, reviewId: {}, error: {}", job.getId(), job.getReviewId(), error);
+            job.markFailed(error);
+            review.ifPresent(Review::markAiAnalysisFailed);
+            return;
+        }
+        
+        job.retryAt(LocalDateTime.now().plus(backoff(job.getAttempts())), error);
+        review.ifPresent(Review::markAiAnalysisPending);
+    }
+    
+    private Optional<AiAnalysisJob> findOwned(AiAnalysisJob claimed) {
+        Optional<AiAnalysisJob> job = jobRepository.findByIdForUpdate(claimed.getId())
+                .filter(current -> current.isClaimedBy(claimed));
+        if (job.isEmpty()) {
+            log.debug("소유권을 잃은 AI 분석 작업 결과 무시 - jobId: {}", claimed.getId());
+        }
+        return job;
+    }
+    
+    public Optional<AiAnalysisJob> findLatestJob(Long reviewId) {
+        return jobRepository.findFirstByReviewIdOrderByIdDesc(reviewId);
+    }
+    
+    // 지수 백오프 + 지터, backoffMax로 상한
+    Duration backoff(int attempts) {
+        long baseMillis = properties.getBackoffBase().toMillis();
+        long exponential = baseMillis << Math.min(Math.max(attempts - 1, 0), 20);
+        long capped = Math.min(exponential, properties.getBackoffMax().toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(Math.max(capped / 5, 1));
+        return Duration.ofMillis(capped - jitter);
+    }
+    
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return value.toString();
+        }
+    }
+    
+    private static List<String> nullToEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+}
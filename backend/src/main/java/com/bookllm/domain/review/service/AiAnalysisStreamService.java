@@ -0,0 +1,148 @@
+package com.bookllm.domain.review.service;
+
+import com.bookllm.domain.review.dto.ReviewAnalysisStatusResponse;
+import com.bookllm.domain.review.entity.AiAnalysisJob;
+import com.bookllm.domain.review.entity.AiAnalysisStatus;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.global.exception.BusinessException;
+import com.bookllm.global.exception.ErrorCode;
+import com.bookllm.infrastructure.ai.AiServiceClient;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// 리뷰 AI 분석을 ai-service가 만들어 내는 대로 SSE로 흘려보내고 끝까지 받으면 리뷰에 저장한다
+// - delta/section 이벤트는 그대로 전달하고, done을 받으면 저장한 뒤 /analysis와 같은 형식으로 done을 보낸다
+// - 이미 분석이 끝난 리뷰는 ai-service를 부르지 않고 저장된 결과로 done 하나만 보낸다
+// - 대기 중인 작업은 스트림이 가져가고, 클라이언트가 끊으면 시도 횟수를 되돌려, ai-service가 실패하면 재시도로 워커에게 넘긴다
+// - 워커가 이미 분석 중이면 ai-service를 또 부르지 않고 status를 보낸 뒤 워커의 결과를 기다려 done으로 보낸다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiAnalysisStreamService {
+    
+    private static final Duration WORKER_POLL_INTERVAL = Duration.ofSeconds(1);
+    
+    private final AiAnalysisJobService jobService;
+    private final ReviewService reviewService;
+    private final AiServiceClient aiServiceClient;
+    private final AiAnalysisJobProperties jobProperties;
+    private final ObjectMapper objectMapper;
+    
+    public Flux<ServerSentEvent<Object>> stream(Long reviewId) {
+        Review review = jobService.findReviewForAnalysis(reviewId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
+        if (review.getAiAnalysisStatus() == AiAnalysisStatus.COMPLETED) {
+            return Flux.just(event("done", reviewService.getAnalysisStatus(reviewId)));
+        }
+        
+        // 작업은 구독할 때 가져간다, 구독되지 않은 스트림이 작업을 리스가 끝날 때까지 RUNNING으로 붙잡지 않도록
+        return Flux.defer(() -> {
+                    Optional<AiAnalysisJob> claimed = jobService.claimForStreaming(reviewId);
+                    if (claimed.isPresent()) {
+                        return relay(review, claimed.get());
+                    }
+                    ReviewAnalysisStatusResponse status = reviewService.getAnalysisStatus(reviewId);
+                    return switch (status.getStatus()) {
+                        // 확인하는 사이 워커가 끝냈으면 저장된 결과로
+                        case COMPLETED -> Flux.just(event("done", status));
+                        case PROCESSING -> awaitWorker(reviewId, status);
+                        // 돌고 있는 작업이 없으면(최종 실패 등) 스트림이 직접 분석하고 리뷰 기준으로 저장한다
+                        default -> relay(review, null);
+                    };
+                })
+                // 작업 claim과 상태 조회(JPA)는 블로킹이므로
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+    
+    private Flux<ServerSentEvent<Object>> relay(Review review, AiAnalysisJob job) {
+        Long reviewId = review.getId();
+        AtomicBoolean finished = new AtomicBoolean();
+        return aiServiceClient.analyzeReviewStream(review, review.getBook())
+                .concatMap(upstream -> "done".equals(upstream.event())
+                        // 저장(JPA)은 블로킹이므로 Netty 이벤트 루프 밖에서
+                        ? Mono.fromCallable(() -> complete(reviewId, job, upstream.data(), finished))
+                                .subscribeOn(Schedulers.boundedElastic())
+                        : Mono.just(event(upstream.event(), upstream.data())))
+                .concatWith(Mono.defer(() -> finished.get()
+                        ? Mono.empty()
+                        : Mono.error(new IllegalStateException("done 이벤트 없이 스트림이 끝났습니다"))))
+                .onErrorResume(e -> {
+                    log.warn("AI 분석 스트리밍 실패 - reviewId: {}", reviewId, e);
+                    // ai-service 실패는 워커와 같이 시도 횟수를 쓰고 백오프 후 재시도한다
+                    settle(job, claimed -> jobService.fail(claimed, e.getMessage()));
+                    return Flux.just(failed());
+                })
+                .doOnCancel(() -> {
+                    if (!finished.get()) {
+                        settle(job, claimed -> jobService.release(claimed, "스트리밍 연결이 끊겼습니다"));
+                    }
+                });
+    }
+    
+    // 워커가 끝낼 때까지 상태를 읽다가 완료되면 done, 실패하거나 재시도로 돌아가면 error로 끝낸다
+    // 워커의 작업은 리스보다 오래 RUNNING일 수 없으므로 그만큼만 기다린다
+    private Flux<ServerSentEvent<Object>> awaitWorker(Long reviewId, ReviewAnalysisStatusResponse current) {
+        Mono<ServerSentEvent<Object>> result = Flux.interval(Duration.ZERO, WORKER_POLL_INTERVAL)
+                // 조회가 밀리면 그 사이 틱은 버린다 (요청보다 먼저 틱이 나가도 Overflow로 끝나지 않도록)
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.fromCallable(() -> reviewService.getAnalysisStatus(reviewId))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .filter(status -> status.getStatus() != AiAnalysisStatus.PROCESSING)
+                .next()
+                .timeout(jobProperties.getLease())
+                .map(status -> status.getStatus() == AiAnalysisStatus.COMPLETED
+                        ? event("done", status)
+                        : failed())
+                .onErrorResume(e -> {
+                    log.warn("AI 분석 워커 결과 대기 실패 - reviewId: {}", reviewId, e);
+                    return Mono.just(failed());
+                });
+        return Flux.concat(Mono.just(event("status", current)), result);
+    }
+    
+    private ServerSentEvent<Object> complete(Long reviewId, AiAnalysisJob job, String data, AtomicBoolean finished)
+            throws Exception {
+        AiAnalysisResponse response = objectMapper.readValue(data, AiAnalysisResponse.class);
+        if (response.isEmpty()) {
+            throw new IllegalStateException("AI 분석 결과가 비어 있습니다");
+        }
+        jobService.completeStreamed(reviewId, job, response);
+        finished.set(true);
+        return event("done", reviewService.getAnalysisStatus(reviewId));
+    }
+    
+    private void settle(AiAnalysisJob job, Consumer<AiAnalysisJob> action) {
+        if (job == null) {
+            return;
+        }
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                action.accept(job);
+            } catch (Exception e) {
+                log.warn("AI 분석 작업 반환 실패 - jobId: {}", job.getId(), e);
+            }
+        });
+    }
+    
+    private static ServerSentEvent<Object> failed() {
+        return event("error", Map.of("message", ErrorCode.AI_SERVICE_ERROR.getMessage()));
+    }
+    
+    // delta/section의 data는 ai-service가 보낸 JSON 문자열을 다시 파싱하지 않고 그대로 쓴다
+    private static ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
+}
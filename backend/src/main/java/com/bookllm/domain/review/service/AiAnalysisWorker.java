@@ -0,0 +1,99 @@
+package com.bookllm.domain.review.service;
+
+import com.bookllm.domain.review.entity.AiAnalysisJob;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.infrastructure.ai.AiServiceClient;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiAnalysisWorker {
+    
+    private final AiAnalysisJobService jobService;
+    private final AiServiceClient aiServiceClient;
+    private final AiAnalysisJobProperties properties;
+    private final Environment environment;
+    
+    private ExecutorService executor;
+    private Semaphore permits;
+    
+    @PostConstruct
+    void start() {
+        // AI 호출은 오래 블로킹되므로 작업마다 스레드 하나, 동시성은 세마포어로 제한
+        // spring.threads.virtual.enabled를 따라 가상 스레드(대기 중 캐리어 반납) 또는 플랫폼 스레드를 쓴다
+        ThreadFactory threads = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("ai-analysis-", 0).factory()
+                : Thread.ofPlatform().name("ai-analysis-", 0).daemon().factory();
+        executor = Executors.newThreadPerTaskExecutor(threads);
+        permits = new Semaphore(properties.getConcurrency());
+    }
+    
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+    
+    @Scheduled(fixedDelayString = "${ai-analysis.job.poll-interval-ms:500}")
+    public void poll() {
+        if (!properties.isWorkerEnabled()) {
+            return;
+        }
+        
+        // ai-service가 버거워해 한도가 줄었거나 서킷이 열렸으면 그만큼 덜 가져간다
+        // 거절될 호출로 시도 횟수를 쓰지 않고 작업을 PENDING 그대로 DB에 남겨 둔다
+        int available = Math.min(Math.min(permits.availablePermits(), properties.getClaimBatchSize()),
+                aiServiceClient.availableCapacity());
+        if (available == 0) {
+            return;
+        }
+        
+        List<AiAnalysisJob> jobs = jobService.claim(available);
+        for (AiAnalysisJob job : jobs) {
+            permits.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+    
+    private void process(AiAnalysisJob job) {
+        try {
+            Optional<Review> review = jobService.findReviewForAnalysis(job.getReviewId());
+            if (review.isEmpty()) {
+                jobService.discard(job, "리뷰가 삭제되었습니다");
+                return;
+            }
+            
+            AiAnalysisResponse response = aiServiceClient.analyzeReview(review.get(), review.get().getBook());
+            if (response == null || response.isEmpty()) {
+                jobService.fail(job, "AI 분석 결과가 비어 있습니다");
+                return;
+            }
+            
+            jobService.complete(job, response);
+        } catch (Exception e) {
+            log.warn("AI 분석 작업 처리 실패 - jobId: {}", job.getId(), e);
+            jobService.fail(job, e.getMessage());
+        }
+    }
+}
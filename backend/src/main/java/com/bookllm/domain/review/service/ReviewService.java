@@ -2,32 +2,66 @@ package com.bookllm.domain.review.service;
 
 import com.bookllm.domain.book.entity.Book;
 import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.domain.book.service.BookRatingService;
+import com.bookllm.domain.recommendation.service.RecommendationService;
 import com.bookllm.domain.review.dto.CreateReviewRequest;
+import com.bookllm.domain.review.dto.ReviewAnalysisStatusResponse;
+import com.bookllm.domain.review.dto.ReviewCursor;
+import com.bookllm.domain.review.dto.ReviewField;
 import com.bookllm.domain.review.dto.ReviewResponse;
 import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.event.ReviewDeletedEvent;
+import com.bookllm.domain.review.event.ReviewRatingChangedEvent;
+import com.bookllm.domain.review.event.ReviewSavedEvent;
+import com.bookllm.domain.review.entity.ReviewAiAnalysis;
+import com.bookllm.domain.review.repository.ReviewAiAnalysisRepository;
 import com.bookllm.domain.review.repository.ReviewRepository;
 import com.bookllm.domain.user.entity.User;
 import com.bookllm.domain.user.repository.UserRepository;
+import com.bookllm.global.cache.CachedResource;
+import com.bookllm.global.cache.ResponseCache;
+import com.bookllm.global.dto.CursorPageResponse;
 import com.bookllm.global.exception.BusinessException;
+import com.bookllm.global.exception.ConstraintViolations;
 import com.bookllm.global.exception.ErrorCode;
-import com.bookllm.infrastructure.ai.AiServiceClient;
 import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReviewService {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String USER_BOOK_UNIQUE = "uk_reviews_user_book";
+    
     private final ReviewRepository reviewRepository;
+    private final ReviewAiAnalysisRepository reviewAiAnalysisRepository;
     private final UserRepository userRepository;
     private final BookRepository bookRepository;
-    private final AiServiceClient aiServiceClient;
+    private final BookRatingService bookRatingService;
+    private final AiAnalysisJobService aiAnalysisJobService;
+    private final ReviewedBookCache reviewedBookCache;
+    private final RecommendationService recommendationService;
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public ReviewResponse createReview(Long userId, CreateReviewRequest request) {
@@ -37,8 +71,12 @@ public class ReviewService {
         Book book = bookRepository.findById(request.getBookId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND));
         
-        if (!reviewRepository.findByUserIdAndBookId(userId, request.getBookId()).isEmpty()) {
-            throw new BusinessException(ErrorCode.ALREADY_REVIEWED);
+        // 캐시가 "있음"이라고 할 때만 DB로 확인, 동시 작성은 유니크 제약이 막는다
+        if (reviewedBookCache.mightHaveReviewed(userId, request.getBookId())) {
+            if (reviewRepository.existsByUserIdAndBookId(userId, request.getBookId())) {
+                throw new BusinessException(ErrorCode.ALREADY_REVIEWED);
+            }
+            reviewedBookCache.evict(userId);
         }
         
         Review review = Review.builder()
@@ -50,48 +88,163 @@ public class ReviewService {
                 .readingDate(request.getReadingDate())
                 .build();
         
-        // 프론트엔드에서 받은 AI 분석 결과가 있으면 바로 저장
-        if (request.getAiEmpathyMessage() != null && !request.getAiEmpathyMessage().isEmpty()) {
-            if (request.getAiBookRecommendations() != null || request.getAiPersonalizedInsight() != null) {
-                review.updateAiAnalysisWithRecommendations(
-                        request.getAiEmpathyMessage(),
-                        request.getAiBookInsights(),
-                        request.getAiEmotionAnalysis(),
-                        request.getAiBookRecommendations(),
-                        request.getAiPersonalizedInsight()
-                );
-            } else {
-                review.updateAiAnalysis(
-                        request.getAiEmpathyMessage(),
-                        request.getAiBookInsights(),
-                        request.getAiEmotionAnalysis()
-                );
+        boolean hasAiAnalysis = request.getAiEmpathyMessage() != null && !request.getAiEmpathyMessage().isEmpty();
+        if (hasAiAnalysis) {
+            review.markAiAnalysisCompleted();
+        }
+        
+        Review savedReview;
+        try {
+            savedReview = reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            // (사용자, 도서) 유니크 제약 위반만 중복 작성으로 본다, FK/NOT NULL/길이 위반 등은 그대로 던진다
+            if (!ConstraintViolations.isViolationOf(e, USER_BOOK_UNIQUE)) {
+                throw e;
             }
+            throw new BusinessException(ErrorCode.ALREADY_REVIEWED);
+        }
+        bookRatingService.addRating(book.getId(), savedReview.getRating());
+        eventPublisher.publishEvent(ReviewRatingChangedEvent.added(userId, book.getId(), savedReview.getRating()));
+        eventPublisher.publishEvent(new ReviewSavedEvent(savedReview.getId(), savedReview.getContent()));
+        
+        // 분석 결과가 없으면 큐에 넣고 바로 응답, 워커가 비동기로 채운다
+        if (!hasAiAnalysis) {
+            aiAnalysisJobService.enqueue(savedReview.getId());
+            return ReviewResponse.from(savedReview);
         }
         
-        Review savedReview = reviewRepository.save(review);
+        // 프론트엔드에서 받은 AI 분석 결과가 있으면 바로 저장
+        ReviewAiAnalysis analysis = ReviewAiAnalysis.of(savedReview);
+        if (request.getAiBookRecommendations() != null || request.getAiPersonalizedInsight() != null) {
+            analysis.updateWithRecommendations(
+                    request.getAiEmpathyMessage(),
+                    request.getAiBookInsights(),
+                    request.getAiEmotionAnalysis(),
+                    request.getAiBookRecommendations(),
+                    request.getAiPersonalizedInsight()
+            );
+        } else {
+            analysis.update(
+                    request.getAiEmpathyMessage(),
+                    request.getAiBookInsights(),
+                    request.getAiEmotionAnalysis()
+            );
+        }
+        reviewAiAnalysisRepository.save(analysis);
+        recommendationService.replaceForReview(savedReview, parseRecommendations(request.getAiBookRecommendations()));
         
-        return ReviewResponse.from(savedReview);
+        return ReviewResponse.from(savedReview, analysis);
     }
     
-    public List<ReviewResponse> getUserReviews(Long userId) {
-        List<Review> reviews = reviewRepository.findByUserIdWithBookAndUser(userId);
-        return reviews.stream()
-                .map(ReviewResponse::from)
-                .collect(Collectors.toList());
+    public CursorPageResponse<ReviewResponse> getUserReviews(Long userId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Review> reviews = cursor == null
+                ? reviewRepository.findFirstPageByUserId(userId, limit)
+                : findUserReviewsAfter(userId, ReviewCursor.decode(cursor), limit);
+        return toPage(reviews, pageSize);
     }
     
-    public List<ReviewResponse> getBookReviews(Long bookId) {
-        List<Review> reviews = reviewRepository.findByBookId(bookId);
-        return reviews.stream()
-                .map(ReviewResponse::from)
-                .collect(Collectors.toList());
+    public CursorPageResponse<ReviewResponse> getBookReviews(Long bookId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Review> reviews = cursor == null
+                ? reviewRepository.findFirstPageByBookId(bookId, limit)
+                : findBookReviewsAfter(bookId, ReviewCursor.decode(cursor), limit);
+        return toPage(reviews, pageSize);
     }
     
+    // fields= 로 요청된 컬럼만 SQL에서 선택해 Map으로 직렬화
+    public CursorPageResponse<Map<String, Object>> getUserReviewFields(Long userId, String fields,
+                                                                       String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        Set<ReviewField> requested = ReviewField.parse(fields);
+        List<Map<String, Object>> rows = reviewRepository.findFieldsByUserId(
+                userId, requested, cursor == null ? null : ReviewCursor.decode(cursor), pageSize + 1);
+        return toFieldPage(rows, requested, pageSize);
+    }
+    
+    public CursorPageResponse<Map<String, Object>> getBookReviewFields(Long bookId, String fields,
+                                                                       String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        Set<ReviewField> requested = ReviewField.parse(fields);
+        List<Map<String, Object>> rows = reviewRepository.findFieldsByBookId(
+                bookId, requested, cursor == null ? null : ReviewCursor.decode(cursor), pageSize + 1);
+        return toFieldPage(rows, requested, pageSize);
+    }
+    
+    public Map<String, Object> getReviewFields(Long reviewId, String fields) {
+        return reviewRepository.findFieldsById(reviewId, ReviewField.parse(fields))
+                .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
+    }
+    
+    private List<Review> findUserReviewsAfter(Long userId, ReviewCursor cursor, Limit limit) {
+        return reviewRepository.findPageByUserIdAfter(userId, cursor.createdAt(), cursor.id(), limit);
+    }
+    
+    private List<Review> findBookReviewsAfter(Long bookId, ReviewCursor cursor, Limit limit) {
+        return reviewRepository.findPageByBookIdAfter(bookId, cursor.createdAt(), cursor.id(), limit);
+    }
+    
+    // pageSize + 1건을 읽어 다음 페이지 존재 여부를 판단
+    private CursorPageResponse<ReviewResponse> toPage(List<Review> reviews, int pageSize) {
+        boolean hasNext = reviews.size() > pageSize;
+        List<Review> page = hasNext ? reviews.subList(0, pageSize) : reviews;
+        String nextCursor = hasNext ? ReviewCursor.of(page.get(page.size() - 1)).encode() : null;
+        return CursorPageResponse.of(
+                page.stream().map(ReviewResponse::from).collect(Collectors.toList()),
+                nextCursor);
+    }
+    
+    private CursorPageResponse<Map<String, Object>> toFieldPage(List<Map<String, Object>> rows,
+                                                              Set<ReviewField> requested, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Map<String, Object>> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Map<String, Object> last = page.get(page.size() - 1);
+            nextCursor = new ReviewCursor(
+                    (LocalDateTime) last.get(ReviewField.CREATED_AT.getName()),
+                    (Long) last.get(ReviewField.ID.getName())).encode();
+        }
+        
+        // 커서 계산용으로만 가져온 키는 응답에서 제외
+        if (!requested.contains(ReviewField.ID) || !requested.contains(ReviewField.CREATED_AT)) {
+            page.forEach(row -> {
+                if (!requested.contains(ReviewField.ID)) {
+                    row.remove(ReviewField.ID.getName());
+                }
+                if (!requested.contains(ReviewField.CREATED_AT)) {
+                    row.remove(ReviewField.CREATED_AT.getName());
+                }
+            });
+        }
+        return CursorPageResponse.of(page, nextCursor);
+    }
+    
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+    
+    // 단건 조회에서만 AI 분석 본문을 함께 읽는다
     public ReviewResponse getReview(Long reviewId) {
+        Review review = reviewRepository.findWithUserAndBookById(reviewId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
+        return ReviewResponse.from(review, reviewAiAnalysisRepository.findById(reviewId).orElse(null));
+    }
+    
+    public long getReviewVersion(Long reviewId) {
+        return reviewRepository.findVersionById(reviewId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
+    }
+    
+    public ReviewAnalysisStatusResponse getAnalysisStatus(Long reviewId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
-        return ReviewResponse.from(review);
+        return ReviewAnalysisStatusResponse.of(
+                review,
+                reviewAiAnalysisRepository.findById(reviewId).orElse(null),
+                aiAnalysisJobService.findLatestJob(reviewId).orElse(null));
     }
     
     @Transactional
@@ -104,6 +257,24 @@ public class ReviewService {
             throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
         
+        recommendationService.deleteForReview(reviewId, review.getBook().getId());
         reviewRepository.delete(review);
+        bookRatingService.removeRating(review.getBook().getId(), review.getRating());
+        eventPublisher.publishEvent(ReviewRatingChangedEvent.removed(userId, review.getBook().getId()));
+        eventPublisher.publishEvent(new ReviewDeletedEvent(reviewId));
+        responseCache.invalidateAfterCommit(CachedResource.REVIEW, reviewId);
+    }
+    
+    // 프론트엔드가 보내는 추천 목록은 JSON 문자열, 형식이 맞지 않으면 추천 없이 저장
+    private List<AiAnalysisResponse.Recommendation> parseRecommendations(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("추천 도서 JSON 파싱 실패, 추천 없이 저장합니다: {}", e.getOriginalMessage());
+            return List.of();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.bookllm.domain.review.service;
+
+import com.bookllm.domain.review.event.ReviewRatingChangedEvent;
+import com.bookllm.domain.review.repository.ReviewRepository;
+import com.bookllm.global.cache.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.CompletableFuture;
+
+// 사용자별로 리뷰한 도서 id를 메모리에 두어 중복 리뷰 사전 검사를 쿼리 없이 한다
+// 캐시는 힌트일 뿐이고 최종 판정은 (user_id, book_id) 유니크 제약이 한다
+// - "없음"이 틀리면(다른 인스턴스에서 방금 작성) insert가 유니크 위반으로 막힌다
+// - "있음"이 틀리면(다른 인스턴스에서 방금 삭제) 호출하는 쪽이 exists 쿼리로 한 번 더 확인한다
+@Component
+public class ReviewedBookCache {
+    
+    private final ReviewRepository reviewRepository;
+    private final AsyncCache<Long, ReviewedBookIds> cache;
+    
+    public ReviewedBookCache(ReviewRepository reviewRepository, ReviewedBookCacheProperties properties) {
+        this.reviewRepository = reviewRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxUsers())
+                .expireAfterAccess(properties.getTtl())
+                .buildAsync();
+    }
+    
+    public boolean mightHaveReviewed(Long userId, Long bookId) {
+        return CacheLoads.getOrLoad(cache, userId, id -> ReviewedBookIds.of(reviewRepository.findBookIdsByUserId(id)))
+                .contains(bookId);
+    }
+    
+    public void evict(Long userId) {
+        cache.synchronous().invalidate(userId);
+    }
+    
+    // 이미 캐시된 사용자만 고친다, 없으면 다음 조회 때 DB에서 읽으므로 그대로 둔다
+    // 로딩 중인 항목은 커밋 전 목록을 읽었을 수 있으므로 고치지 않고 버린다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRatingChanged(ReviewRatingChangedEvent event) {
+        cache.asMap().computeIfPresent(event.userId(), (userId, future) -> {
+            ReviewedBookIds ids = future.getNow(null);
+            if (ids == null) {
+                return null;
+            }
+            return CompletableFuture.completedFuture(
+                    event.removed() ? ids.without(event.bookId()) : ids.with(event.bookId()));
+        });
+    }
+}
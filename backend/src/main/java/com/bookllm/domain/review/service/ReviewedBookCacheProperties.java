@@ -0,0 +1,19 @@
+package com.bookllm.domain.review.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "review.reviewed-books-cache")
+public class ReviewedBookCacheProperties {
+    
+    // 리뷰한 도서 id 집합을 캐시할 사용자 수
+    private long maxUsers = 100_000;
+    
+    // 마지막 접근 후 이 시간이 지나면 버린다 (다른 인스턴스에서 생긴 변경도 이 시간 안에 반영된다)
+    private Duration ttl = Duration.ofMinutes(30);
+}
@@ -0,0 +1,54 @@
+package com.bookllm.domain.review.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// 사용자가 리뷰한 도서 id 집합, 정렬된 long[] 하나로 들고 이분 탐색한다 (Set<Long>의 박싱/노드 비용 없이 id당 8바이트)
+// 불변이며 추가/삭제는 새 인스턴스를 돌려준다
+final class ReviewedBookIds {
+    
+    static final ReviewedBookIds EMPTY = new ReviewedBookIds(new long[0]);
+    
+    private final long[] sortedIds;
+    
+    private ReviewedBookIds(long[] sortedIds) {
+        this.sortedIds = sortedIds;
+    }
+    
+    static ReviewedBookIds of(Collection<Long> bookIds) {
+        long[] ids = bookIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return ids.length == 0 ? EMPTY : new ReviewedBookIds(ids);
+    }
+    
+    boolean contains(long bookId) {
+        return Arrays.binarySearch(sortedIds, bookId) >= 0;
+    }
+    
+    ReviewedBookIds with(long bookId) {
+        int position = Arrays.binarySearch(sortedIds, bookId);
+        if (position >= 0) {
+            return this;
+        }
+        int insertAt = -position - 1;
+        long[] next = new long[sortedIds.length + 1];
+        System.arraycopy(sortedIds, 0, next, 0, insertAt);
+        next[insertAt] = bookId;
+        System.arraycopy(sortedIds, insertAt, next, insertAt + 1, sortedIds.length - insertAt);
+        return new ReviewedBookIds(next);
+    }
+    
+    ReviewedBookIds without(long bookId) {
+        int position = Arrays.binarySearch(sortedIds, bookId);
+        if (position < 0) {
+            return this;
+        }
+        long[] next = new long[sortedIds.length - 1];
+        System.arraycopy(sortedIds, 0, next, 0, position);
+        System.arraycopy(sortedIds, position + 1, next, position, sortedIds.length - position - 1);
+        return new ReviewedBookIds(next);
+    }
+    
+    int size() {
+        return sortedIds.length;
+    }
+}
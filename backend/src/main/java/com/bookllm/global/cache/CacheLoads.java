@@ -0,0 +1,46 @@
+package com.bookllm.global.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+// DB를 읽는 캐시 로더를 호출한 스레드에서 실행한다
+// Cache.get(key, loader)는 ConcurrentHashMap.compute 안(synchronized)에서 로더를 돌리므로
+// 가상 스레드가 JDBC 응답을 기다리는 동안 캐리어 스레드를 붙잡는다(pinning)
+// 여기서는 빈 future만 맵에 넣고 로딩은 락 밖에서 하며, 같은 키를 기다리는 쪽은 future에서 park 한다
+// 로딩 중 invalidate되면 future가 맵에서 빠지므로 다음 조회는 새로 읽는다
+public final class CacheLoads {
+    
+    private CacheLoads() {
+    }
+    
+    public static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            V value = loader.apply(key);
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+    
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
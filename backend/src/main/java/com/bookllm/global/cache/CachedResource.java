@@ -0,0 +1,7 @@
+package com.bookllm.global.cache;
+
+// 응답 캐시에 담는 단건 조회 종류, 종류별로 전체 무효화할 수 있다
+public enum CachedResource {
+    REVIEW,
+    BOOK
+}
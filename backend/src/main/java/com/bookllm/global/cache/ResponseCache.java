@@ -0,0 +1,149 @@
+package com.bookllm.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 리뷰/도서 단건 조회 응답을 직렬화된 JSON 바이트로 보관하는 read-through 캐시
+// 적중하면 엔티티 로딩도 JSON 인코딩도 하지 않고 바이트를 그대로 내려준다
+// 무효화는 커밋 이후 키의 버전을 올리는 방식이라, 로딩 도중 버전이 바뀐 응답은 넣지 않고
+// 이미 들어간 항목도 버전이 다르면 적중으로 치지 않는다 (무효화와 늦게 끝난 로딩이 엇갈려도 옛 값이 남지 않음)
+// 호출자가 넘기는 엔티티 버전(@Version)보다 오래된 항목도 적중으로 치지 않아, 커밋 직후 무효화 전의 틈에도
+// ETag보다 옛 본문을 내려주지 않는다
+@Component
+public class ResponseCache {
+    
+    // 키별 버전은 해시 스트라이프로 공유한다, 충돌하면 다른 키까지 한 번 더 읽을 뿐 틀린 값을 주지는 않는다
+    private static final int VERSION_STRIPES = 1 << 12;
+    // 키 객체와 Caffeine 노드 크기 대략치
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    
+    private final ResponseCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Entry> cache;
+    
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLongArray generations = new AtomicLongArray(CachedResource.values().length);
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleRejections = new LongAdder();
+    
+    public ResponseCache(ResponseCacheProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxBytes())
+                .weigher((Key key, Entry entry) -> entry.json().length + ENTRY_OVERHEAD_BYTES)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+    
+    // sourceVersion은 loader를 부르기 전에 읽은 엔티티 버전, loader가 읽는 본문은 그 이상이다
+    // loader가 던진 예외(없는 리뷰 등)는 그대로 전파되고 캐시에 남지 않는다
+    public byte[] get(CachedResource resource, long id, long sourceVersion, Supplier<?> loader) {
+        if (!properties.isEnabled()) {
+            return toJson(loader.get());
+        }
+        
+        Key key = new Key(resource, id);
+        long version = versionOf(key);
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && entry.version() == version && entry.sourceVersion() >= sourceVersion) {
+            hits.increment();
+            return entry.json();
+        }
+        
+        misses.increment();
+        byte[] json = toJson(loader.get());
+        if (versionOf(key) == version) {
+            cache.put(key, new Entry(version, sourceVersion, json));
+        } else {
+            staleRejections.increment();
+        }
+        return json;
+    }
+    
+    // 트랜잭션 안이면 커밋 이후에, 아니면 바로 무효화한다
+    // 커밋 전에 지우면 다른 요청이 아직 커밋되지 않은 옛 행을 다시 캐시에 넣을 수 있다
+    public void invalidateAfterCommit(CachedResource resource, long id) {
+        afterCommit(() -> invalidate(resource, id));
+    }
+    
+    public void invalidateAllAfterCommit(CachedResource resource) {
+        afterCommit(() -> invalidateAll(resource));
+    }
+    
+    public void invalidate(CachedResource resource, long id) {
+        Key key = new Key(resource, id);
+        versions.incrementAndGet(stripeOf(key));
+        cache.invalidate(key);
+    }
+    
+    public void invalidateAll(CachedResource resource) {
+        generations.incrementAndGet(resource.ordinal());
+        cache.asMap().keySet().removeIf(key -> key.resource() == resource);
+    }
+    
+    public ResponseCacheStats stats() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return ResponseCacheStats.builder()
+                .size(cache.estimatedSize())
+                .weightBytes(cache.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .hits(hitCount)
+                .misses(misses.sum())
+                .staleRejections(staleRejections.sum())
+                .evictions(cache.stats().evictionCount())
+                .hitRatio(total == 0 ? 0.0 : (double) hitCount / total)
+                .build();
+    }
+    
+    // 두 카운터 모두 증가만 하므로 합이 같으면 둘 다 그대로다
+    private long versionOf(Key key) {
+        return versions.get(stripeOf(key)) + generations.get(key.resource().ordinal());
+    }
+    
+    private static int stripeOf(Key key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+    
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private record Key(CachedResource resource, long id) {
+    }
+    
+    private record Entry(long version, long sourceVersion, byte[] json) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.bookllm.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheProperties {
+    
+    private boolean enabled = true;
+    
+    // 직렬화된 JSON 바이트 합계 상한, 넘으면 W-TinyLFU로 축출
+    private long maxBytes = 64L * 1024 * 1024;
+    
+    // 무효화 경로가 없는 변경(닉네임 등)이 남아 있을 수 있는 최대 시간
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,21 @@
+package com.bookllm.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResponseCacheStats {
+    private long size;
+    private long weightBytes;
+    private long hits;
+    private long misses;
+    // 로딩 중에 무효화되어 캐시에 넣지 않은 응답 수
+    private long staleRejections;
+    private long evictions;
+    private double hitRatio;
+}
@@ -0,0 +1,58 @@
+package com.bookllm.global.config;
+
+import com.bookllm.infrastructure.ai.AiServiceProperties;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class AiWebClientConfig {
+    
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiConnectionProvider(AiServiceProperties properties) {
+        AiServiceProperties.Pool pool = properties.getPool();
+        return ConnectionProvider.builder("ai-service")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .lifo()
+                .build();
+    }
+    
+    @Bean
+    public WebClient aiWebClient(WebClient.Builder webClientBuilder,
+                                 ConnectionProvider aiConnectionProvider,
+                                 AiServiceProperties properties) {
+        AiServiceProperties.Timeout timeout = properties.getTimeout();
+        
+        HttpClient httpClient = HttpClient.create(aiConnectionProvider)
+                .protocol(properties.isHttp2Enabled()
+                        ? new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .keepAlive(true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeout.getConnect().toMillis())
+                .responseTimeout(timeout.getResponse())
+                // 요청 단위 핸들러는 커넥션이 풀로 반환될 때 제거되므로 유휴 커넥션을 끊지 않는다
+                .doOnRequest((request, connection) -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(timeout.getRead().toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(timeout.getWrite().toMillis(), TimeUnit.MILLISECONDS)));
+        
+        return webClientBuilder
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
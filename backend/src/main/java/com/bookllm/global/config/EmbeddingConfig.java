@@ -0,0 +1,19 @@
+package com.bookllm.global.config;
+
+import com.bookllm.infrastructure.embedding.Embedder;
+import com.bookllm.infrastructure.embedding.EmbeddingProperties;
+import com.bookllm.infrastructure.embedding.HashingEmbedder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EmbeddingConfig {
+    
+    // 다른 Embedder 빈(예: ai-service 임베딩 API 호출)이 있으면 그쪽을 쓴다
+    @Bean
+    @ConditionalOnMissingBean(Embedder.class)
+    public Embedder hashingEmbedder(EmbeddingProperties properties) {
+        return new HashingEmbedder(properties.getDimension());
+    }
+}
@@ -0,0 +1,81 @@
+package com.bookllm.global.config;
+
+import com.bookllm.global.cache.ResponseCache;
+import com.bookllm.global.query.QueryCountFilter;
+import com.bookllm.infrastructure.ai.cache.AiAnalysisCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 관리자 API(/api/admin/*)로만 보이던 캐시/쿼리 카운터를 Micrometer 미터로도 내보낸다
+// 값은 스크레이프 시점에 stats()에서 읽으므로 요청 경로에는 비용이 없다
+@Configuration
+public class MetricsConfig {
+    
+    @Bean
+    public MeterBinder responseCacheMetrics(ResponseCache responseCache) {
+        return registry -> {
+            Gauge.builder("response.cache.size", responseCache, cache -> cache.stats().getSize())
+                    .description("캐시된 응답 수")
+                    .register(registry);
+            Gauge.builder("response.cache.weight", responseCache, cache -> cache.stats().getWeightBytes())
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("response.cache.requests", responseCache, cache -> cache.stats().getHits())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("response.cache.requests", responseCache, cache -> cache.stats().getMisses())
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("response.cache.stale.rejections", responseCache,
+                            cache -> cache.stats().getStaleRejections())
+                    .description("로딩 중 무효화되어 캐시에 넣지 않은 응답 수")
+                    .register(registry);
+            FunctionCounter.builder("response.cache.evictions", responseCache, cache -> cache.stats().getEvictions())
+                    .register(registry);
+        };
+    }
+    
+    @Bean
+    public MeterBinder aiAnalysisCacheMetrics(AiAnalysisCache aiAnalysisCache) {
+        return registry -> {
+            Gauge.builder("ai.analysis.cache.size", aiAnalysisCache, cache -> cache.stats().getSize())
+                    .register(registry);
+            FunctionCounter.builder("ai.analysis.cache.requests", aiAnalysisCache,
+                            cache -> cache.stats().getMemoryHits())
+                    .tag("result", "memory_hit")
+                    .register(registry);
+            FunctionCounter.builder("ai.analysis.cache.requests", aiAnalysisCache,
+                            cache -> cache.stats().getPersistentHits())
+                    .tag("result", "persistent_hit")
+                    .register(registry);
+            FunctionCounter.builder("ai.analysis.cache.requests", aiAnalysisCache, cache -> cache.stats().getMisses())
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("ai.analysis.cache.evictions", aiAnalysisCache,
+                            cache -> cache.stats().getEvictions())
+                    .register(registry);
+        };
+    }
+    
+    @Bean
+    public MeterBinder queryBudgetMetrics(QueryCountFilter queryCountFilter) {
+        return registry -> {
+            FunctionCounter.builder("query.budget.requests", queryCountFilter, filter -> filter.stats().getRequests())
+                    .description("SQL 실행 횟수를 센 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("query.budget.statements", queryCountFilter,
+                            filter -> filter.stats().getStatements())
+                    .description("요청 처리 중 실행된 SQL 문 수")
+                    .register(registry);
+            FunctionCounter.builder("query.budget.exceeded", queryCountFilter, filter -> filter.stats().getExceeded())
+                    .description("SQL 실행 횟수 예산을 넘긴 요청 수 (N+1 의심)")
+                    .register(registry);
+            Gauge.builder("query.budget.max.per.request", queryCountFilter,
+                            filter -> filter.stats().getMaxPerRequest())
+                    .register(registry);
+        };
+    }
+}
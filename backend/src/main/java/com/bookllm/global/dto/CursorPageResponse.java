@@ -0,0 +1,20 @@
+package com.bookllm.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+    
+    public static <T> CursorPageResponse<T> of(List<T> items, String nextCursor) {
+        return new CursorPageResponse<>(items, nextCursor, nextCursor != null);
+    }
+}
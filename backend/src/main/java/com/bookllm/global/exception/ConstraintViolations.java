@@ -0,0 +1,25 @@
+package com.bookllm.global.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+// 무결성 위반 중 특정 제약(유니크 키 등)에 걸린 것만 골라 비즈니스 예외로 바꿀 때 쓴다
+// MySQL은 제약 이름을 "reviews.uk_reviews_user_book"처럼, H2는 대문자로 돌려주므로 포함 여부로 비교
+public final class ConstraintViolations {
+    
+    private ConstraintViolations() {
+    }
+    
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(expected);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(expected);
+    }
+}
@@ -14,6 +14,7 @@ public enum ErrorCode {
     
     // Book
     BOOK_NOT_FOUND(HttpStatus.NOT_FOUND, "책을 찾을 수 없습니다"),
+    BOOK_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 등록된 책입니다"),
     
     // Review
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "리뷰를 찾을 수 없습니다"),
@@ -29,7 +30,9 @@ public enum ErrorCode {
     
     // General
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다"),
-    BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다");
+    BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다"),
+    INVALID_FIELDS(HttpStatus.BAD_REQUEST, "잘못된 필드 목록입니다");
     
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,43 @@
+package com.bookllm.global.exception;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e, HttpServletRequest request) {
+        ErrorCode errorCode = e.getErrorCode();
+        // SSE 요청에는 JSON 본문을 쓸 수 없으므로(406) 상태 코드만 보낸다
+        if (acceptsOnlyEventStream(request)) {
+            return ResponseEntity.status(errorCode.getStatus()).build();
+        }
+        return ResponseEntity.status(errorCode.getStatus())
+                .body(ErrorResponse.of(errorCode, e.getMessage()));
+    }
+    
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException e) {
+        String message = e.getBindingResult().getFieldErrors().stream()
+                .findFirst()
+                .map(FieldError::getDefaultMessage)
+                .orElse(ErrorCode.BAD_REQUEST.getMessage());
+        return ResponseEntity.status(ErrorCode.BAD_REQUEST.getStatus())
+                .body(ErrorResponse.of(ErrorCode.BAD_REQUEST, message));
+    }
+    
+    private static boolean acceptsOnlyEventStream(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && MediaType.parseMediaTypes(accept).stream()
+                .allMatch(MediaType.TEXT_EVENT_STREAM::equalsTypeAndSubtype);
+    }
+}
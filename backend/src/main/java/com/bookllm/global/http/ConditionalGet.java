@@ -0,0 +1,60 @@
+package com.bookllm.global.http;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+// 엔티티 @Version으로 만든 ETag로 조건부 GET을 처리한다
+// 버전만 읽는 쿼리로 304를 판단하므로 바뀌지 않은 요청은 본문 로딩도 직렬화도 하지 않는다
+// 버전을 올리지 않는 표시 값(작성자 닉네임 등)이 있어 바이트 동일성을 약속하지 않는 약한 태그를 쓴다
+@Component
+@RequiredArgsConstructor
+public class ConditionalGet {
+    
+    private final HttpCacheProperties properties;
+    
+    // 호출자는 본문보다 버전을 먼저 읽어야 한다, 그래야 태그가 본문보다 새것이 되는 일이 없다
+    public ResponseEntity<byte[]> respond(String ifNoneMatch, long version, Supplier<byte[]> body) {
+        String etag = etagOf(version);
+        CacheControl cacheControl = CacheControl.maxAge(properties.getMaxAge()).mustRevalidate();
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.get());
+    }
+    
+    static String etagOf(long version) {
+        return "W/\"" + version + "\"";
+    }
+    
+    // If-None-Match는 약한 비교: W/ 접두어를 떼고 따옴표 안의 값이 같으면 일치
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String target = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals("*") || opaqueTag(tag).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,16 @@
+package com.bookllm.global.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-cache")
+public class HttpCacheProperties {
+    
+    // 0이면 클라이언트가 매번 If-None-Match로 재검증한다 (바뀌지 않았으면 304로 본문 없이)
+    private Duration maxAge = Duration.ZERO;
+}
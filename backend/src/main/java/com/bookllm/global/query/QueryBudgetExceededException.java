@@ -0,0 +1,8 @@
+package com.bookllm.global.query;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    
+    public QueryBudgetExceededException(String request, int count, int budget) {
+        super("SQL 실행 횟수 예산 초과: " + request + " - " + count + "회 (예산 " + budget + "회)");
+    }
+}
@@ -0,0 +1,19 @@
+package com.bookllm.global.query;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+    
+    private boolean enabled = true;
+    
+    // 요청 하나가 실행할 수 있는 SQL 수 상한, 넘으면 N+1 의심으로 경고
+    private int maxStatements = 10;
+    
+    // 테스트 프로필에서 켜서 예산 초과를 실패로 만든다
+    private boolean failOnExceed = false;
+}
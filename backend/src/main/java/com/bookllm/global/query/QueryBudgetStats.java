@@ -0,0 +1,19 @@
+package com.bookllm.global.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QueryBudgetStats {
+    private int budget;
+    private long requests;
+    private long statements;
+    private long exceeded;
+    private long maxPerRequest;
+    private double averagePerRequest;
+}
@@ -0,0 +1,85 @@
+package com.bookllm.global.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// 요청 단위로 SQL 실행 횟수를 세고 예산 초과를 기록한다
+// 응답 헤더는 본문 직렬화 직전에 QueryCountHeaderAdvice가, 본문 없는 응답은 여기서 채운다
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+    
+    public static final String HEADER = "X-Query-Count";
+    
+    private final QueryBudgetProperties properties;
+    
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder exceeded = new LongAdder();
+    private final LongAccumulator maxPerRequest = new LongAccumulator(Math::max, 0);
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCountHolder.start();
+        int count;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            count = QueryCountHolder.stop();
+            record(count);
+        }
+        
+        if (!response.isCommitted()) {
+            response.setHeader(HEADER, String.valueOf(count));
+        }
+        
+        if (count > properties.getMaxStatements()) {
+            exceeded.increment();
+            String target = request.getMethod() + " " + request.getRequestURI();
+            if (properties.isFailOnExceed()) {
+                throw new QueryBudgetExceededException(target, count, properties.getMaxStatements());
+            }
+            log.warn("SQL 실행 횟수 예산 초과 (N+1 의심): {} - {}회 (예산 {}회)",
+                    target, count, properties.getMaxStatements());
+        }
+    }
+    
+    private void record(int count) {
+        requests.increment();
+        statements.add(count);
+        maxPerRequest.accumulate(count);
+    }
+    
+    public QueryBudgetStats stats() {
+        long requestCount = requests.sum();
+        long statementCount = statements.sum();
+        return QueryBudgetStats.builder()
+                .budget(properties.getMaxStatements())
+                .requests(requestCount)
+                .statements(statementCount)
+                .exceeded(exceeded.sum())
+                .maxPerRequest(maxPerRequest.get())
+                .averagePerRequest(requestCount == 0 ? 0.0 : (double) statementCount / requestCount)
+                .build();
+    }
+}
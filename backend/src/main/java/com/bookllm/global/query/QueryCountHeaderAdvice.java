@@ -0,0 +1,30 @@
+package com.bookllm.global.query;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 본문을 쓰기 시작하면 헤더를 더 붙일 수 없으므로 직렬화 직전에 현재 실행 횟수를 싣는다
+@RestControllerAdvice
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        int count = QueryCountHolder.current();
+        if (count >= 0) {
+            response.getHeaders().set(QueryCountFilter.HEADER, String.valueOf(count));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,34 @@
+package com.bookllm.global.query;
+
+// 요청 스레드별 SQL 실행 횟수
+// start()가 호출된 스레드에서만 센다 (스케줄러/워커 스레드는 대상 아님)
+public final class QueryCountHolder {
+    
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+    
+    private QueryCountHolder() {
+    }
+    
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+    
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+    
+    // 측정 중이 아니면 -1
+    public static int current() {
+        int[] count = COUNT.get();
+        return count != null ? count[0] : -1;
+    }
+    
+    public static int stop() {
+        int count = current();
+        COUNT.remove();
+        return count;
+    }
+}
@@ -0,0 +1,13 @@
+package com.bookllm.global.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 준비하는 모든 SQL을 가로채 현재 요청의 실행 횟수를 올린다
+public class QueryCountInspector implements StatementInspector {
+    
+    @Override
+    public String inspect(String sql) {
+        QueryCountHolder.increment();
+        return sql;
+    }
+}
@@ -0,0 +1,199 @@
+package com.bookllm.infrastructure.ai;
+
+import com.bookllm.infrastructure.ai.dto.AiAnalysisRequest;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// 짧은 윈도우 동안 들어온 분석 요청을 모아 배치 엔드포인트로 한 번에 보내고
+// review_id 기준으로 결과를 각 호출자에게 돌려준다
+@Slf4j
+class AiAnalysisBatcher implements AutoCloseable {
+    
+    private final AiServiceProperties.Batch config;
+    private final Function<List<AiAnalysisRequest>, Mono<List<AiAnalysisResponse>>> batchCall;
+    private final Function<AiAnalysisRequest, Mono<AiAnalysisResponse>> singleCall;
+    private final ScheduledExecutorService timer;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Pending> buffer = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    
+    // 배치 엔드포인트가 없다고 판단한 시각, 0이면 사용 가능
+    private volatile long batchUnavailableSince;
+    
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedItems = new LongAdder();
+    private final LongAdder singleFallbacks = new LongAdder();
+    // 한 번에 내보낸 요청 수 (윈도우에 모인 요청 수), 개별 호출로 나간 경우도 포함
+    private final DistributionSummary batchSizes;
+    
+    AiAnalysisBatcher(AiServiceProperties.Batch config,
+                      Function<List<AiAnalysisRequest>, Mono<List<AiAnalysisResponse>>> batchCall,
+                      Function<AiAnalysisRequest, Mono<AiAnalysisResponse>> singleCall,
+                      DistributionSummary batchSizes) {
+        this.config = config;
+        this.batchCall = batchCall;
+        this.singleCall = singleCall;
+        this.batchSizes = batchSizes;
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("ai-batch-flush").daemon().factory());
+    }
+    
+    Mono<AiAnalysisResponse> submit(AiAnalysisRequest request) {
+        return Mono.defer(() -> {
+            Pending pending = new Pending(request, new CompletableFuture<>());
+            enqueue(pending);
+            return Mono.fromFuture(pending.future());
+        });
+    }
+    
+    private void enqueue(Pending pending) {
+        List<Pending> ready = null;
+        lock.lock();
+        try {
+            buffer.add(pending);
+            if (buffer.size() >= config.getMaxSize()) {
+                ready = drain();
+            } else if (buffer.size() == 1) {
+                scheduledFlush = timer.schedule(this::flush, config.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+    }
+    
+    private void flush() {
+        List<Pending> ready;
+        lock.lock();
+        try {
+            ready = drain();
+        } finally {
+            lock.unlock();
+        }
+        if (!ready.isEmpty()) {
+            dispatch(ready);
+        }
+    }
+    
+    // lock을 잡은 상태에서만 호출
+    private List<Pending> drain() {
+        List<Pending> ready = buffer;
+        buffer = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return ready;
+    }
+    
+    private void dispatch(List<Pending> ready) {
+        batchSizes.record(ready.size());
+        
+        if (ready.size() == 1 || !isBatchEndpointAvailable()) {
+            ready.forEach(this::callSingle);
+            return;
+        }
+        
+        batches.increment();
+        batchedItems.add(ready.size());
+        batchCall.apply(ready.stream().map(Pending::request).toList())
+                .subscribe(
+                        responses -> fanOut(ready, responses),
+                        error -> onBatchError(ready, error));
+    }
+    
+    private void fanOut(List<Pending> ready, List<AiAnalysisResponse> responses) {
+        Map<Long, AiAnalysisResponse> byReviewId = new HashMap<>();
+        for (AiAnalysisResponse response : responses) {
+            if (response != null && response.getReviewId() != null) {
+                byReviewId.put(response.getReviewId(), response);
+            }
+        }
+        
+        for (Pending pending : ready) {
+            AiAnalysisResponse response = byReviewId.get(pending.request().getReviewId());
+            if (response != null) {
+                pending.future().complete(response);
+            } else {
+                // 배치 응답에 빠진 항목은 개별 호출로 보완
+                callSingle(pending);
+            }
+        }
+    }
+    
+    private void onBatchError(List<Pending> ready, Throwable error) {
+        if (isEndpointMissing(error)) {
+            log.info("AI 서비스에 배치 엔드포인트가 없어 개별 호출로 전환합니다");
+            batchUnavailableSince = System.nanoTime();
+            ready.forEach(this::callSingle);
+            return;
+        }
+        ready.forEach(pending -> pending.future().completeExceptionally(error));
+    }
+    
+    private void callSingle(Pending pending) {
+        singleFallbacks.increment();
+        singleCall.apply(pending.request())
+                .subscribe(pending.future()::complete, pending.future()::completeExceptionally,
+                        () -> pending.future().complete(AiAnalysisResponse.empty()));
+    }
+    
+    private boolean isBatchEndpointAvailable() {
+        if (batchUnavailableSince != 0 && isBatching()) {
+            batchUnavailableSince = 0;
+        }
+        return isBatching();
+    }
+    
+    // 배치 엔드포인트로 보낼 수 있는지 (없다고 판단했어도 reprobeInterval이 지났으면 다시 시도한다)
+    boolean isBatching() {
+        long since = batchUnavailableSince;
+        return since == 0 || System.nanoTime() - since > config.getReprobeInterval().toNanos();
+    }
+    
+    private static boolean isEndpointMissing(Throwable error) {
+        return error instanceof WebClientResponseException e
+                && (e.getStatusCode() == HttpStatus.NOT_FOUND
+                || e.getStatusCode() == HttpStatus.METHOD_NOT_ALLOWED
+                || e.getStatusCode() == HttpStatus.NOT_IMPLEMENTED);
+    }
+    
+    Stats stats() {
+        return new Stats(batches.sum(), batchedItems.sum(), singleFallbacks.sum());
+    }
+    
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+    
+    private record Pending(AiAnalysisRequest request, CompletableFuture<AiAnalysisResponse> future) {
+    }
+    
+    record Stats(long batches, long batchedItems, long singleCalls) {
+        
+        double averageBatchSize() {
+            return batches == 0 ? 0.0 : (double) batchedItems / batches;
+        }
+    }
+}
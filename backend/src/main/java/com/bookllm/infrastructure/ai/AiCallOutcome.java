@@ -0,0 +1,10 @@
+package com.bookllm.infrastructure.ai;
+
+// AI 호출 한 번의 결과를 동시성 한도/서킷 브레이커 입장에서 분류한 것
+// OVERLOADED: 타임아웃, 5xx, 429, 연결 실패처럼 ai-service가 버거워한다는 신호
+// IGNORED   : 4xx나 호출 취소처럼 ai-service 상태와 무관한 결과
+enum AiCallOutcome {
+    SUCCESS,
+    OVERLOADED,
+    IGNORED
+}
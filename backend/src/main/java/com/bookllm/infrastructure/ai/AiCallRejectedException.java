@@ -0,0 +1,16 @@
+package com.bookllm.infrastructure.ai;
+
+import lombok.Getter;
+
+// 동시성 한도나 서킷 브레이커 때문에 ai-service로 보내지 않은 호출
+// reason = queue_full | queue_timeout | circuit_open
+@Getter
+class AiCallRejectedException extends RuntimeException {
+    
+    private final String reason;
+    
+    AiCallRejectedException(String reason) {
+        super("AI 호출 거절: " + reason, null, false, false);
+        this.reason = reason;
+    }
+}
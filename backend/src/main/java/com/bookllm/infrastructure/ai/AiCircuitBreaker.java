@@ -0,0 +1,167 @@
+package com.bookllm.infrastructure.ai;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// 최근 windowSize건 중 과부하(타임아웃/5xx/연결 실패) 비율이 failureRateThreshold 이상이면 열고
+// openDuration 동안은 호출하지 않고 바로 거절한다, 그 뒤 halfOpenCalls건을 시험 삼아 보내
+// 모두 성공하면 닫고 하나라도 실패하면 다시 연다
+class AiCircuitBreaker {
+    
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+    
+    private final AiServiceProperties.CircuitBreaker config;
+    private final LongSupplier nanoClock;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] window;
+    private int recorded;
+    private int next;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+    
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    
+    AiCircuitBreaker(AiServiceProperties.CircuitBreaker config) {
+        this(config, System::nanoTime);
+    }
+    
+    AiCircuitBreaker(AiServiceProperties.CircuitBreaker config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[config.getWindowSize()];
+    }
+    
+    // true면 호출해도 된다, 호출이 끝나면 record()로 결과를 알려야 한다
+    boolean tryAcquire() {
+        if (!config.isEnabled()) {
+            return true;
+        }
+        lock.lock();
+        try {
+            moveToHalfOpenIfDue();
+            boolean permitted = switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> probesInFlight + probeSuccesses < config.getHalfOpenCalls();
+            };
+            if (!permitted) {
+                rejections.increment();
+            } else if (state == State.HALF_OPEN) {
+                probesInFlight++;
+            }
+            return permitted;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    void record(AiCallOutcome outcome) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                recordProbe(outcome);
+            } else if (state == State.CLOSED && outcome != AiCallOutcome.IGNORED) {
+                recordClosed(outcome == AiCallOutcome.OVERLOADED);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void recordProbe(AiCallOutcome outcome) {
+        probesInFlight = Math.max(0, probesInFlight - 1);
+        switch (outcome) {
+            case SUCCESS -> {
+                if (++probeSuccesses >= config.getHalfOpenCalls()) {
+                    close();
+                }
+            }
+            case OVERLOADED -> open();
+            case IGNORED -> {
+            }
+        }
+    }
+    
+    private void recordClosed(boolean failure) {
+        if (recorded == window.length) {
+            failures -= window[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        failures += failure ? 1 : 0;
+        next = (next + 1) % window.length;
+        
+        if (recorded >= config.getMinimumCalls() && failures >= recorded * config.getFailureRateThreshold()) {
+            open();
+        }
+    }
+    
+    private void open() {
+        state = State.OPEN;
+        openedNanos = nanoClock.getAsLong();
+        opened.increment();
+    }
+    
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+    
+    private void moveToHalfOpenIfDue() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedNanos >= config.getOpenDuration().toNanos()) {
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+    }
+    
+    // 지금 보내도 거절되지 않을 호출 수, 닫혀 있으면 제한 없음
+    int available() {
+        if (!config.isEnabled()) {
+            return Integer.MAX_VALUE;
+        }
+        lock.lock();
+        try {
+            moveToHalfOpenIfDue();
+            return switch (state) {
+                case CLOSED -> Integer.MAX_VALUE;
+                case OPEN -> 0;
+                case HALF_OPEN -> Math.max(0, config.getHalfOpenCalls() - probesInFlight - probeSuccesses);
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    State state() {
+        lock.lock();
+        try {
+            moveToHalfOpenIfDue();
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    long openedCount() {
+        return opened.sum();
+    }
+    
+    long rejectionCount() {
+        return rejections.sum();
+    }
+}
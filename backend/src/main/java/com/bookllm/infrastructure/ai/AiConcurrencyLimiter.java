@@ -0,0 +1,207 @@
+package com.bookllm.infrastructure.ai;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// ai-service로 동시에 보내는 호출 수 한도를 응답 시간을 보고 조절한다 (AIMD)
+// - 한도 안이면 바로 허가, 넘으면 maxQueue까지 queueTimeout 동안 기다리고 자리가 없으면 바로 거절한다
+// - 최근 응답 시간(단기 평균)이 평소(장기 평균) × latencyTolerance를 넘거나 과부하 신호가 오면
+//   한도를 backoffRatio배로 줄인다, 한 번 줄인 뒤 최근 응답 시간만큼은 다시 줄이지 않는다
+// - 한도의 절반 이상을 쓰는 중에 정상 응답이 오면 1/limit씩 늘린다 (응답 시간 한 번에 약 1)
+// 응답 시간 하나하나가 아니라 평균을 비교하므로 LLM의 긴 꼬리 지연 몇 건으로는 한도가 줄지 않는다
+class AiConcurrencyLimiter {
+    
+    // 단기 평균은 최근 10건 정도, 장기 평균은 최근 100건 정도를 반영한다
+    private static final double SHORT_RTT_WEIGHT = 0.2;
+    private static final double LONG_RTT_WEIGHT = 0.02;
+    private static final int MIN_SAMPLES = 10;
+    
+    private final AiServiceProperties.Limiter config;
+    private final LongSupplier nanoClock;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long samples;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private long lastDecreaseNanos;
+    private boolean decreased;
+    
+    private final LongAdder queueFullRejections = new LongAdder();
+    private final LongAdder queueTimeoutRejections = new LongAdder();
+    
+    AiConcurrencyLimiter(AiServiceProperties.Limiter config) {
+        this(config, System::nanoTime);
+    }
+    
+    AiConcurrencyLimiter(AiServiceProperties.Limiter config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.limit = Math.clamp(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit());
+    }
+    
+    // 허가를 받으면 호출이 끝날 때 Permit.release()로 결과를 알려야 한다
+    Mono<Permit> acquire() {
+        return Mono.defer(() -> {
+            CompletableFuture<Permit> waiter;
+            lock.lock();
+            try {
+                if (!config.isEnabled() || inFlight < currentLimit()) {
+                    inFlight++;
+                    return Mono.just(new Permit());
+                }
+                if (waiters.size() >= config.getMaxQueue()) {
+                    queueFullRejections.increment();
+                    return Mono.error(new AiCallRejectedException("queue_full"));
+                }
+                waiter = new CompletableFuture<>();
+                waiters.add(waiter);
+            } finally {
+                lock.unlock();
+            }
+            return await(waiter);
+        });
+    }
+    
+    private Mono<Permit> await(CompletableFuture<Permit> waiter) {
+        waiter.orTimeout(config.getQueueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        return Mono.fromFuture(waiter, true)
+                .onErrorMap(TimeoutException.class, e -> {
+                    removeWaiter(waiter);
+                    queueTimeoutRejections.increment();
+                    return new AiCallRejectedException("queue_timeout");
+                })
+                // 취소와 허가가 엇갈려 이미 받은 허가는 돌려준다
+                .doOnCancel(() -> {
+                    if (waiter.cancel(false)) {
+                        removeWaiter(waiter);
+                    } else if (!waiter.isCompletedExceptionally()) {
+                        waiter.join().release(AiCallOutcome.IGNORED);
+                    }
+                });
+    }
+    
+    private void removeWaiter(CompletableFuture<Permit> waiter) {
+        lock.lock();
+        try {
+            waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void onRelease(AiCallOutcome outcome, long rttNanos) {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        lock.lock();
+        try {
+            int used = inFlight--;
+            long now = nanoClock.getAsLong();
+            switch (outcome) {
+                case SUCCESS -> {
+                    recordRtt(rttNanos);
+                    if (samples >= MIN_SAMPLES && shortRttNanos > longRttNanos * config.getLatencyTolerance()) {
+                        decrease(now);
+                    } else if (used * 2 >= limit) {
+                        limit = Math.min(config.getMaxLimit(), limit + 1.0 / limit);
+                    }
+                }
+                case OVERLOADED -> decrease(now);
+                case IGNORED -> {
+                }
+            }
+            while (inFlight < currentLimit() && !waiters.isEmpty()) {
+                inFlight++;
+                granted.add(waiters.poll());
+            }
+        } finally {
+            lock.unlock();
+        }
+        
+        // 기다리던 호출은 complete() 안에서 바로 이어서 실행되므로 락 밖에서 깨운다
+        for (CompletableFuture<Permit> waiter : granted) {
+            Permit permit = new Permit();
+            if (!waiter.complete(permit)) {
+                permit.release(AiCallOutcome.IGNORED);
+            }
+        }
+    }
+    
+    private void recordRtt(long rttNanos) {
+        if (samples++ == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_RTT_WEIGHT;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+    }
+    
+    private void decrease(long now) {
+        if (decreased && now - lastDecreaseNanos < shortRttNanos) {
+            return;
+        }
+        limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+        lastDecreaseNanos = now;
+        decreased = true;
+    }
+    
+    private int currentLimit() {
+        return (int) limit;
+    }
+    
+    // 지금 더 보내도 거절되지 않을 호출 수 (한도의 남은 자리 + 대기열의 남은 자리)
+    int available() {
+        if (!config.isEnabled()) {
+            return Integer.MAX_VALUE;
+        }
+        lock.lock();
+        try {
+            int free = Math.max(0, currentLimit() - inFlight);
+            return free + Math.max(0, config.getMaxQueue() - waiters.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(currentLimit(), inFlight, waiters.size(), queueFullRejections.sum(),
+                    queueTimeoutRejections.sum(), Duration.ofNanos((long) longRttNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // 허가 하나, 결과는 한 번만 반영된다 (성공/오류/취소 콜백이 겹쳐도)
+    final class Permit {
+        
+        private final long startedNanos = nanoClock.getAsLong();
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        boolean release(AiCallOutcome outcome) {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            onRelease(outcome, nanoClock.getAsLong() - startedNanos);
+            return true;
+        }
+    }
+    
+    record Stats(int limit, int inFlight, int queued, long queueFullRejections, long queueTimeoutRejections,
+                 Duration averageLatency) {
+    }
+}
@@ -2,33 +2,327 @@ package com.bookllm.infrastructure.ai;
 
 import com.bookllm.domain.book.entity.Book;
 import com.bookllm.domain.review.entity.Review;
+import com.bookllm.infrastructure.ai.cache.AiAnalysisCache;
 import com.bookllm.infrastructure.ai.dto.AiAnalysisRequest;
 import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AiServiceClient {
     
-    private final WebClient.Builder webClientBuilder;
+    private static final String ANALYZE_URI = "/api/v1/reviews/analyze";
+    private static final String ANALYZE_BATCH_URI = "/api/v1/reviews/analyze/batch";
+    private static final String ANALYZE_STREAM_URI = "/api/v1/reviews/analyze/stream";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_EVENT =
+            new ParameterizedTypeReference<>() {};
     
-    @Value("${ai-service.base-url}")
-    private String aiServiceBaseUrl;
+    // 커넥션 풀을 공유하는 단일 클라이언트 (AiWebClientConfig)
+    private final WebClient aiWebClient;
+    private final AiServiceProperties properties;
+    private final AiAnalysisCache cache;
+    private final AiAnalysisBatcher batcher;
+    private final AiConcurrencyLimiter limiter;
+    private final AiCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
     
+    public AiServiceClient(WebClient aiWebClient, AiServiceProperties properties, AiAnalysisCache cache,
+                           MeterRegistry meterRegistry) {
+        this.aiWebClient = aiWebClient;
+        this.properties = properties;
+        this.cache = cache;
+        this.meterRegistry = meterRegistry;
+        this.batcher = new AiAnalysisBatcher(properties.getBatch(), this::postBatch, this::postSingle,
+                DistributionSummary.builder("ai.client.batch.size")
+                        .description("한 번에 내보낸 분석 요청 수")
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(1.0)
+                        .maximumExpectedValue((double) properties.getBatch().getMaxSize())
+                        .register(meterRegistry));
+        this.limiter = new AiConcurrencyLimiter(properties.getLimiter());
+        this.circuitBreaker = new AiCircuitBreaker(properties.getCircuitBreaker());
+        bindBatchMetrics();
+        bindLimiterMetrics();
+    }
+    
+    @PreDestroy
+    void close() {
+        batcher.close();
+    }
+    
+    // 가상 스레드에서 부르면 block()은 래치에서 park 하므로 응답을 기다리는 동안 캐리어를 점유하지 않는다
     public AiAnalysisResponse analyzeReview(Review review, Book book) {
-        WebClient webClient = webClientBuilder
-                .baseUrl(aiServiceBaseUrl)
-                .build();
+        return analyzeReviewAsync(review, book).block();
+    }
+    
+    public CompletableFuture<AiAnalysisResponse> analyzeReviewFuture(Review review, Book book) {
+        return analyzeReviewAsync(review, book).toFuture();
+    }
+    
+    public Mono<AiAnalysisResponse> analyzeReviewAsync(Review review, Book book) {
+        return analyze(toRequest(review, book));
+    }
+    
+    // ai-service가 결과를 만들어 내는 대로 delta/section/done 이벤트를 받는다, data는 JSON 문자열 그대로
+    // 캐시와 배치는 거치지 않고, 한도 허가는 스트림이 끝날 때까지 쥐고 있는다
+    // 구독자가 요청한 만큼만 읽고(배압), 구독을 취소하면 커넥션을 닫아 ai-service의 생성도 멈춘다
+    public Flux<ServerSentEvent<String>> analyzeReviewStream(Review review, Book book) {
+        return guardedStream(aiWebClient.post()
+                .uri(ANALYZE_STREAM_URI)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(toRequest(review, book))
+                .retrieve()
+                .bodyToFlux(SSE_EVENT)
+                // 첫 이벤트까지, 그리고 이벤트 사이 간격의 상한
+                .timeout(properties.getTimeout().getCall())
+                .concatMap(event -> "error".equals(event.event())
+                        ? Mono.error(new AiStreamException(event.data()))
+                        : Mono.just(event)));
+    }
+    
+    public Mono<AiAnalysisResponse> analyze(AiAnalysisRequest request) {
+        if (!cache.isEnabled()) {
+            return call(request);
+        }
         
-        AiAnalysisRequest request = AiAnalysisRequest.builder()
+        // 캐시 조회/저장은 JPA(블로킹)이므로 boundedElastic에서 수행
+        return Mono.fromCallable(() -> cache.get(request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("AI 분석 캐시 조회 실패: ", e);
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(cached -> cached.map(Mono::just).orElseGet(() -> call(request)
+                        .doOnNext(response -> Schedulers.boundedElastic()
+                                .schedule(() -> cache.put(request, response)))));
+    }
+    
+    private Mono<AiAnalysisResponse> call(AiAnalysisRequest request) {
+        // 배치 응답을 review_id로 나눠 주므로 id가 없는 요청은 개별 호출
+        Mono<AiAnalysisResponse> call = properties.getBatch().isEnabled() && request.getReviewId() != null
+                ? batcher.submit(request)
+                : postSingle(request);
+        
+        return call
+                .switchIfEmpty(Mono.fromSupplier(() -> fallback("empty")))
+                .onErrorResume(e -> {
+                    // 한도/서킷 때문에 보내지 않은 호출은 많이 몰릴 수 있으므로 로그 대신 미터로만 남긴다
+                    if (e instanceof AiCallRejectedException rejected) {
+                        return Mono.just(fallback(rejected.getReason()));
+                    }
+                    log.error("AI 서비스 호출 실패: ", e);
+                    return Mono.just(fallback(isTimeout(e) ? "timeout" : "error"));
+                });
+    }
+    
+    // 지금 맡겨도 한도/서킷에 걸리지 않을 분석 요청 수, 워커는 이만큼만 작업을 가져간다
+    // 한도는 ai-service로 나가는 HTTP 호출 수를 세므로 배치 하나는 요청 수와 상관없이 허가 하나를 쓴다
+    // (배치가 커져 느려지면 그 지연이 한도 조절에 그대로 반영된다), 그래서 배치로 보낼 수 있을 때만 maxSize를 곱하고
+    // 배치 엔드포인트가 없어 개별 호출로 나가는 동안은 요청 하나가 허가 하나다
+    public int availableCapacity() {
+        long calls = Math.min(limiter.available(), circuitBreaker.available());
+        long perCall = properties.getBatch().isEnabled() && batcher.isBatching()
+                ? properties.getBatch().getMaxSize() : 1;
+        return (int) Math.min(Integer.MAX_VALUE, calls * perCall);
+    }
+    
+    // 호출자는 실패 대신 빈 분석 결과를 받는다, 그 횟수를 이유별로 센다
+    private AiAnalysisResponse fallback(String reason) {
+        meterRegistry.counter("ai.client.fallbacks", "reason", reason).increment();
+        return AiAnalysisResponse.empty();
+    }
+    
+    AiAnalysisBatcher.Stats batchStats() {
+        return batcher.stats();
+    }
+    
+    private Mono<AiAnalysisResponse> postSingle(AiAnalysisRequest request) {
+        return guarded("analyze", aiWebClient.post()
+                .uri(ANALYZE_URI)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AiAnalysisResponse.class)
+                .timeout(properties.getTimeout().getCall()));
+    }
+    
+    private Mono<List<AiAnalysisResponse>> postBatch(List<AiAnalysisRequest> requests) {
+        return guarded("analyze_batch", aiWebClient.post()
+                .uri(ANALYZE_BATCH_URI)
+                .bodyValue(requests)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<AiAnalysisResponse>>() {})
+                .timeout(properties.getTimeout().getCall()));
+    }
+    
+    // 서킷이 열려 있으면 바로 거절하고, 동시성 한도 허가를 받은 뒤에 호출한다
+    // 호출 결과는 다시 한도 조절과 서킷 판단에 쓰인다
+    private <T> Mono<T> guarded(String endpoint, Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Mono.error(new AiCallRejectedException("circuit_open"));
+            }
+            return limiter.acquire()
+                    .doOnError(e -> circuitBreaker.record(AiCallOutcome.IGNORED))
+                    .flatMap(permit -> timed(endpoint, call)
+                            .doOnSuccess(response -> complete(permit, AiCallOutcome.SUCCESS))
+                            .doOnError(e -> complete(permit, outcomeOf(e)))
+                            .doOnCancel(() -> complete(permit, AiCallOutcome.IGNORED)));
+        });
+    }
+    
+    // guarded와 같지만 허가를 스트림 끝까지 쥐고, 첫 이벤트까지 걸린 시간(TTFB)도 기록한다
+    private Flux<ServerSentEvent<String>> guardedStream(Flux<ServerSentEvent<String>> call) {
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Flux.error(new AiCallRejectedException("circuit_open"));
+            }
+            return limiter.acquire()
+                    .doOnError(e -> circuitBreaker.record(AiCallOutcome.IGNORED))
+                    .flatMapMany(permit -> {
+                        long started = System.nanoTime();
+                        AtomicBoolean first = new AtomicBoolean(true);
+                        return call
+                                .doOnNext(event -> {
+                                    if (first.compareAndSet(true, false)) {
+                                        firstEventTimer().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                                    }
+                                })
+                                .doOnComplete(() -> {
+                                    callTimer("analyze_stream", "success")
+                                            .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                                    complete(permit, AiCallOutcome.SUCCESS);
+                                })
+                                .doOnError(e -> {
+                                    callTimer("analyze_stream", isTimeout(e) ? "timeout" : "error")
+                                            .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                                    complete(permit, outcomeOf(e));
+                                })
+                                .doOnCancel(() -> complete(permit, AiCallOutcome.IGNORED));
+                    });
+        });
+    }
+    
+    private void complete(AiConcurrencyLimiter.Permit permit, AiCallOutcome outcome) {
+        if (permit.release(outcome)) {
+            circuitBreaker.record(outcome);
+        }
+    }
+    
+    // 타임아웃, 5xx, 429, 연결 실패, 스트림 도중 실패는 ai-service 과부하로 보고 나머지(4xx 등)는 판단에서 뺀다
+    private static AiCallOutcome outcomeOf(Throwable error) {
+        if (isTimeout(error) || error instanceof WebClientRequestException || error instanceof AiStreamException) {
+            return AiCallOutcome.OVERLOADED;
+        }
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS
+                    ? AiCallOutcome.OVERLOADED
+                    : AiCallOutcome.IGNORED;
+        }
+        return AiCallOutcome.IGNORED;
+    }
+    
+    // 실제 HTTP 호출 한 번의 소요 시간, outcome = success | timeout | error
+    private <T> Mono<T> timed(String endpoint, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(response -> sample.stop(callTimer(endpoint, "success")))
+                    .doOnError(e -> sample.stop(callTimer(endpoint, isTimeout(e) ? "timeout" : "error")));
+        });
+    }
+    
+    private Timer callTimer(String endpoint, String outcome) {
+        return Timer.builder("ai.client.requests")
+                .description("ai-service 호출 시간")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    private Timer firstEventTimer() {
+        return Timer.builder("ai.client.stream.first.event")
+                .description("스트리밍 분석 요청부터 첫 이벤트까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    private void bindBatchMetrics() {
+        FunctionCounter.builder("ai.client.batches", batcher, b -> b.stats().batches())
+                .description("배치 엔드포인트로 보낸 호출 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("ai.client.batched.requests", batcher, b -> b.stats().batchedItems())
+                .description("배치로 묶여 나간 분석 요청 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("ai.client.batch.single.calls", batcher, b -> b.stats().singleCalls())
+                .description("배치 대신 개별 호출로 보낸 요청 수")
+                .register(meterRegistry);
+    }
+    
+    private void bindLimiterMetrics() {
+        Gauge.builder("ai.client.limit", limiter, l -> l.stats().limit())
+                .description("ai-service 동시 호출 한도 (응답 시간에 따라 조절)")
+                .register(meterRegistry);
+        Gauge.builder("ai.client.inflight", limiter, l -> l.stats().inFlight())
+                .description("진행 중인 ai-service 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.client.queue.depth", limiter, l -> l.stats().queued())
+                .description("한도가 차서 허가를 기다리는 호출 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("ai.client.rejections", limiter, l -> l.stats().queueFullRejections())
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        FunctionCounter.builder("ai.client.rejections", limiter, l -> l.stats().queueTimeoutRejections())
+                .tag("reason", "queue_timeout")
+                .register(meterRegistry);
+        FunctionCounter.builder("ai.client.rejections", circuitBreaker, AiCircuitBreaker::rejectionCount)
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        Gauge.builder("ai.client.circuit.state", circuitBreaker, b -> b.state().ordinal())
+                .description("서킷 상태 (0 닫힘, 1 열림, 2 시험 중)")
+                .register(meterRegistry);
+        FunctionCounter.builder("ai.client.circuit.opened", circuitBreaker, AiCircuitBreaker::openedCount)
+                .description("서킷이 열린 횟수")
+                .register(meterRegistry);
+    }
+    
+    // 호출 데드라인(Reactor timeout)과 소켓 읽기/쓰기 타임아웃(Netty) 모두 timeout으로 본다
+    private static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private AiAnalysisRequest toRequest(Review review, Book book) {
+        return AiAnalysisRequest.builder()
                 .reviewId(review.getId())
                 .bookTitle(book.getTitle())
                 .author(book.getAuthor())
@@ -37,18 +331,5 @@ public class AiServiceClient {
                 .userEmotion(review.getUserEmotion())
                 .genre(book.getGenre())
                 .build();
-        
-        try {
-            return webClient.post()
-                    .uri("/api/v1/reviews/analyze")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(AiAnalysisResponse.class)
-                    .timeout(Duration.ofSeconds(60))
-                    .block();
-        } catch (Exception e) {
-            log.error("AI 서비스 호출 실패: ", e);
-            return AiAnalysisResponse.empty();
-        }
     }
-}
\ No newline at end of file
+}
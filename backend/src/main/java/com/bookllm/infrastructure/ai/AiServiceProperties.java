@@ -0,0 +1,105 @@
+package com.bookllm.infrastructure.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai-service")
+public class AiServiceProperties {
+    
+    private String baseUrl = "http://localhost:8001";
+    
+    // ai-service(uvicorn)는 h2c를 지원하지 않으므로 기본은 HTTP/1.1 keep-alive
+    private boolean http2Enabled = false;
+    
+    private Pool pool = new Pool();
+    
+    private Timeout timeout = new Timeout();
+    
+    private Batch batch = new Batch();
+    
+    private Cache cache = new Cache();
+    
+    private Limiter limiter = new Limiter();
+    
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxConnections = 100;
+        private int pendingAcquireMaxCount = 500;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+    }
+    
+    @Getter
+    @Setter
+    public static class Timeout {
+        private Duration connect = Duration.ofSeconds(3);
+        private Duration write = Duration.ofSeconds(10);
+        // 응답 헤더를 받을 때까지
+        private Duration response = Duration.ofSeconds(60);
+        // 요청 전송 후 소켓이 조용한 최대 시간
+        private Duration read = Duration.ofSeconds(60);
+        // 호출 전체 데드라인
+        private Duration call = Duration.ofSeconds(65);
+    }
+    
+    @Getter
+    @Setter
+    public static class Batch {
+        private boolean enabled = true;
+        // 첫 요청이 들어온 뒤 이 시간 동안 모아서 한 번에 보낸다
+        private Duration window = Duration.ofMillis(20);
+        private int maxSize = 16;
+        // 배치 엔드포인트가 없을 때 다시 시도해 보기까지의 시간
+        private Duration reprobeInterval = Duration.ofMinutes(5);
+    }
+    
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        // 프롬프트가 바뀌면 올려서 이전 결과를 캐시 키에서 분리한다
+        private String promptVersion = "v1";
+        private long maxSize = 10_000;
+        private Duration ttl = Duration.ofHours(6);
+        private Duration persistentTtl = Duration.ofDays(30);
+    }
+    
+    // AI 호출 동시성 한도를 응답 시간에 맞춰 조절한다 (AIMD)
+    @Getter
+    @Setter
+    public static class Limiter {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+        // 한도를 넘은 호출이 기다릴 수 있는 수와 시간, 넘으면 기다리지 않고 빈 결과로 대체한다
+        private int maxQueue = 50;
+        private Duration queueTimeout = Duration.ofSeconds(2);
+        // 응답 시간이 평소(장기 평균)의 이 배수를 넘으면 과부하로 보고 한도를 줄인다
+        private double latencyTolerance = 2.0;
+        private double backoffRatio = 0.9;
+    }
+    
+    // 최근 호출 중 타임아웃/서버 오류 비율이 높으면 한동안 호출하지 않는다
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        // 열린 뒤 시험 삼아 보내 볼 호출 수, 모두 성공하면 닫는다
+        private int halfOpenCalls = 3;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.bookllm.infrastructure.ai;
+
+// ai-service가 스트림 도중 error 이벤트로 알린 실패 (HTTP 상태는 이미 200으로 나간 뒤)
+class AiStreamException extends RuntimeException {
+    
+    AiStreamException(String detail) {
+        super("AI 분석 스트림 실패: " + detail);
+    }
+}
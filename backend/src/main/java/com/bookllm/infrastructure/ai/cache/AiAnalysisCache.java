@@ -0,0 +1,169 @@
+package com.bookllm.infrastructure.ai.cache;
+
+import com.bookllm.infrastructure.ai.AiServiceProperties;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisRequest;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+// 동일한 감상평(정규화 후 내용, 책, 평점, 감정)에 대한 AI 분석 결과 캐시
+// 1차: Caffeine(W-TinyLFU) + TTL, 2차: 재시작 후에도 남는 ai_analysis_cache 테이블
+@Slf4j
+@Component
+public class AiAnalysisCache {
+    
+    private final AiAnalysisCacheRepository repository;
+    private final AiServiceProperties.Cache config;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, AiAnalysisResponse> memory;
+    
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder persistentHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    public AiAnalysisCache(AiAnalysisCacheRepository repository,
+                           AiServiceProperties properties,
+                           ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.config = properties.getCache();
+        this.objectMapper = objectMapper;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .build();
+    }
+    
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+    
+    public Optional<AiAnalysisResponse> get(AiAnalysisRequest request) {
+        String key = keyOf(request);
+        
+        AiAnalysisResponse cached = memory.getIfPresent(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached.withReviewId(request.getReviewId()));
+        }
+        
+        Optional<AiAnalysisResponse> persisted = repository.findById(key)
+                .filter(entry -> !entry.isExpired())
+                .flatMap(this::fromJson);
+        if (persisted.isPresent()) {
+            persistentHits.increment();
+            memory.put(key, persisted.get());
+            return Optional.of(persisted.get().withReviewId(request.getReviewId()));
+        }
+        
+        misses.increment();
+        return Optional.empty();
+    }
+    
+    // 키 충돌(동시 저장)이 나도 호출자 트랜잭션에 영향을 주지 않도록 저장소 트랜잭션만 사용
+    public void put(AiAnalysisRequest request, AiAnalysisResponse response) {
+        if (response == null || response.isEmpty()) {
+            return;
+        }
+        
+        String key = keyOf(request);
+        memory.put(key, response);
+        try {
+            repository.save(AiAnalysisCacheEntry.builder()
+                    .cacheKey(key)
+                    .promptVersion(config.getPromptVersion())
+                    .responseJson(objectMapper.writeValueAsString(response.withReviewId(null)))
+                    .expiresAt(LocalDateTime.now().plus(config.getPersistentTtl()))
+                    .build());
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 같은 키를 동시에 저장한 경우 등, 1차 캐시에는 이미 들어갔으므로 무시
+            log.debug("AI 분석 캐시 저장 실패 - key: {}", key, e);
+        }
+    }
+    
+    // promptVersion이 null이면 현재 버전이 아닌 항목을 모두 지운다
+    @Transactional
+    public int invalidate(String promptVersion) {
+        memory.invalidateAll();
+        if (promptVersion == null) {
+            return repository.deleteByPromptVersionNot(config.getPromptVersion());
+        }
+        return repository.deleteByPromptVersion(promptVersion);
+    }
+    
+    @Transactional
+    @Scheduled(cron = "${ai-service.cache.purge-cron:0 0 4 * * *}")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 AI 분석 캐시 {}건 삭제", deleted);
+        }
+    }
+    
+    public AiAnalysisCacheStats stats() {
+        long hits = memoryHits.sum() + persistentHits.sum();
+        long total = hits + misses.sum();
+        return AiAnalysisCacheStats.builder()
+                .promptVersion(config.getPromptVersion())
+                .size(memory.estimatedSize())
+                .memoryHits(memoryHits.sum())
+                .persistentHits(persistentHits.sum())
+                .misses(misses.sum())
+                .evictions(memory.stats().evictionCount())
+                .hitRatio(total == 0 ? 0.0 : (double) hits / total)
+                .build();
+    }
+    
+    String keyOf(AiAnalysisRequest request) {
+        String canonical = String.join("\u001f",
+                config.getPromptVersion(),
+                normalize(request.getBookTitle()),
+                normalize(request.getAuthor()),
+                normalize(request.getGenre()),
+                normalize(request.getUserEmotion()),
+                request.getRating() != null ? request.getRating().toString() : "",
+                normalize(request.getContent()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+    
+    private Optional<AiAnalysisResponse> fromJson(AiAnalysisCacheEntry entry) {
+        try {
+            return Optional.of(objectMapper.readValue(entry.getResponseJson(), AiAnalysisResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("AI 분석 캐시 역직렬화 실패 - key: {}", entry.getCacheKey(), e);
+            return Optional.empty();
+        }
+    }
+}
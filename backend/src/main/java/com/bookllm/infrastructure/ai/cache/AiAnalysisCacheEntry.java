@@ -0,0 +1,44 @@
+package com.bookllm.infrastructure.ai.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ai_analysis_cache", indexes = {
+        @Index(name = "idx_ai_analysis_cache_prompt_version", columnList = "prompt_version"),
+        @Index(name = "idx_ai_analysis_cache_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AiAnalysisCacheEntry {
+    
+    // 정규화된 요청 필드 + 프롬프트 버전의 SHA-256
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+    
+    @Column(name = "prompt_version", nullable = false, length = 32)
+    private String promptVersion;
+    
+    @Column(columnDefinition = "MEDIUMTEXT", nullable = false)
+    private String responseJson;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    public boolean isExpired() {
+        return expiresAt.isBefore(LocalDateTime.now());
+    }
+}
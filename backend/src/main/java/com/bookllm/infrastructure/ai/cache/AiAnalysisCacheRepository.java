@@ -0,0 +1,25 @@
+package com.bookllm.infrastructure.ai.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface AiAnalysisCacheRepository extends JpaRepository<AiAnalysisCacheEntry, String> {
+    
+    @Modifying
+    @Query("DELETE FROM AiAnalysisCacheEntry e WHERE e.promptVersion = :promptVersion")
+    int deleteByPromptVersion(@Param("promptVersion") String promptVersion);
+    
+    @Modifying
+    @Query("DELETE FROM AiAnalysisCacheEntry e WHERE e.promptVersion <> :promptVersion")
+    int deleteByPromptVersionNot(@Param("promptVersion") String promptVersion);
+    
+    @Modifying
+    @Query("DELETE FROM AiAnalysisCacheEntry e WHERE e.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
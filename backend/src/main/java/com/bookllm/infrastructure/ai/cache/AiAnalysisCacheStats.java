@@ -0,0 +1,20 @@
+package com.bookllm.infrastructure.ai.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiAnalysisCacheStats {
+    private String promptVersion;
+    private long size;
+    private long memoryHits;
+    private long persistentHits;
+    private long misses;
+    private long evictions;
+    private double hitRatio;
+}
@@ -1,11 +1,13 @@
 package com.bookllm.infrastructure.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -22,18 +24,48 @@ public class AiAnalysisResponse {
     
     private List<Recommendation> recommendations;
     
+    @JsonIgnore
     public String getEmpathyMessage() {
         return aiResponse != null ? aiResponse.getEmpathyMessage() : "";
     }
     
+    @JsonIgnore
     public String getBookInsights() {
         return aiResponse != null ? String.join(", ", aiResponse.getBookInsights()) : "";
     }
     
+    @JsonIgnore
     public String getEmotionAnalysis() {
         return aiResponse != null ? aiResponse.getEmotionAnalysis().toString() : "";
     }
     
+    @JsonIgnore
+    public String getPersonalizedInsight() {
+        return aiResponse != null ? aiResponse.getPersonalizedInsight() : null;
+    }
+    
+    // 응답 형식에 따라 추천이 ai_response 안팎 어느 쪽에도 올 수 있어 둘 다 모은다
+    @JsonIgnore
+    public List<Recommendation> getAllRecommendations() {
+        List<Recommendation> all = new ArrayList<>();
+        if (aiResponse != null && aiResponse.getBookRecommendations() != null) {
+            all.addAll(aiResponse.getBookRecommendations());
+        }
+        if (recommendations != null) {
+            all.addAll(recommendations);
+        }
+        return all;
+    }
+    
+    @JsonIgnore
+    public boolean isEmpty() {
+        return aiResponse == null;
+    }
+    
+    public AiAnalysisResponse withReviewId(Long reviewId) {
+        return new AiAnalysisResponse(reviewId, aiResponse, recommendations);
+    }
+    
     public static AiAnalysisResponse empty() {
         return AiAnalysisResponse.builder().build();
     }
@@ -50,6 +82,12 @@ public class AiAnalysisResponse {
         
         @JsonProperty("emotion_analysis")
         private Object emotionAnalysis;
+        
+        @JsonProperty("book_recommendations")
+        private List<Recommendation> bookRecommendations;
+        
+        @JsonProperty("personalized_insight")
+        private String personalizedInsight;
     }
     
     @Getter
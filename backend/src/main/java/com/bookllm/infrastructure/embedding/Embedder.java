@@ -0,0 +1,10 @@
+package com.bookllm.infrastructure.embedding;
+
+// 텍스트를 고정 길이 벡터로 바꾼다, 결과는 L2 정규화되어 있어 내적이 곧 코사인 유사도다
+// 기본은 HashingEmbedder이고, 다른 구현을 빈으로 등록하면 그쪽을 쓴다
+public interface Embedder {
+    
+    int dimension();
+    
+    float[] embed(String text);
+}
@@ -0,0 +1,14 @@
+package com.bookllm.infrastructure.embedding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "embedding")
+public class EmbeddingProperties {
+    
+    // 해싱 임베더 차원, 바꾸면 디스크에 저장된 벡터 색인은 버리고 다시 만든다
+    private int dimension = 256;
+}
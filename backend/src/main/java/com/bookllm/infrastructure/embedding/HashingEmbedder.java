@@ -0,0 +1,61 @@
+package com.bookllm.infrastructure.embedding;
+
+import com.bookllm.domain.book.search.BookTokenizer;
+
+import java.nio.charset.StandardCharsets;
+
+// 외부 모델 없이 쓰는 결정적 임베더 (feature hashing)
+// 검색 색인과 같은 토큰(한글 바이그램 등)을 해시로 차원에 흩뿌리고 부호도 해시로 정해 충돌이 서로 상쇄되게 한다
+// 의미를 이해하지는 못하지만 어휘가 겹치는 문서를 가깝게 두며, ai-service 없이도 항상 같은 벡터를 낸다
+public class HashingEmbedder implements Embedder {
+    
+    private final int dimension;
+    
+    public HashingEmbedder(int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("dimension must be positive: " + dimension);
+        }
+        this.dimension = dimension;
+    }
+    
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+    
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimension];
+        for (String token : BookTokenizer.tokenize(text)) {
+            long hash = hash(token);
+            int bucket = (int) Long.remainderUnsigned(hash, dimension);
+            vector[bucket] += (hash >>> 63) == 0 ? 1f : -1f;
+        }
+        
+        double norm = 0;
+        for (float value : vector) {
+            norm += (double) value * value;
+        }
+        if (norm > 0) {
+            float scale = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < dimension; i++) {
+                vector[i] *= scale;
+            }
+        }
+        return vector;
+    }
+    
+    // String.hashCode는 JVM 간 같지만 32비트라 분산이 약해 FNV-1a 64비트를 쓴다
+    private static long hash(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : token.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        // 버킷(하위 비트)과 부호(최상위 비트)가 서로 엮이지 않도록 한 번 더 섞는다
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,11 @@
+-- 대량 도서 가져오기 체크포인트 (작업 이름별 마지막 커밋 행)
+CREATE TABLE book_import_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    last_row BIGINT NOT NULL,
+    inserted BIGINT NOT NULL,
+    duplicates BIGINT NOT NULL,
+    invalid BIGINT NOT NULL,
+    completed BOOLEAN NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6)
+);
@@ -0,0 +1,3 @@
+-- 도서별/리뷰별 추천 조회 인덱스
+CREATE INDEX idx_recommendations_source_book ON recommendations (source_book_id);
+CREATE INDEX idx_recommendations_review ON recommendations (review_id);
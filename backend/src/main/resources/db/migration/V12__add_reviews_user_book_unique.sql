@@ -0,0 +1,17 @@
+-- 사용자당 도서 하나에 리뷰 하나, 동시 작성 경합을 DB에서 막는다
+-- 이미 생긴 중복(과거 경합, V9 도서 병합 등)은 가장 먼저 작성한 리뷰만 남긴다
+CREATE TEMPORARY TABLE duplicate_reviews AS
+SELECT r.id
+FROM reviews r
+JOIN (SELECT user_id, book_id, MIN(id) AS keep_id FROM reviews GROUP BY user_id, book_id HAVING COUNT(*) > 1) k
+  ON k.user_id = r.user_id AND k.book_id = r.book_id
+WHERE r.id <> k.keep_id;
+
+DELETE x FROM recommendations x JOIN duplicate_reviews d ON x.review_id = d.id;
+DELETE x FROM ai_analysis_jobs x JOIN duplicate_reviews d ON x.review_id = d.id;
+DELETE x FROM review_ai_analysis x JOIN duplicate_reviews d ON x.review_id = d.id;
+DELETE x FROM reviews x JOIN duplicate_reviews d ON x.id = d.id;
+DROP TEMPORARY TABLE duplicate_reviews;
+
+-- 지워진 리뷰의 평점 집계는 BookRatingReconciler가 다음 주기에 다시 계산한다
+ALTER TABLE reviews ADD CONSTRAINT uk_reviews_user_book UNIQUE (user_id, book_id);
@@ -0,0 +1,3 @@
+-- 낙관적 락 / 조건부 GET(ETag)용 버전 컬럼
+ALTER TABLE reviews ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE books ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
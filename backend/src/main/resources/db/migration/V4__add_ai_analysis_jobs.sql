@@ -0,0 +1,21 @@
+-- 리뷰 AI 분석 비동기 처리 상태 및 작업 큐(transactional outbox) 추가
+ALTER TABLE reviews
+ADD COLUMN ai_analysis_status VARCHAR(20) NOT NULL DEFAULT 'PENDING';
+
+-- 기존 리뷰는 분석 결과 유무에 따라 상태를 채운다 (과거 리뷰는 재분석하지 않음)
+UPDATE reviews
+SET ai_analysis_status = CASE WHEN ai_empathy_message IS NOT NULL THEN 'COMPLETED' ELSE 'FAILED' END;
+
+CREATE TABLE ai_analysis_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    review_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    locked_until DATETIME(6),
+    last_error VARCHAR(1000),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    INDEX idx_ai_analysis_jobs_status_next_attempt (status, next_attempt_at),
+    INDEX idx_ai_analysis_jobs_review_id (review_id)
+);
@@ -0,0 +1,10 @@
+-- AI 분석 결과 2차 캐시 (정규화된 요청 해시 기준, 재시작 후에도 유지)
+CREATE TABLE ai_analysis_cache (
+    cache_key VARCHAR(64) PRIMARY KEY,
+    prompt_version VARCHAR(32) NOT NULL,
+    response_json MEDIUMTEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    INDEX idx_ai_analysis_cache_prompt_version (prompt_version),
+    INDEX idx_ai_analysis_cache_expires_at (expires_at)
+);
@@ -0,0 +1,3 @@
+-- 사용자별/도서별 리뷰 키셋 페이지네이션 (created_at, id) 인덱스
+CREATE INDEX idx_reviews_user_created ON reviews (user_id, created_at, id);
+CREATE INDEX idx_reviews_book_created ON reviews (book_id, created_at, id);
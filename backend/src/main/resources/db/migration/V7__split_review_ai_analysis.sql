@@ -0,0 +1,30 @@
+-- AI 분석 TEXT 컬럼을 reviews에서 review_ai_analysis(1:1, PK 공유)로 분리
+CREATE TABLE review_ai_analysis (
+    review_id BIGINT PRIMARY KEY,
+    empathy_message TEXT,
+    book_insights TEXT,
+    emotion_analysis TEXT,
+    book_recommendations TEXT,
+    personalized_insight TEXT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT fk_review_ai_analysis_review FOREIGN KEY (review_id) REFERENCES reviews (id) ON DELETE CASCADE
+);
+
+INSERT INTO review_ai_analysis (review_id, empathy_message, book_insights, emotion_analysis,
+                                book_recommendations, personalized_insight, created_at, updated_at)
+SELECT id, ai_empathy_message, ai_book_insights, ai_emotion_analysis,
+       ai_book_recommendations, ai_personalized_insight, created_at, updated_at
+FROM reviews
+WHERE ai_empathy_message IS NOT NULL
+   OR ai_book_insights IS NOT NULL
+   OR ai_emotion_analysis IS NOT NULL
+   OR ai_book_recommendations IS NOT NULL
+   OR ai_personalized_insight IS NOT NULL;
+
+ALTER TABLE reviews
+DROP COLUMN ai_empathy_message,
+DROP COLUMN ai_book_insights,
+DROP COLUMN ai_emotion_analysis,
+DROP COLUMN ai_book_recommendations,
+DROP COLUMN ai_personalized_insight;
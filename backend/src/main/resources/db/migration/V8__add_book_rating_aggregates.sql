@@ -0,0 +1,23 @@
+-- 도서 평점 집계 비정규화 컬럼 (리뷰 수, 평점 합, 반올림 별점 1~5 분포)
+ALTER TABLE books
+ADD COLUMN review_count BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN rating_sum DOUBLE NOT NULL DEFAULT 0,
+ADD COLUMN rating1_count BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN rating2_count BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN rating3_count BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN rating4_count BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN rating5_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 리뷰로 초기값 채우기
+UPDATE books b
+JOIN (
+    SELECT book_id, COUNT(*) AS cnt, SUM(rating) AS total,
+           SUM(FLOOR(rating + 0.5) <= 1) AS r1, SUM(FLOOR(rating + 0.5) = 2) AS r2,
+           SUM(FLOOR(rating + 0.5) = 3) AS r3, SUM(FLOOR(rating + 0.5) = 4) AS r4,
+           SUM(FLOOR(rating + 0.5) >= 5) AS r5
+    FROM reviews
+    GROUP BY book_id
+) a ON a.book_id = b.id
+SET b.review_count = a.cnt, b.rating_sum = a.total,
+    b.rating1_count = a.r1, b.rating2_count = a.r2, b.rating3_count = a.r3,
+    b.rating4_count = a.r4, b.rating5_count = a.r5;
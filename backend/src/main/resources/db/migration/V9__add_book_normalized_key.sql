@@ -0,0 +1,26 @@
+-- (제목, 저자) 정규화 키와 유니크 인덱스
+-- 애플리케이션은 NFKC 정규화까지 하지만 SQL로는 공백 정리 + 소문자화까지만 맞춘다 (기존 데이터 대부분은 동일한 키가 된다)
+ALTER TABLE books ADD COLUMN normalized_key CHAR(64);
+
+UPDATE books
+SET normalized_key = SHA2(CONCAT(
+        LOWER(TRIM(REGEXP_REPLACE(title, '[[:space:]]+', ' '))), CHAR(31),
+        LOWER(TRIM(REGEXP_REPLACE(author, '[[:space:]]+', ' ')))), 256);
+
+-- 이미 생긴 중복 도서는 가장 먼저 만들어진 행으로 합친다
+CREATE TEMPORARY TABLE book_merge AS
+SELECT b.id AS duplicate_id, k.keep_id
+FROM books b
+JOIN (SELECT normalized_key, MIN(id) AS keep_id FROM books GROUP BY normalized_key HAVING COUNT(*) > 1) k
+  ON k.normalized_key = b.normalized_key
+WHERE b.id <> k.keep_id;
+
+UPDATE reviews r JOIN book_merge m ON r.book_id = m.duplicate_id SET r.book_id = m.keep_id;
+UPDATE recommendations r JOIN book_merge m ON r.source_book_id = m.duplicate_id SET r.source_book_id = m.keep_id;
+DELETE b FROM books b JOIN book_merge m ON b.id = m.duplicate_id;
+DROP TEMPORARY TABLE book_merge;
+
+-- 합쳐진 도서의 평점 집계는 BookRatingReconciler가 다음 주기에 다시 계산한다
+ALTER TABLE books
+MODIFY normalized_key CHAR(64) NOT NULL,
+ADD CONSTRAINT uk_books_normalized_key UNIQUE (normalized_key);
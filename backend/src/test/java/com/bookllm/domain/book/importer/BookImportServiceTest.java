@@ -0,0 +1,82 @@
+package com.bookllm.domain.book.importer;
+
+import com.bookllm.domain.book.dto.BookExportFormat;
+import com.bookllm.domain.book.entity.Book;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookImportServiceTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    @DisplayName("CSV는 헤더 이름으로 열을 찾고 따옴표 안의 쉼표와 줄바꿈을 보존한다")
+    void reader_ParsesQuotedCsv() throws Exception {
+        String csv = "\uFEFFauthor,title,isbn\r\n"
+                + "생텍쥐페리,어린 왕자,\r\n"
+                + "\"재레드 \"\"다이아몬드\"\"\",\"총, 균, 쇠\n개정판\",9788970127248\r\n";
+        
+        List<BookImportRow> rows = readAll(BookExportFormat.CSV, csv);
+        
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).title()).isEqualTo("어린 왕자");
+        assertThat(rows.get(0).isbn()).isNull();
+        assertThat(rows.get(1).rowNumber()).isEqualTo(2);
+        assertThat(rows.get(1).author()).isEqualTo("재레드 \"다이아몬드\"");
+        assertThat(rows.get(1).title()).isEqualTo("총, 균, 쇠\n개정판");
+    }
+    
+    @Test
+    @DisplayName("NDJSON은 한 줄을 한 행으로 읽는다")
+    void reader_ParsesNdjson() throws Exception {
+        String ndjson = "{\"title\":\"데미안\",\"author\":\"헤르만 헤세\",\"genre\":\"소설\"}\n"
+                + "{\"title\":\"코스모스\",\"author\":\"칼 세이건\"}\n";
+        
+        List<BookImportRow> rows = readAll(BookExportFormat.NDJSON, ndjson);
+        
+        assertThat(rows).extracting(BookImportRow::title).containsExactly("데미안", "코스모스");
+        assertThat(rows.get(1).genre()).isNull();
+    }
+    
+    @Test
+    @DisplayName("제목/저자가 없거나 ISBN 체크섬이 틀린 행은 거른다")
+    void validate_RejectsInvalidRows() {
+        assertThat(BookImportService.validate(row("", "저자", null))).isNull();
+        assertThat(BookImportService.validate(row("제목", null, null))).isNull();
+        assertThat(BookImportService.validate(row("제목", "저자", "978-89-7012-724-9"))).isNull();
+        
+        BookImportService.ValidRow valid = BookImportService.validate(row(" 어린 왕자 ", "생텍쥐페리", "978-89-7012-724-8"));
+        assertThat(valid).isNotNull();
+        assertThat(valid.title()).isEqualTo("어린 왕자");
+        assertThat(valid.isbn()).isEqualTo("9788970127248");
+        assertThat(valid.normalizedKey()).isEqualTo(Book.normalizedKeyOf("어린 왕자", "생텍쥐페리"));
+    }
+    
+    @Test
+    @DisplayName("ISBN-10은 X 체크 문자를 허용한다")
+    void normalizeIsbn_AcceptsIsbn10() {
+        assertThat(BookImportService.normalizeIsbn("0-8044-2957-x")).isEqualTo("080442957X");
+        assertThat(BookImportService.normalizeIsbn("0-8044-2957-1")).isNull();
+    }
+    
+    private List<BookImportRow> readAll(BookExportFormat format, String content) throws Exception {
+        List<BookImportRow> rows = new ArrayList<>();
+        try (BookImportReader reader = BookImportReader.open(
+                format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), objectMapper)) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+    
+    private static BookImportRow row(String title, String author, String isbn) {
+        return new BookImportRow(1, title, author, null, null, isbn, null, null);
+    }
+}
@@ -0,0 +1,74 @@
+package com.bookllm.domain.book.repository;
+
+import com.bookllm.domain.book.service.BookLookupProperties;
+import com.bookllm.domain.book.service.BookResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 MySQL에서 수백 개의 동시 호출이 한 행으로 수렴하는지 확인
+// 공백만 다른 제목도 섞어 정규화 키 + 유니크 인덱스 + 업서트 경로 전체를 검증한다
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BookResolver.class)
+@EnableConfigurationProperties(BookLookupProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class BookFindOrCreateConcurrencyTest {
+    
+    @Autowired
+    private BookRepository bookRepository;
+    
+    @Autowired
+    private BookResolver bookResolver;
+    
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAllInBatch();
+    }
+    
+    @Test
+    @DisplayName("같은 책에 대한 동시 찾기-또는-생성은 정확히 한 행만 만든다")
+    void resolveId_CreatesExactlyOneRow() throws Exception {
+        int callers = 200;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        
+        try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < callers; i++) {
+                String title = i % 2 == 0 ? "어린 왕자" : "어린  왕자";
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookResolver.resolveId(title, "생텍쥐페리", "소설");
+                }));
+            }
+            start.countDown();
+            
+            Set<Long> ids = new HashSet<>();
+            for (Future<Long> result : results) {
+                ids.add(result.get());
+            }
+            assertThat(ids).hasSize(1);
+        }
+        assertThat(bookRepository.count()).isEqualTo(1);
+    }
+}
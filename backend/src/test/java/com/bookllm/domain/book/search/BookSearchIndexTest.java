@@ -0,0 +1,109 @@
+package com.bookllm.domain.book.search;
+
+import com.bookllm.domain.book.event.BookSavedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSearchIndexTest {
+    
+    private BookSearchIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new BookSearchIndex();
+        index.add(new BookSavedEvent(1L, "어린 왕자", "생텍쥐페리", "소설", "사막에 불시착한 비행사와 어린 왕자의 이야기"));
+        index.add(new BookSavedEvent(2L, "데미안", "헤르만 헤세", "소설", "싱클레어가 자기 자신에게 이르는 길"));
+        index.add(new BookSavedEvent(3L, "코스모스", "칼 세이건", "과학", "우주와 인간에 대한 이야기"));
+        index.add(new BookSavedEvent(4L, "The Little Prince", "Antoine de Saint-Exupéry", "Fiction", null));
+    }
+    
+    @Test
+    @DisplayName("한글은 음절 바이그램, 그 외 문자는 단어 단위로 자른다")
+    void tokenize_HangulBigramsAndWords() {
+        assertThat(BookTokenizer.tokenize("어린왕자 The Prince")).containsExactly("어린", "린왕", "왕자", "the", "prince");
+        assertThat(BookTokenizer.tokenize("SF소설")).containsExactly("sf", "소설");
+        assertThat(BookTokenizer.tokenize("책")).containsExactly("책");
+    }
+    
+    @Test
+    @DisplayName("띄어쓰기가 달라도 한글 제목을 찾는다")
+    void search_MatchesKoreanWithoutSpaces() {
+        BookSearchResult result = index.search("어린왕자", 0, 10);
+        
+        assertThat(result.hits()).extracting(BookSearchHit::bookId).startsWith(1L);
+    }
+    
+    @Test
+    @DisplayName("설명보다 제목이 일치하는 도서를 앞에 둔다")
+    void search_TitleOutranksDescription() {
+        index.add(new BookSavedEvent(5L, "우주 이야기", "작가", "과학", null));
+        
+        BookSearchResult result = index.search("우주", 0, 10);
+        
+        assertThat(result.hits()).extracting(BookSearchHit::bookId).containsExactly(5L, 3L);
+        assertThat(result.totalHits()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("오프셋과 개수로 페이지를 자르고 전체 일치 수를 돌려준다")
+    void search_Paginates() {
+        BookSearchResult first = index.search("이야기", 0, 1);
+        BookSearchResult second = index.search("이야기", 1, 1);
+        
+        assertThat(first.totalHits()).isEqualTo(2);
+        assertThat(first.hits()).hasSize(1);
+        assertThat(second.hits()).hasSize(1);
+        assertThat(second.hits().get(0).bookId()).isNotEqualTo(first.hits().get(0).bookId());
+    }
+    
+    @Test
+    @DisplayName("일치 수를 넘는 오프셋은 넘치지 않고 빈 페이지를 돌려준다")
+    void search_ReturnsEmptyPageForHugeOffset() {
+        BookSearchResult result = index.search("이야기", Integer.MAX_VALUE - 1, 50);
+        
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.hits()).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("같은 도서를 다시 색인하면 이전 내용은 검색되지 않는다")
+    void add_ReplacesExistingBook() {
+        index.add(new BookSavedEvent(2L, "수레바퀴 아래서", "헤르만 헤세", "소설", null));
+        
+        assertThat(index.search("데미안", 0, 10).hits()).isEmpty();
+        assertThat(index.search("수레바퀴", 0, 10).hits()).extracting(BookSearchHit::bookId).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+    
+    @Test
+    @DisplayName("재색인으로 쌓인 삭제 표시가 살아 있는 문서보다 많아지면 압축해도 검색 결과는 그대로다")
+    void add_CompactsTombstones() {
+        for (int i = 0; i < 3_000; i++) {
+            index.add(new BookSavedEvent(2L, "데미안 " + i, "헤르만 헤세", "소설", null));
+        }
+        
+        assertThat(index.indexedDocs()).isLessThan(2 * 1024);
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.search("데미안", 0, 10).hits()).extracting(BookSearchHit::bookId).containsExactly(2L);
+        assertThat(index.search("2999", 0, 10).hits()).extracting(BookSearchHit::bookId).containsExactly(2L);
+        assertThat(index.search("1500", 0, 10).hits()).isEmpty();
+        assertThat(index.search("이야기", 0, 10).hits()).extracting(BookSearchHit::bookId).containsExactlyInAnyOrder(1L, 3L);
+    }
+    
+    @Test
+    @DisplayName("많은 문서가 걸려도 점수와 순서가 정확하다")
+    void search_RanksManyHits() {
+        for (long bookId = 10; bookId < 5_010; bookId++) {
+            String title = bookId % 100 == 0 ? "별 별 별 이야기" : "별 이야기";
+            index.add(new BookSavedEvent(bookId, title, "작가", "소설", null));
+        }
+        
+        BookSearchResult result = index.search("별", 0, 5);
+        
+        assertThat(result.totalHits()).isEqualTo(5_000);
+        assertThat(result.hits()).extracting(BookSearchHit::bookId).containsExactly(100L, 200L, 300L, 400L, 500L);
+    }
+}
@@ -0,0 +1,86 @@
+package com.bookllm.domain.book.service;
+
+import com.bookllm.domain.book.dto.BookExportFormat;
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookExportServiceTest {
+    
+    @Mock
+    private BookRepository bookRepository;
+    
+    @Mock
+    private EntityManager entityManager;
+    
+    private ObjectMapper objectMapper;
+    private BookExportService bookExportService;
+    
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        bookExportService = new BookExportService(bookRepository, entityManager, objectMapper);
+    }
+    
+    @Test
+    @DisplayName("NDJSON은 한 줄에 도서 하나씩 쓰고 일정 행마다 영속성 컨텍스트를 비운다")
+    void export_NdjsonClearsPeriodically() throws Exception {
+        // given
+        int count = BookExportService.CLEAR_INTERVAL * 2 + 5;
+        given(bookRepository.streamAll()).willReturn(books(count));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        // when
+        long rows = bookExportService.export(BookExportFormat.NDJSON, out);
+        
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(rows).isEqualTo(count);
+        assertThat(lines).hasSize(count);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("title").asText()).isEqualTo("책 1");
+        verify(entityManager, times(2)).clear();
+    }
+    
+    @Test
+    @DisplayName("CSV는 헤더를 쓰고 쉼표와 따옴표가 든 값을 감싼다")
+    void export_CsvEscapesValues() throws Exception {
+        // given
+        Book book = Book.builder().id(1L).title("총, 균, 쇠").author("재레드 \"다이아몬드\"").build();
+        given(bookRepository.streamAll()).willReturn(Stream.of(book));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        // when
+        bookExportService.export(BookExportFormat.CSV, out);
+        
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[0]).startsWith("\uFEFFid,title,author");
+        assertThat(lines[1]).startsWith("1,\"총, 균, 쇠\",\"재레드 \"\"다이아몬드\"\"\",");
+    }
+    
+    private static Stream<Book> books(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> Book.builder().id(id).title("책 " + id).author("저자").build());
+    }
+}
@@ -0,0 +1,47 @@
+package com.bookllm.domain.book.service;
+
+import com.bookllm.domain.book.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookRatingReconcilerTest {
+    
+    @Mock
+    private BookRepository bookRepository;
+    
+    @Mock
+    private BookRatingService bookRatingService;
+    
+    @Test
+    @DisplayName("도서 id를 배치 크기 구간으로 나눠 차례로 다시 계산한다")
+    void reconcileAll_WalksIdRanges() {
+        // given
+        BookRatingReconcileProperties properties = new BookRatingReconcileProperties();
+        properties.setBatchSize(3);
+        BookRatingReconciler reconciler = new BookRatingReconciler(bookRepository, bookRatingService, properties);
+        given(bookRepository.findIdsAfter(0L, Limit.of(3))).willReturn(List.of(1L, 2L, 5L));
+        given(bookRepository.findIdsAfter(5L, Limit.of(3))).willReturn(List.of(8L));
+        given(bookRepository.findIdsAfter(8L, Limit.of(3))).willReturn(List.of());
+        willThrow(new IllegalStateException("lock wait timeout")).given(bookRatingService).reconcile(1L, 5L);
+        
+        // when
+        int batches = reconciler.reconcileAll();
+        
+        // then
+        assertThat(batches).isEqualTo(2);
+        verify(bookRatingService).reconcile(1L, 5L);
+        verify(bookRatingService).reconcile(8L, 8L);
+    }
+}
@@ -0,0 +1,61 @@
+package com.bookllm.domain.book.service;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.global.cache.ResponseCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookRatingServiceTest {
+    
+    @Mock
+    private BookRepository bookRepository;
+    
+    @Mock
+    private ResponseCache responseCache;
+    
+    @InjectMocks
+    private BookRatingService bookRatingService;
+    
+    @Test
+    @DisplayName("리뷰 작성 시 리뷰 수, 평점 합, 해당 구간을 한 번에 증가시킨다")
+    void addRating_IncrementsBucket() {
+        bookRatingService.addRating(1L, 4.5);
+        
+        verify(bookRepository).addRatingAggregates(1L, 1, 4.5, 0, 0, 0, 0, 1);
+    }
+    
+    @Test
+    @DisplayName("리뷰 삭제 시 같은 구간을 차감한다")
+    void removeRating_DecrementsBucket() {
+        bookRatingService.removeRating(1L, 0.5);
+        
+        verify(bookRepository).addRatingAggregates(1L, -1, -0.5, -1, 0, 0, 0, 0);
+    }
+    
+    @Test
+    @DisplayName("평점 구간은 반올림하고 1~5 범위로 자른다")
+    void ratingBucket_RoundsAndClamps() {
+        assertThat(Book.ratingBucket(0.0)).isEqualTo(1);
+        assertThat(Book.ratingBucket(2.4)).isEqualTo(2);
+        assertThat(Book.ratingBucket(2.5)).isEqualTo(3);
+        assertThat(Book.ratingBucket(5.0)).isEqualTo(5);
+    }
+    
+    @Test
+    @DisplayName("평균 평점은 집계 컬럼으로 계산한다")
+    void averageRating_UsesAggregates() {
+        Book book = Book.builder().title("어린 왕자").author("생텍쥐페리").reviewCount(4).ratingSum(18.0).build();
+        
+        assertThat(book.getAverageRating()).isEqualTo(4.5);
+        assertThat(Book.builder().title("빈 책").author("저자").build().getAverageRating()).isZero();
+    }
+}
@@ -0,0 +1,117 @@
+package com.bookllm.domain.book.service;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.event.BookSavedEvent;
+import com.bookllm.domain.book.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookResolverTest {
+    
+    @Mock
+    private BookRepository bookRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private BookResolver bookResolver;
+    
+    @BeforeEach
+    void setUp() {
+        bookResolver = new BookResolver(bookRepository, eventPublisher, transactionManager, new BookLookupProperties());
+    }
+    
+    @Test
+    @DisplayName("같은 책을 동시에 수백 번 요청해도 INSERT는 한 번만 실행된다")
+    void resolveId_SingleFlightUnderConcurrency() throws Exception {
+        // given
+        AtomicBoolean inserted = new AtomicBoolean();
+        given(bookRepository.findIdByNormalizedKey(anyString()))
+                .willAnswer(invocation -> inserted.get() ? Optional.of(42L) : Optional.empty());
+        given(bookRepository.insertIfAbsent(anyString(), anyString(), any(), anyString())).willAnswer(invocation -> {
+            Thread.sleep(50);
+            inserted.set(true);
+            return 1;
+        });
+        
+        int callers = 300;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callers; i++) {
+                // 공백/대소문자가 달라도 같은 키로 모인다
+                String title = i % 2 == 0 ? "어린 왕자" : "  어린   왕자 ";
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookResolver.resolveId(title, "Saint-Exupéry", "소설");
+                }));
+            }
+            start.countDown();
+            
+            // then
+            for (Future<Long> result : results) {
+                assertThat(result.get()).isEqualTo(42L);
+            }
+        }
+        verify(bookRepository, times(1)).insertIfAbsent(anyString(), anyString(), any(), anyString());
+        verify(eventPublisher, times(1)).publishEvent(any(BookSavedEvent.class));
+    }
+    
+    @Test
+    @DisplayName("한 번 찾은 책은 캐시에서 바로 돌려준다")
+    void resolveId_UsesCache() {
+        // given
+        given(bookRepository.findIdByNormalizedKey(anyString())).willReturn(Optional.of(7L));
+        
+        // when
+        bookResolver.resolveId("데미안", "헤르만 헤세", null);
+        Long bookId = bookResolver.resolveId("데미안", "헤르만 헤세", null);
+        
+        // then
+        assertThat(bookId).isEqualTo(7L);
+        verify(bookRepository, times(1)).findIdByNormalizedKey(anyString());
+    }
+    
+    @Test
+    @DisplayName("조회가 실패하면 예외를 전달하고 다음 요청은 다시 DB를 조회한다")
+    void resolveId_DoesNotCacheFailure() {
+        // given
+        given(bookRepository.findIdByNormalizedKey(Book.normalizedKeyOf("코스모스", "칼 세이건")))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(Optional.of(3L));
+        
+        // when & then
+        assertThatThrownBy(() -> bookResolver.resolveId("코스모스", "칼 세이건", null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(bookResolver.resolveId("코스모스", "칼 세이건", null)).isEqualTo(3L);
+    }
+}
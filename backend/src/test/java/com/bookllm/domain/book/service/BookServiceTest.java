@@ -0,0 +1,77 @@
+package com.bookllm.domain.book.service;
+
+import com.bookllm.domain.book.dto.CreateBookRequest;
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.domain.book.search.BookSearchIndexer;
+import com.bookllm.global.exception.BusinessException;
+import com.bookllm.global.exception.ErrorCode;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BookServiceTest {
+    
+    @Mock
+    private BookRepository bookRepository;
+    
+    @Mock
+    private BookSearchIndexer bookSearchIndexer;
+    
+    @Mock
+    private BookResolver bookResolver;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private BookService bookService;
+    
+    @BeforeEach
+    void setUp() {
+        bookService = new BookService(bookRepository, bookSearchIndexer, bookResolver, eventPublisher);
+    }
+    
+    @Test
+    @DisplayName("정규화 키 유니크 제약에 걸리면 이미 있는 책으로 돌려준다")
+    void createBook_MapsNormalizedKeyViolationToConflict() {
+        // given
+        given(bookRepository.save(any(Book.class))).willThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("중복", new SQLException("Duplicate entry"),
+                        "books.uk_books_normalized_key")));
+        
+        // when & then
+        assertThatThrownBy(() -> bookService.createBook(createRequest()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BOOK_ALREADY_EXISTS);
+    }
+    
+    @Test
+    @DisplayName("정규화 키가 아닌 무결성 위반은 중복으로 바꾸지 않고 그대로 던진다")
+    void createBook_RethrowsOtherIntegrityViolations() {
+        // given
+        DataIntegrityViolationException tooLong = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Data too long for column 'publisher' at row 1"));
+        given(bookRepository.save(any(Book.class))).willThrow(tooLong);
+        
+        // when & then
+        assertThatThrownBy(() -> bookService.createBook(createRequest())).isSameAs(tooLong);
+    }
+    
+    private CreateBookRequest createRequest() {
+        return new CreateBookRequest("어린 왕자", "생텍쥐페리", "소설", null, null, null, null);
+    }
+}
@@ -0,0 +1,159 @@
+package com.bookllm.domain.recommendation.service;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.recommendation.dto.RecommendationResponse;
+import com.bookllm.domain.recommendation.repository.RecommendationRepository;
+import com.bookllm.domain.recommendation.vector.VectorIndexer;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationServiceTest {
+    
+    @Mock
+    private RecommendationRepository recommendationRepository;
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private VectorIndexer vectorIndexer;
+    
+    private RecommendationService recommendationService;
+    
+    private Review testReview;
+    
+    @BeforeEach
+    void setUp() {
+        recommendationService = new RecommendationService(recommendationRepository, jdbcTemplate,
+                new RecommendationProperties(), vectorIndexer);
+        
+        testReview = Review.builder()
+                .id(10L)
+                .book(Book.builder().id(1L).title("어린 왕자").author("생텍쥐페리").build())
+                .rating(5.0)
+                .content("좋았다")
+                .build();
+    }
+    
+    @Test
+    @DisplayName("추천은 중복과 빈 항목을 걸러 한 번의 배치로 저장한다")
+    @SuppressWarnings("unchecked")
+    void replaceForReview_DedupesAndBatchInserts() {
+        // given
+        List<AiAnalysisResponse.Recommendation> recommendations = List.of(
+                recommendation("연금술사", "파울로 코엘료", 0.9),
+                recommendation(" 연금술사 ", "파울로 코엘료", 0.8),
+                recommendation("데미안", "헤르만 헤세", 0.7),
+                recommendation("", "작자 미상", 0.5)
+        );
+        
+        // when
+        int inserted = recommendationService.replaceForReview(testReview, recommendations);
+        
+        // then
+        assertThat(inserted).isEqualTo(2);
+        verify(recommendationRepository).deleteByReviewId(10L);
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(captor.getValue().get(0)[0]).isEqualTo(1L);
+        assertThat(captor.getValue().get(0)[2]).isEqualTo("연금술사");
+        assertThat(captor.getValue().get(1)[2]).isEqualTo("데미안");
+    }
+    
+    @Test
+    @DisplayName("원본 도서가 벡터 색인에 있으면 유사도를 색인으로 채우고, 없으면 AI 점수를 쓴다")
+    @SuppressWarnings("unchecked")
+    void replaceForReview_FillsSimilarityFromVectorIndex() {
+        // given
+        given(vectorIndexer.similarityToBook(eq(1L), contains("연금술사"))).willReturn(0.42);
+        given(vectorIndexer.similarityToBook(eq(1L), contains("데미안"))).willReturn(null);
+        List<AiAnalysisResponse.Recommendation> recommendations = List.of(
+                recommendation("연금술사", "파울로 코엘료", 0.9),
+                recommendation("데미안", "헤르만 헤세", 0.7)
+        );
+        
+        // when
+        recommendationService.replaceForReview(testReview, recommendations);
+        
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue().get(0)[5]).isEqualTo(0.42);
+        assertThat(captor.getValue().get(1)[5]).isEqualTo(0.7);
+    }
+    
+    @Test
+    @DisplayName("추천이 없으면 이전 추천만 지우고 insert는 하지 않는다")
+    void replaceForReview_EmptySkipsInsert() {
+        // when
+        int inserted = recommendationService.replaceForReview(testReview, List.of());
+        
+        // then
+        assertThat(inserted).isZero();
+        verify(recommendationRepository).deleteByReviewId(10L);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+    
+    @Test
+    @DisplayName("도서별 추천은 캐시되어 두 번째 조회는 DB를 거치지 않는다")
+    void getForBook_CachesPerBook() {
+        // given
+        given(recommendationRepository.findTopBySourceBookId(eq(1L), any(Limit.class))).willReturn(List.of(
+                new RecommendationResponse("연금술사", "파울로 코엘료", "꿈", 0.9, 3),
+                new RecommendationResponse("데미안", "헤르만 헤세", "성장", 0.7, 1)
+        ));
+        
+        // when
+        List<RecommendationResponse> first = recommendationService.getForBook(1L, 1);
+        List<RecommendationResponse> second = recommendationService.getForBook(1L, 10);
+        
+        // then
+        assertThat(first).extracting(RecommendationResponse::getTitle).containsExactly("연금술사");
+        assertThat(second).hasSize(2);
+        verify(recommendationRepository, times(1)).findTopBySourceBookId(eq(1L), any(Limit.class));
+    }
+    
+    @Test
+    @DisplayName("리뷰의 추천을 지우면 도서별 캐시도 무효화된다")
+    void deleteForReview_EvictsBookCache() {
+        // given
+        given(recommendationRepository.findTopBySourceBookId(eq(1L), any(Limit.class))).willReturn(List.of());
+        recommendationService.getForBook(1L, 10);
+        
+        // when
+        recommendationService.deleteForReview(10L, 1L);
+        recommendationService.getForBook(1L, 10);
+        
+        // then
+        verify(recommendationRepository).deleteByReviewId(10L);
+        verify(recommendationRepository, times(2)).findTopBySourceBookId(eq(1L), any(Limit.class));
+    }
+    
+    private AiAnalysisResponse.Recommendation recommendation(String title, String author, double score) {
+        return new AiAnalysisResponse.Recommendation(title, author, "추천 이유", score);
+    }
+}
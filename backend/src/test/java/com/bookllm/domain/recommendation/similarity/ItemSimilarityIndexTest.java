@@ -0,0 +1,158 @@
+package com.bookllm.domain.recommendation.similarity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ItemSimilarityIndexTest {
+    
+    private static final long A = 1L;
+    private static final long B = 2L;
+    private static final long C = 3L;
+    private static final long D = 4L;
+    
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    
+    @Test
+    @DisplayName("함께 평가한 사용자들의 평점 벡터로 코사인 유사도를 구해 높은 순으로 돌려준다")
+    void rebuild_ComputesCosineSimilarity() {
+        // given
+        ItemSimilarityIndex index = sampleIndex(10, 0.0);
+        
+        // when
+        index.rebuild(pool);
+        List<SimilarItem> similar = index.similar(A, 10);
+        
+        // then
+        // A = (5, 4, 0), B = (5, 4, 0), C = (0, 1, 5)
+        assertThat(similar).extracting(SimilarItem::bookId).containsExactly(B, C);
+        assertThat(similar.get(0).score()).isCloseTo(1.0, within(1e-6));
+        assertThat(similar.get(1).score()).isCloseTo(4 / Math.sqrt(41 * 26), within(1e-6));
+    }
+    
+    @Test
+    @DisplayName("함께 평가한 사용자가 적을수록 shrinkage로 점수를 깎는다")
+    void rebuild_ShrinksLowOverlapPairs() {
+        // given
+        ItemSimilarityIndex index = sampleIndex(10, 2.0);
+        
+        // when
+        index.rebuild(pool);
+        List<SimilarItem> similar = index.similar(A, 10);
+        
+        // then
+        // A-B는 2명이 겹쳐 2 / (2 + 2), A-C는 1명이 겹쳐 1 / (1 + 2)
+        assertThat(similar.get(0).score()).isCloseTo(0.5, within(1e-6));
+        assertThat(similar.get(1).score()).isCloseTo(4 / Math.sqrt(41 * 26) / 3, within(1e-6));
+    }
+    
+    @Test
+    @DisplayName("도서마다 상위 K개만 보관한다")
+    void rebuild_KeepsTopK() {
+        // given
+        ItemSimilarityIndex index = sampleIndex(1, 0.0);
+        
+        // when
+        index.rebuild(pool);
+        
+        // then
+        assertThat(index.similar(A, 10)).extracting(SimilarItem::bookId).containsExactly(B);
+    }
+    
+    @Test
+    @DisplayName("평점을 추가하면 전체를 다시 계산한 것과 같은 결과가 된다")
+    void put_MatchesFullRebuild() {
+        // given
+        ItemSimilarityIndex incremental = sampleIndex(10, 0.0);
+        incremental.rebuild(pool);
+        
+        ItemSimilarityIndex expected = sampleIndex(10, 0.0);
+        expected.load(30L, D, 4f);
+        expected.load(10L, D, 5f);
+        expected.finishLoad();
+        expected.rebuild(pool);
+        
+        // when
+        incremental.put(30L, D, 4f);
+        incremental.put(10L, D, 5f);
+        
+        // then
+        assertThat(incremental.similar(D, 10)).isEqualTo(expected.similar(D, 10));
+        assertThat(incremental.similar(C, 10)).extracting(SimilarItem::bookId)
+                .containsExactlyElementsOf(expected.similar(C, 10).stream().map(SimilarItem::bookId).toList());
+        assertThat(incremental.ratingCount()).isEqualTo(8);
+    }
+    
+    @Test
+    @DisplayName("평점을 지우면 더 이상 함께 평가되지 않은 도서는 목록에서 빠진다")
+    void remove_DropsPairsWithoutCoRaters() {
+        // given
+        ItemSimilarityIndex index = sampleIndex(10, 0.0);
+        index.rebuild(pool);
+        
+        // when
+        index.remove(20L, C);
+        
+        // then
+        assertThat(index.similar(A, 10)).extracting(SimilarItem::bookId).containsExactly(B);
+        assertThat(index.similar(C, 10)).isEmpty();
+        assertThat(index.ratingCount()).isEqualTo(5);
+    }
+    
+    @Test
+    @DisplayName("없는 평점을 지우거나 모르는 도서를 조회해도 아무 일도 일어나지 않는다")
+    void unknownIds_AreIgnored() {
+        // given
+        ItemSimilarityIndex index = sampleIndex(10, 0.0);
+        index.rebuild(pool);
+        
+        // when
+        index.remove(99L, A);
+        index.remove(10L, C);
+        
+        // then
+        assertThat(index.similar(999L, 10)).isEmpty();
+        assertThat(index.ratingCount()).isEqualTo(6);
+    }
+    
+    @Test
+    @DisplayName("도서와 사용자가 많아도 id 매핑과 병렬 재계산이 맞게 동작한다")
+    void rebuild_ManyItemsInParallel() {
+        // given
+        // 사용자 u는 도서 u, u+1을 평가 → 이웃한 도서끼리만 유사
+        ItemSimilarityIndex index = new ItemSimilarityIndex(5, 0.0);
+        int books = 5_000;
+        for (long user = 1; user < books; user++) {
+            index.load(user, user, 4f);
+            index.load(user, user + 1, 4f);
+        }
+        index.finishLoad();
+        
+        // when
+        index.rebuild(pool);
+        
+        // then
+        assertThat(index.itemCount()).isEqualTo(books);
+        assertThat(index.similar(2_500L, 10)).extracting(SimilarItem::bookId)
+                .containsExactlyInAnyOrder(2_499L, 2_501L);
+        assertThat(index.similar(1L, 10)).extracting(SimilarItem::bookId).containsExactly(2L);
+    }
+    
+    // 사용자 10: A=5, B=5 / 사용자 20: A=4, B=4, C=1 / 사용자 30: C=5
+    private ItemSimilarityIndex sampleIndex(int topK, double shrinkage) {
+        ItemSimilarityIndex index = new ItemSimilarityIndex(topK, shrinkage);
+        index.load(10L, A, 5f);
+        index.load(10L, B, 5f);
+        index.load(20L, A, 4f);
+        index.load(20L, B, 4f);
+        index.load(20L, C, 1f);
+        index.load(30L, C, 5f);
+        index.finishLoad();
+        return index;
+    }
+}
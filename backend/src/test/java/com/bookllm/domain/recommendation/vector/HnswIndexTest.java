@@ -0,0 +1,155 @@
+package com.bookllm.domain.recommendation.vector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswIndexTest {
+    
+    private static final int DIMENSION = 32;
+    
+    @Test
+    @DisplayName("근사 검색 결과가 전수 비교 결과와 대부분 일치한다")
+    void search_HasHighRecallAgainstBruteForce() {
+        // given
+        float[][] vectors = randomVectors(2_000, 7);
+        HnswIndex index = new HnswIndex(VectorStore.offHeap(DIMENSION), 16, 100);
+        for (int i = 0; i < vectors.length; i++) {
+            index.add(i + 1, vectors[i]);
+        }
+        
+        // when
+        int found = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            Set<Long> expected = bruteForce(vectors, vectors[q], 10, q + 1);
+            Set<Long> actual = index.search(vectors[q], 10, 64, q + 1).stream()
+                    .map(VectorHit::id)
+                    .collect(Collectors.toSet());
+            actual.retainAll(expected);
+            found += actual.size();
+        }
+        
+        // then
+        assertThat(found / (double) (queries * 10)).isGreaterThan(0.9);
+        index.close();
+    }
+    
+    @Test
+    @DisplayName("같은 id를 다시 넣으면 새 벡터로 바뀌고, 지운 id는 결과에 나오지 않는다")
+    void addAndRemove_ReplaceAndHideNodes() {
+        // given
+        float[][] vectors = randomVectors(200, 11);
+        HnswIndex index = new HnswIndex(VectorStore.offHeap(DIMENSION), 8, 50);
+        for (int i = 0; i < vectors.length; i++) {
+            index.add(i + 1, vectors[i]);
+        }
+        
+        // when
+        index.add(1, vectors[199]);
+        index.remove(200);
+        
+        // then
+        assertThat(index.size()).isEqualTo(199);
+        assertThat(index.vectorOf(1)).containsExactly(vectors[199]);
+        assertThat(index.vectorOf(200)).isNull();
+        List<VectorHit> hits = index.search(vectors[199], 5, 50, -1);
+        assertThat(hits.get(0).id()).isEqualTo(1L);
+        assertThat(hits).extracting(VectorHit::id).doesNotContain(200L);
+        index.close();
+    }
+    
+    @Test
+    @DisplayName("디스크에 저장한 색인을 다시 열면 같은 검색 결과와 마지막 id를 돌려준다")
+    void saveAndLoad_RoundTrips(@TempDir Path directory) throws IOException {
+        // given
+        float[][] vectors = randomVectors(500, 13);
+        Path graph = directory.resolve("books.hnsw");
+        Path vectorFile = directory.resolve("books.vectors");
+        HnswIndex index = new HnswIndex(VectorStore.mapped(DIMENSION, vectorFile), 8, 50);
+        for (int i = 0; i < vectors.length; i++) {
+            index.add(i + 1, vectors[i]);
+        }
+        index.remove(3);
+        List<VectorHit> before = index.search(vectors[0], 10, 50, 1);
+        index.save(graph);
+        index.close();
+        
+        // when
+        HnswIndex loaded = HnswIndex.load(graph, VectorStore.mapped(DIMENSION, vectorFile), 8, 50);
+        
+        // then
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.size()).isEqualTo(499);
+        assertThat(loaded.maxSourceId()).isEqualTo(500L);
+        assertThat(loaded.vectorOf(3)).isNull();
+        assertThat(loaded.search(vectors[0], 10, 50, 1)).isEqualTo(before);
+        loaded.close();
+    }
+    
+    @Test
+    @DisplayName("차원이 다른 파일은 읽지 않는다")
+    void load_RejectsDifferentDimension(@TempDir Path directory) throws IOException {
+        // given
+        Path graph = directory.resolve("books.hnsw");
+        Path vectorFile = directory.resolve("books.vectors");
+        HnswIndex index = new HnswIndex(VectorStore.mapped(DIMENSION, vectorFile), 8, 50);
+        index.add(1, randomVectors(1, 17)[0]);
+        index.save(graph);
+        index.close();
+        
+        // when
+        VectorStore otherDimension = VectorStore.mapped(DIMENSION * 2, vectorFile);
+        HnswIndex loaded = HnswIndex.load(graph, otherDimension, 8, 50);
+        
+        // then
+        assertThat(loaded).isNull();
+        otherDimension.close();
+    }
+    
+    private Set<Long> bruteForce(float[][] vectors, float[] query, int k, long excludeId) {
+        return IntStream.range(0, vectors.length)
+                .filter(i -> i + 1 != excludeId)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> dot(vectors[i], query)).reversed())
+                .limit(k)
+                .map(i -> (long) i + 1)
+                .collect(Collectors.toSet());
+    }
+    
+    private float[][] randomVectors(int count, long seed) {
+        Random random = new Random(seed);
+        float[][] vectors = new float[count][DIMENSION];
+        for (float[] vector : vectors) {
+            double norm = 0;
+            for (int i = 0; i < DIMENSION; i++) {
+                vector[i] = (float) random.nextGaussian();
+                norm += vector[i] * vector[i];
+            }
+            float scale = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < DIMENSION; i++) {
+                vector[i] *= scale;
+            }
+        }
+        return vectors;
+    }
+    
+    private double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
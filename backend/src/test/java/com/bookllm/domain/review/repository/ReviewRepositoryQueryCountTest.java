@@ -0,0 +1,121 @@
+package com.bookllm.domain.review.repository;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.review.dto.ReviewResponse;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.user.entity.User;
+import com.bookllm.global.config.QueryCountConfig;
+import com.bookllm.global.query.QueryCountHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리뷰 조회가 리뷰 수와 무관하게 한 번의 SQL로 끝나는지 지키는 회귀 테스트
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryCountConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+class ReviewRepositoryQueryCountTest {
+    
+    @Autowired
+    private ReviewRepository reviewRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    private Long userId;
+    private Long bookId;
+    private Long reviewId;
+    
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+                .email("reader@example.com").password("encoded").nickname("독서가").build());
+        Book book = entityManager.persist(Book.builder().title("어린 왕자").author("생텍쥐페리").build());
+        userId = user.getId();
+        bookId = book.getId();
+        
+        // 작성자/도서가 서로 다른 리뷰를 여러 건 만들어 지연 로딩이 일어나면 쿼리 수가 늘도록 한다
+        for (int i = 0; i < 5; i++) {
+            User author = entityManager.persist(User.builder()
+                    .email("author" + i + "@example.com").password("encoded").nickname("작성자" + i).build());
+            Book other = entityManager.persist(Book.builder().title("책" + i).author("저자" + i).build());
+            entityManager.persist(review(author, book));
+            entityManager.persist(review(user, other));
+        }
+        reviewId = entityManager.persist(review(user, book)).getId();
+        entityManager.flush();
+        entityManager.clear();
+        QueryCountHolder.start();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        QueryCountHolder.stop();
+    }
+    
+    @Test
+    @DisplayName("도서별 리뷰 목록은 작성자와 도서를 한 번에 읽는다")
+    void findByBookId_SingleStatement() {
+        List<ReviewResponse> responses = reviewRepository.findByBookId(bookId).stream()
+                .map(ReviewResponse::from)
+                .toList();
+        
+        assertThat(responses).hasSize(6);
+        assertThat(QueryCountHolder.current()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("사용자별 리뷰 목록은 작성자와 도서를 한 번에 읽는다")
+    void findByUserId_SingleStatement() {
+        List<ReviewResponse> responses = reviewRepository.findByUserId(userId).stream()
+                .map(ReviewResponse::from)
+                .toList();
+        
+        assertThat(responses).hasSize(6);
+        assertThat(QueryCountHolder.current()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("키셋 페이지 조회는 작성자와 도서를 한 번에 읽는다")
+    void findFirstPageByBookId_SingleStatement() {
+        List<ReviewResponse> responses = reviewRepository.findFirstPageByBookId(bookId, Limit.of(4)).stream()
+                .map(ReviewResponse::from)
+                .toList();
+        
+        assertThat(responses).hasSize(4);
+        assertThat(QueryCountHolder.current()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("단건 조회는 작성자와 도서를 한 번에 읽는다")
+    void findWithUserAndBookById_SingleStatement() {
+        ReviewResponse response = reviewRepository.findWithUserAndBookById(reviewId)
+                .map(ReviewResponse::from)
+                .orElseThrow();
+        
+        assertThat(response.getBookTitle()).isEqualTo("어린 왕자");
+        assertThat(QueryCountHolder.current()).isEqualTo(1);
+    }
+    
+    private static Review review(User user, Book book) {
+        return Review.builder()
+                .user(user)
+                .book(book)
+                .content("순수함과 사랑에 대한 아름다운 이야기였습니다.")
+                .rating(5.0)
+                .build();
+    }
+}
@@ -0,0 +1,280 @@
+package com.bookllm.domain.review.service;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.recommendation.service.RecommendationService;
+import com.bookllm.domain.review.entity.AiAnalysisJob;
+import com.bookllm.domain.review.entity.AiAnalysisJobStatus;
+import com.bookllm.domain.review.entity.AiAnalysisStatus;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.entity.ReviewAiAnalysis;
+import com.bookllm.domain.review.repository.AiAnalysisJobRepository;
+import com.bookllm.domain.review.repository.ReviewAiAnalysisRepository;
+import com.bookllm.domain.review.repository.ReviewRepository;
+import com.bookllm.global.cache.ResponseCache;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AiAnalysisJobServiceTest {
+    
+    @Mock
+    private AiAnalysisJobRepository jobRepository;
+    
+    @Mock
+    private ReviewRepository reviewRepository;
+    
+    @Mock
+    private ReviewAiAnalysisRepository reviewAiAnalysisRepository;
+    
+    @Mock
+    private RecommendationService recommendationService;
+    
+    @Mock
+    private ResponseCache responseCache;
+    
+    private AiAnalysisJobProperties properties;
+    private AiAnalysisJobService jobService;
+    
+    private Review testReview;
+    private AiAnalysisJob testJob;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new AiAnalysisJobProperties();
+        properties.setMaxAttempts(3);
+        properties.setBackoffBase(Duration.ofSeconds(2));
+        properties.setBackoffMax(Duration.ofSeconds(30));
+        jobService = new AiAnalysisJobService(jobRepository, reviewRepository, reviewAiAnalysisRepository,
+                recommendationService, responseCache, properties, new ObjectMapper());
+        
+        testReview = Review.builder()
+                .id(10L)
+                .book(Book.builder().id(1L).title("어린 왕자").author("생텍쥐페리").build())
+                .content("순수함과 사랑에 대한 아름다운 이야기였습니다.")
+                .rating(5.0)
+                .userEmotion("감동")
+                .build();
+        testJob = AiAnalysisJob.builder()
+                .id(100L)
+                .reviewId(10L)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+    
+    @Test
+    @DisplayName("재시도 횟수가 남아 있으면 백오프 후 다시 대기열에 넣는다")
+    void fail_SchedulesRetryWithBackoff() {
+        // given
+        testJob.markRunning(properties.getLease());
+        given(jobRepository.findByIdForUpdate(100L)).willReturn(Optional.of(testJob));
+        given(reviewRepository.findById(10L)).willReturn(Optional.of(testReview));
+        
+        // when
+        jobService.fail(testJob, "timeout");
+        
+        // then
+        assertThat(testJob.getStatus()).isEqualTo(AiAnalysisJobStatus.PENDING);
+        assertThat(testJob.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(testJob.getLastError()).isEqualTo("timeout");
+        assertThat(testReview.getAiAnalysisStatus()).isEqualTo(AiAnalysisStatus.PENDING);
+    }
+    
+    @Test
+    @DisplayName("최대 재시도 횟수를 넘기면 작업과 리뷰를 실패 처리한다")
+    void fail_MarksFailedAfterMaxAttempts() {
+        // given
+        for (int i = 0; i < properties.getMaxAttempts(); i++) {
+            testJob.markRunning(properties.getLease());
+        }
+        given(jobRepository.findByIdForUpdate(100L)).willReturn(Optional.of(testJob));
+        given(reviewRepository.findById(10L)).willReturn(Optional.of(testReview));
+        
+        // when
+        jobService.fail(testJob, "timeout");
+        
+        // then
+        assertThat(testJob.getStatus()).isEqualTo(AiAnalysisJobStatus.FAILED);
+        assertThat(testReview.getAiAnalysisStatus()).isEqualTo(AiAnalysisStatus.FAILED);
+    }
+    
+    @Test
+    @DisplayName("리스가 만료되어 돌아온 작업이 시도 횟수를 다 썼으면 다시 돌리지 않고 실패 처리한다")
+    void claim_FailsExpiredJobThatUsedAllAttempts() {
+        // given
+        for (int i = 0; i < properties.getMaxAttempts(); i++) {
+            testJob.markRunning(properties.getLease());
+        }
+        AiAnalysisJob fresh = AiAnalysisJob.builder().id(101L).reviewId(11L).build();
+        given(jobRepository.findClaimable(any(LocalDateTime.class), eq(2))).willReturn(List.of(testJob, fresh));
+        given(reviewRepository.findById(10L)).willReturn(Optional.of(testReview));
+        
+        // when
+        List<AiAnalysisJob> claimed = jobService.claim(2);
+        
+        // then
+        assertThat(claimed).containsExactly(fresh);
+        assertThat(fresh.getStatus()).isEqualTo(AiAnalysisJobStatus.RUNNING);
+        assertThat(testJob.getStatus()).isEqualTo(AiAnalysisJobStatus.FAILED);
+        assertThat(testJob.getAttempts()).isEqualTo(properties.getMaxAttempts());
+        assertThat(testReview.getAiAnalysisStatus()).isEqualTo(AiAnalysisStatus.FAILED);
+        verify(reviewRepository).updateAiAnalysisStatus(List.of(11L), AiAnalysisStatus.PROCESSING);
+    }
+    
+    @Test
+    @DisplayName("보존 기간이 지난 끝난 작업만 지운다")
+    void purgeDone_DeletesDoneJobsOlderThanRetention() {
+        // given
+        properties.setDoneRetention(Duration.ofDays(7));
+        
+        // when
+        jobService.purgeDone();
+        
+        // then
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).deleteByStatusUpdatedBefore(eq(AiAnalysisJobStatus.DONE), before.capture());
+        assertThat(before.getValue()).isBefore(LocalDateTime.now().minusDays(6));
+    }
+    
+    @Test
+    @DisplayName("백오프는 지수적으로 늘어나고 상한을 넘지 않는다")
+    void backoff_GrowsExponentiallyUpToMax() {
+        assertThat(jobService.backoff(1)).isLessThanOrEqualTo(Duration.ofSeconds(2));
+        assertThat(jobService.backoff(3)).isGreaterThan(Duration.ofSeconds(6));
+        assertThat(jobService.backoff(30)).isLessThanOrEqualTo(Duration.ofSeconds(30));
+    }
+    
+    @Test
+    @DisplayName("분석 완료 시 분석 테이블에 결과를 저장하고 작업을 종료한다")
+    void complete_FillsReviewAnalysis() {
+        // given
+        AiAnalysisResponse response = AiAnalysisResponse.builder()
+                .reviewId(10L)
+                .aiResponse(new AiAnalysisResponse.AiResponse(
+                        "공감합니다", List.of("통찰1", "통찰2"), Map.of("primary", "감동"), null, "개인화된 통찰"))
+                .build();
+        testJob.markRunning(properties.getLease());
+        given(jobRepository.findByIdForUpdate(100L)).willReturn(Optional.of(testJob));
+        given(reviewRepository.findById(10L)).willReturn(Optional.of(testReview));
+        given(reviewAiAnalysisRepository.findById(10L)).willReturn(Optional.empty());
+        
+        // when
+        jobService.complete(testJob, response);
+        
+        // then
+        ArgumentCaptor<ReviewAiAnalysis> captor = ArgumentCaptor.forClass(ReviewAiAnalysis.class);
+        verify(reviewAiAnalysisRepository).save(captor.capture());
+        ReviewAiAnalysis analysis = captor.getValue();
+        assertThat(testJob.getStatus()).isEqualTo(AiAnalysisJobStatus.DONE);
+        assertThat(testReview.getAiAnalysisStatus()).isEqualTo(AiAnalysisStatus.COMPLETED);
+        assertThat(analysis.getEmpathyMessage()).isEqualTo("공감합니다");
+        assertThat(analysis.getBookInsights()).isEqualTo("통찰1, 통찰2");
+        assertThat(analysis.getEmotionAnalysis()).isEqualTo("{\"primary\":\"감동\"}");
+        assertThat(analysis.getPersonalizedInsight()).isEqualTo("개인화된 통찰");
+    }
+    
+    @Test
+    @DisplayName("리스가 만료되어 다른 워커가 다시 가져간 작업에는 이전 워커의 결과를 반영하지 않는다")
+    void complete_IgnoresJobReclaimedByAnotherWorker() {
+        // given
+        testJob.markRunning(properties.getLease());
+        testJob.markRunning(properties.getLease());
+        // 앞선 claim은 이미 만료된 리스 시각을 들고 있다
+        AiAnalysisJob stale = AiAnalysisJob.builder()
+                .id(100L)
+                .reviewId(10L)
+                .lockedUntil(testJob.getLockedUntil().minus(properties.getLease()))
+                .build();
+        given(jobRepository.findByIdForUpdate(100L)).willReturn(Optional.of(testJob));
+        
+        // when
+        jobService.complete(stale, AiAnalysisResponse.empty());
+        jobService.fail(stale, "timeout");
+        
+        // then
+        assertThat(testJob.getStatus()).isEqualTo(AiAnalysisJobStatus.RUNNING);
+        assertThat(testJob.getLastError()).isNull();
+        verify(reviewRepository, never()).findById(any());
+        verify(reviewAiAnalysisRepository, never()).save(any());
+    }
+    
+    @Test
+    @DisplayName("이미 끝난 작업은 늦게 도착한 실패로 되돌리지 않는다")
+    void fail_IgnoresJobThatIsNoLongerRunning() {
+        // given
+        testJob.markRunning(properties.getLease());
+        AiAnalysisJob claimed = AiAnalysisJob.builder()
+                .id(100L)
+                .reviewId(10L)
+                .lockedUntil(testJob.getLockedUntil())
+                .build();
+        testJob.markDone();
+        given(jobRepository.findByIdForUpdate(100L)).willReturn(Optional.of(testJob));
+        
+        // when
+        jobService.fail(claimed, "timeout");
+        
+        // then
+        assertThat(testJob.getStatus()).isEqualTo(AiAnalysisJobStatus.DONE);
+        verify(reviewRepository, never()).findById(any());
+    }
+    
+    @Test
+    @DisplayName("스트림이 끊기면 아직 가져간 작업일 때만 시도 횟수를 되돌려 대기열에 넣는다")
+    void release_RefundsAttemptForOwnedJob() {
+        // given
+        testJob.markRunning(properties.getLease());
+        given(jobRepository.findByIdForUpdate(100L)).willReturn(Optional.of(testJob));
+        given(reviewRepository.findById(10L)).willReturn(Optional.of(testReview));
+        
+        // when
+        jobService.release(testJob, "스트리밍 연결이 끊겼습니다");
+        
+        // then
+        assertThat(testJob.getStatus()).isEqualTo(AiAnalysisJobStatus.PENDING);
+        assertThat(testJob.getAttempts()).isZero();
+        assertThat(testReview.getAiAnalysisStatus()).isEqualTo(AiAnalysisStatus.PENDING);
+    }
+    
+    @Test
+    @DisplayName("리스가 지나 워커가 끝낸 작업은 늦게 끊긴 스트림이 되돌리지 않는다")
+    void release_IgnoresJobCompletedByWorker() {
+        // given
+        testJob.markRunning(properties.getLease());
+        AiAnalysisJob streamed = AiAnalysisJob.builder()
+                .id(100L)
+                .reviewId(10L)
+                .lockedUntil(testJob.getLockedUntil())
+                .build();
+        testJob.markRunning(properties.getLease());
+        testJob.markDone();
+        given(jobRepository.findByIdForUpdate(100L)).willReturn(Optional.of(testJob));
+        
+        // when
+        jobService.release(streamed, "스트리밍 연결이 끊겼습니다");
+        
+        // then
+        assertThat(testJob.getStatus()).isEqualTo(AiAnalysisJobStatus.DONE);
+        assertThat(testJob.getAttempts()).isEqualTo(2);
+        verify(reviewRepository, never()).findById(any());
+    }
+}
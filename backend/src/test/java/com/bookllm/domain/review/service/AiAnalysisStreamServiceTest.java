@@ -0,0 +1,263 @@
+package com.bookllm.domain.review.service;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.review.dto.ReviewAnalysisStatusResponse;
+import com.bookllm.domain.review.entity.AiAnalysisJob;
+import com.bookllm.domain.review.entity.AiAnalysisStatus;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.global.exception.BusinessException;
+import com.bookllm.infrastructure.ai.AiServiceClient;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AiAnalysisStreamServiceTest {
+    
+    private static final String DONE = """
+            {"review_id":1,"ai_response":{"empathy_message":"공감합니다","book_insights":["통찰"],
+            "emotion_analysis":{"primary":"감동"},"personalized_insight":"개인"},"recommendations":[]}""";
+    
+    @Mock
+    private AiAnalysisJobService jobService;
+    
+    @Mock
+    private ReviewService reviewService;
+    
+    @Mock
+    private AiServiceClient aiServiceClient;
+    
+    private AiAnalysisStreamService streamService;
+    private Review review;
+    private AiAnalysisJob job;
+    
+    @BeforeEach
+    void setUp() {
+        streamService = new AiAnalysisStreamService(jobService, reviewService, aiServiceClient,
+                new AiAnalysisJobProperties(), new ObjectMapper());
+        Book book = Book.builder().id(1L).title("어린 왕자").author("생텍쥐페리").build();
+        review = Review.builder().id(1L).book(book).content("좋았다").rating(5.0).userEmotion("감동").build();
+        job = AiAnalysisJob.builder().id(10L).reviewId(1L).build();
+    }
+    
+    @Test
+    @DisplayName("조각 이벤트는 그대로 전달하고 done을 받으면 결과를 저장한 뒤 분석 상태를 보낸다")
+    void stream_ForwardsChunksAndPersistsOnDone() {
+        // given
+        ReviewAnalysisStatusResponse status = ReviewAnalysisStatusResponse.builder()
+                .reviewId(1L).status(AiAnalysisStatus.COMPLETED).aiEmpathyMessage("공감합니다").build();
+        given(jobService.findReviewForAnalysis(1L)).willReturn(Optional.of(review));
+        given(jobService.claimForStreaming(1L)).willReturn(Optional.of(job));
+        given(aiServiceClient.analyzeReviewStream(review, review.getBook())).willReturn(Flux.just(
+                upstream("delta", "{\"field\":\"empathy_message\",\"text\":\"공감\"}"),
+                upstream("section", "{\"field\":\"book_insights\",\"value\":[\"통찰\"]}"),
+                upstream("done", DONE)));
+        given(reviewService.getAnalysisStatus(1L)).willReturn(status);
+        
+        // when
+        List<ServerSentEvent<Object>> events = streamService.stream(1L).collectList().block(Duration.ofSeconds(5));
+        
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("delta", "section", "done");
+        assertThat(events.get(0).data()).isEqualTo("{\"field\":\"empathy_message\",\"text\":\"공감\"}");
+        assertThat(events.get(2).data()).isSameAs(status);
+        ArgumentCaptor<AiAnalysisResponse> saved = ArgumentCaptor.forClass(AiAnalysisResponse.class);
+        verify(jobService).completeStreamed(eq(1L), eq(job), saved.capture());
+        assertThat(saved.getValue().getEmpathyMessage()).isEqualTo("공감합니다");
+        verify(jobService, never()).release(any(), anyString());
+        verify(jobService, never()).fail(any(), anyString());
+    }
+    
+    @Test
+    @DisplayName("이미 분석된 리뷰는 ai-service를 부르지 않고 저장된 결과로 done 하나만 보낸다")
+    void stream_CompletedReviewReturnsStoredResult() {
+        // given
+        Review completed = Review.builder().id(1L).book(review.getBook()).content("좋았다").rating(5.0)
+                .aiAnalysisStatus(AiAnalysisStatus.COMPLETED).build();
+        ReviewAnalysisStatusResponse status = ReviewAnalysisStatusResponse.builder().reviewId(1L).build();
+        given(jobService.findReviewForAnalysis(1L)).willReturn(Optional.of(completed));
+        given(reviewService.getAnalysisStatus(1L)).willReturn(status);
+        
+        // when
+        List<ServerSentEvent<Object>> events = streamService.stream(1L).collectList().block(Duration.ofSeconds(5));
+        
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("done");
+        verify(aiServiceClient, never()).analyzeReviewStream(any(), any());
+        verify(jobService, never()).claimForStreaming(anyLong());
+    }
+    
+    @Test
+    @DisplayName("ai-service 스트림이 실패하면 error 이벤트로 끝내고 시도 횟수를 쓴 채 재시도로 넘긴다")
+    void stream_FailsJobOnUpstreamError() {
+        // given
+        given(jobService.findReviewForAnalysis(1L)).willReturn(Optional.of(review));
+        given(jobService.claimForStreaming(1L)).willReturn(Optional.of(job));
+        given(aiServiceClient.analyzeReviewStream(review, review.getBook())).willReturn(Flux.concat(
+                Flux.just(upstream("delta", "{\"field\":\"empathy_message\",\"text\":\"공감\"}")),
+                Flux.error(new IllegalStateException("upstream"))));
+        
+        // when
+        List<ServerSentEvent<Object>> events = streamService.stream(1L).collectList().block(Duration.ofSeconds(5));
+        
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("delta", "error");
+        verify(jobService, timeout(1_000)).fail(job, "upstream");
+        verify(jobService, never()).release(any(), anyString());
+        verify(jobService, never()).completeStreamed(anyLong(), any(), any());
+    }
+    
+    @Test
+    @DisplayName("done 없이 스트림이 끝나면 실패로 보고 재시도로 넘긴다")
+    void stream_FailsJobWhenDoneIsMissing() {
+        // given
+        given(jobService.findReviewForAnalysis(1L)).willReturn(Optional.of(review));
+        given(jobService.claimForStreaming(1L)).willReturn(Optional.of(job));
+        given(aiServiceClient.analyzeReviewStream(review, review.getBook())).willReturn(
+                Flux.just(upstream("delta", "{\"field\":\"empathy_message\",\"text\":\"공감\"}")));
+        
+        // when
+        List<ServerSentEvent<Object>> events = streamService.stream(1L).collectList().block(Duration.ofSeconds(5));
+        
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("delta", "error");
+        verify(jobService, timeout(1_000)).fail(eq(job), anyString());
+    }
+    
+    @Test
+    @DisplayName("클라이언트가 끊으면 ai-service 구독을 취소하고 작업을 돌려준다")
+    void stream_CancelsUpstreamAndReleasesJobOnDisconnect() throws InterruptedException {
+        // given
+        Sinks.Many<ServerSentEvent<String>> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        given(jobService.findReviewForAnalysis(1L)).willReturn(Optional.of(review));
+        given(jobService.claimForStreaming(1L)).willReturn(Optional.of(job));
+        CountDownLatch upstreamCancelled = new CountDownLatch(1);
+        given(aiServiceClient.analyzeReviewStream(review, review.getBook()))
+                .willReturn(upstream.asFlux().doOnCancel(upstreamCancelled::countDown));
+        CountDownLatch relayed = new CountDownLatch(1);
+        Disposable subscription = streamService.stream(1L).subscribe(event -> relayed.countDown());
+        upstream.tryEmitNext(upstream("delta", "{\"field\":\"empathy_message\",\"text\":\"공감\"}"));
+        // 선점은 구독 시점에 별도 스레드에서 일어나므로 첫 조각이 전달된 뒤에 끊는다
+        assertThat(relayed.await(1, TimeUnit.SECONDS)).isTrue();
+        
+        // when
+        subscription.dispose();
+        
+        // then
+        assertThat(upstreamCancelled.await(1, TimeUnit.SECONDS)).isTrue();
+        verify(jobService, timeout(1_000)).release(job, "스트리밍 연결이 끊겼습니다");
+        verify(jobService, never()).fail(any(), anyString());
+    }
+    
+    @Test
+    @DisplayName("워커가 이미 처리 중이면 ai-service를 부르지 않고 워커의 결과를 기다려 done으로 보낸다")
+    void stream_AwaitsWorkerWhenWorkerOwnsJob() {
+        // given
+        ReviewAnalysisStatusResponse processing = status(AiAnalysisStatus.PROCESSING);
+        ReviewAnalysisStatusResponse completed = status(AiAnalysisStatus.COMPLETED);
+        given(jobService.findReviewForAnalysis(1L)).willReturn(Optional.of(review));
+        given(jobService.claimForStreaming(1L)).willReturn(Optional.empty());
+        given(reviewService.getAnalysisStatus(1L)).willReturn(processing, completed);
+        
+        // when
+        List<ServerSentEvent<Object>> events = streamService.stream(1L).collectList().block(Duration.ofSeconds(5));
+        
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("status", "done");
+        assertThat(events.get(1).data()).isSameAs(completed);
+        verify(aiServiceClient, never()).analyzeReviewStream(any(), any());
+        verify(jobService, never()).completeStreamed(anyLong(), any(), any());
+    }
+    
+    @Test
+    @DisplayName("워커가 재시도로 돌려놓거나 최종 실패하면 error로 끝낸다")
+    void stream_FailsWhenWorkerDoesNotComplete() {
+        // given
+        given(jobService.findReviewForAnalysis(1L)).willReturn(Optional.of(review));
+        given(jobService.claimForStreaming(1L)).willReturn(Optional.empty());
+        given(reviewService.getAnalysisStatus(1L))
+                .willReturn(status(AiAnalysisStatus.PROCESSING), status(AiAnalysisStatus.PENDING));
+        
+        // when
+        List<ServerSentEvent<Object>> events = streamService.stream(1L).collectList().block(Duration.ofSeconds(5));
+        
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("status", "error");
+        verify(aiServiceClient, never()).analyzeReviewStream(any(), any());
+    }
+    
+    @Test
+    @DisplayName("돌고 있는 작업이 없는 실패한 리뷰는 직접 스트리밍하고 결과는 리뷰 기준으로 저장한다")
+    void stream_PersistsByReviewWhenNoJobIsRunning() {
+        // given
+        given(jobService.findReviewForAnalysis(1L)).willReturn(Optional.of(review));
+        given(jobService.claimForStreaming(1L)).willReturn(Optional.empty());
+        given(reviewService.getAnalysisStatus(1L)).willReturn(status(AiAnalysisStatus.FAILED));
+        given(aiServiceClient.analyzeReviewStream(review, review.getBook())).willReturn(
+                Flux.just(upstream("done", DONE)));
+        
+        // when
+        streamService.stream(1L).collectList().block(Duration.ofSeconds(5));
+        
+        // then
+        verify(jobService).completeStreamed(eq(1L), eq(null), any(AiAnalysisResponse.class));
+    }
+    
+    @Test
+    @DisplayName("구독하기 전에는 작업을 가져가지 않는다")
+    void stream_ClaimsJobOnlyOnSubscribe() {
+        // given
+        given(jobService.findReviewForAnalysis(1L)).willReturn(Optional.of(review));
+        
+        // when
+        streamService.stream(1L);
+        
+        // then
+        verify(jobService, never()).claimForStreaming(anyLong());
+    }
+    
+    @Test
+    @DisplayName("존재하지 않는 리뷰는 스트림을 열지 않는다")
+    void stream_ThrowsWhenReviewNotFound() {
+        // given
+        given(jobService.findReviewForAnalysis(99L)).willReturn(Optional.empty());
+        
+        // when & then
+        assertThatThrownBy(() -> streamService.stream(99L)).isInstanceOf(BusinessException.class);
+    }
+    
+    private static ReviewAnalysisStatusResponse status(AiAnalysisStatus status) {
+        return ReviewAnalysisStatusResponse.builder().reviewId(1L).status(status).build();
+    }
+    
+    private static ServerSentEvent<String> upstream(String event, String data) {
+        return ServerSentEvent.builder(data).event(event).build();
+    }
+}
@@ -0,0 +1,317 @@
+package com.bookllm.domain.review.service;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.book.repository.BookRepository;
+import com.bookllm.domain.book.service.BookRatingService;
+import com.bookllm.domain.recommendation.service.RecommendationService;
+import com.bookllm.domain.review.dto.CreateReviewRequest;
+import com.bookllm.domain.review.dto.ReviewCursor;
+import com.bookllm.domain.review.dto.ReviewResponse;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.domain.review.event.ReviewDeletedEvent;
+import com.bookllm.domain.review.event.ReviewRatingChangedEvent;
+import com.bookllm.domain.review.repository.ReviewAiAnalysisRepository;
+import com.bookllm.domain.review.repository.ReviewRepository;
+import com.bookllm.domain.user.entity.User;
+import com.bookllm.domain.user.repository.UserRepository;
+import com.bookllm.global.cache.CachedResource;
+import com.bookllm.global.cache.ResponseCache;
+import com.bookllm.global.dto.CursorPageResponse;
+import com.bookllm.global.exception.BusinessException;
+import com.bookllm.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewServiceTest {
+    
+    @Mock
+    private ReviewRepository reviewRepository;
+    
+    @Mock
+    private ReviewAiAnalysisRepository reviewAiAnalysisRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private BookRepository bookRepository;
+    
+    @Mock
+    private BookRatingService bookRatingService;
+    
+    @Mock
+    private AiAnalysisJobService aiAnalysisJobService;
+    
+    @Mock
+    private RecommendationService recommendationService;
+    
+    @Mock
+    private ObjectMapper objectMapper;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private ReviewedBookCache reviewedBookCache;
+    
+    @Mock
+    private ResponseCache responseCache;
+    
+    @InjectMocks
+    private ReviewService reviewService;
+    
+    private User testUser;
+    private Book testBook;
+    private LocalDateTime baseTime;
+    
+    @BeforeEach
+    void setUp() {
+        testUser = User.builder().id(1L).email("test@example.com").password("encoded").nickname("테스터").build();
+        testBook = Book.builder().id(1L).title("어린 왕자").author("생텍쥐페리").build();
+        baseTime = LocalDateTime.of(2025, 9, 1, 12, 0);
+    }
+    
+    @Test
+    @DisplayName("페이지 크기보다 많이 조회되면 다음 커서를 돌려준다")
+    void getBookReviews_ReturnsNextCursor() {
+        // given
+        given(reviewRepository.findFirstPageByBookId(1L, Limit.of(4))).willReturn(reviews(10, 4));
+        
+        // when
+        CursorPageResponse<ReviewResponse> page = reviewService.getBookReviews(1L, null, 3);
+        
+        // then
+        assertThat(page.getItems()).extracting(ReviewResponse::getId).containsExactly(10L, 9L, 8L);
+        assertThat(page.isHasNext()).isTrue();
+        ReviewCursor cursor = ReviewCursor.decode(page.getNextCursor());
+        assertThat(cursor.id()).isEqualTo(8L);
+        assertThat(cursor.createdAt()).isEqualTo(baseTime.plusMinutes(8));
+    }
+    
+    @Test
+    @DisplayName("커서 이후 행을 조회하고 마지막 페이지에서는 커서를 비운다")
+    void getBookReviews_LastPage() {
+        // given
+        String cursor = new ReviewCursor(baseTime.plusMinutes(8), 8L).encode();
+        given(reviewRepository.findPageByBookIdAfter(eq(1L), eq(baseTime.plusMinutes(8)), eq(8L), eq(Limit.of(4))))
+                .willReturn(reviews(7, 2));
+        
+        // when
+        CursorPageResponse<ReviewResponse> page = reviewService.getBookReviews(1L, cursor, 3);
+        
+        // then
+        assertThat(page.getItems()).extracting(ReviewResponse::getId).containsExactly(7L, 6L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+    
+    @Test
+    @DisplayName("페이지 크기는 최대 100건으로 제한한다")
+    void getUserReviews_CapsPageSize() {
+        // given
+        given(reviewRepository.findFirstPageByUserId(1L, Limit.of(101))).willReturn(List.of());
+        
+        // when
+        CursorPageResponse<ReviewResponse> page = reviewService.getUserReviews(1L, null, 10_000);
+        
+        // then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("잘못된 커서는 요청 오류로 처리한다")
+    void getUserReviews_InvalidCursor() {
+        assertThatThrownBy(() -> reviewService.getUserReviews(1L, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("잘못된 페이지 커서");
+    }
+    
+    @Test
+    @DisplayName("fields로 요청한 필드만 응답하고 커서용 키는 숨긴다")
+    void getBookReviewFields_ReturnsOnlyRequestedFields() {
+        // given
+        given(reviewRepository.findFieldsByBookId(eq(1L), any(), isNull(), eq(2))).willReturn(List.of(
+                row(10L, "어린 왕자", 5.0), row(9L, "어린 왕자", 4.0)));
+        
+        // when
+        CursorPageResponse<Map<String, Object>> page =
+                reviewService.getBookReviewFields(1L, "bookTitle,rating", null, 1);
+        
+        // then
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0)).containsOnlyKeys("bookTitle", "rating");
+        assertThat(ReviewCursor.decode(page.getNextCursor()).id()).isEqualTo(10L);
+    }
+    
+    @Test
+    @DisplayName("알 수 없는 필드는 요청 오류로 처리한다")
+    void getBookReviewFields_UnknownField() {
+        assertThatThrownBy(() -> reviewService.getBookReviewFields(1L, "bookTitle,password", null, 20))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("password");
+    }
+    
+    @Test
+    @DisplayName("리뷰 삭제 시 도서 평점 집계에서 해당 평점을 뺀다")
+    void deleteReview_RemovesRatingFromBook() {
+        // given
+        Review review = reviews(7L, 1).get(0);
+        given(reviewRepository.findById(7L)).willReturn(Optional.of(review));
+        
+        // when
+        reviewService.deleteReview(1L, 7L);
+        
+        // then
+        verify(reviewRepository).delete(review);
+        verify(bookRatingService).removeRating(1L, 5.0);
+        verify(eventPublisher).publishEvent(ReviewRatingChangedEvent.removed(1L, 1L));
+        verify(eventPublisher).publishEvent(new ReviewDeletedEvent(7L));
+        verify(responseCache).invalidateAfterCommit(CachedResource.REVIEW, 7L);
+    }
+    
+    @Test
+    @DisplayName("캐시와 DB 모두 이미 리뷰했다고 하면 저장하지 않고 충돌로 거절한다")
+    void createReview_RejectsDuplicate() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(reviewedBookCache.mightHaveReviewed(1L, 1L)).willReturn(true);
+        given(reviewRepository.existsByUserIdAndBookId(1L, 1L)).willReturn(true);
+        
+        // when & then
+        assertThatThrownBy(() -> reviewService.createReview(1L, createRequest()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ALREADY_REVIEWED);
+        verify(reviewRepository, never()).saveAndFlush(any());
+    }
+    
+    @Test
+    @DisplayName("캐시를 통과한 동시 작성은 유니크 제약 위반을 충돌로 바꿔 돌려준다")
+    void createReview_MapsUniqueViolationToConflict() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(reviewedBookCache.mightHaveReviewed(1L, 1L)).willReturn(false);
+        given(reviewRepository.saveAndFlush(any(Review.class)))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry '1-1' for key 'uk_reviews_user_book'"));
+        
+        // when & then
+        assertThatThrownBy(() -> reviewService.createReview(1L, createRequest()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ALREADY_REVIEWED);
+        verify(reviewRepository, never()).existsByUserIdAndBookId(any(), any());
+        verify(bookRatingService, never()).addRating(anyLong(), anyDouble());
+    }
+    
+    @Test
+    @DisplayName("(사용자, 도서) 유니크 제약이 아닌 무결성 위반은 충돌로 바꾸지 않고 그대로 던진다")
+    void createReview_RethrowsOtherIntegrityViolations() {
+        // given
+        DataIntegrityViolationException fkViolation = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("FK 위반", new SQLException("Cannot add or update a child row"),
+                        "fk_reviews_book"));
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(reviewedBookCache.mightHaveReviewed(1L, 1L)).willReturn(false);
+        given(reviewRepository.saveAndFlush(any(Review.class))).willThrow(fkViolation);
+        
+        // when & then
+        assertThatThrownBy(() -> reviewService.createReview(1L, createRequest())).isSameAs(fkViolation);
+    }
+    
+    @Test
+    @DisplayName("Hibernate가 알려 준 제약 이름이 (사용자, 도서) 유니크 제약이면 충돌로 돌려준다")
+    void createReview_MapsNamedUniqueViolationToConflict() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(reviewedBookCache.mightHaveReviewed(1L, 1L)).willReturn(false);
+        given(reviewRepository.saveAndFlush(any(Review.class))).willThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("중복", new SQLException("Duplicate entry"),
+                        "reviews.uk_reviews_user_book")));
+        
+        // when & then
+        assertThatThrownBy(() -> reviewService.createReview(1L, createRequest()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ALREADY_REVIEWED);
+    }
+    
+    @Test
+    @DisplayName("캐시가 오래되어 있다고 해도 DB에 없으면 캐시를 비우고 저장한다")
+    void createReview_StaleCachePositiveFallsThrough() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(reviewedBookCache.mightHaveReviewed(1L, 1L)).willReturn(true);
+        given(reviewRepository.existsByUserIdAndBookId(1L, 1L)).willReturn(false);
+        given(reviewRepository.saveAndFlush(any(Review.class))).willAnswer(invocation -> invocation.getArgument(0));
+        
+        // when
+        reviewService.createReview(1L, createRequest());
+        
+        // then
+        verify(reviewedBookCache).evict(1L);
+        verify(reviewRepository).saveAndFlush(any(Review.class));
+    }
+    
+    private CreateReviewRequest createRequest() {
+        return new CreateReviewRequest(1L, "사막에서 만난 어린 왕자 이야기", 4.5, "감동",
+                null, null, null, null, null, null);
+    }
+    
+    private Map<String, Object> row(Long id, String bookTitle, Double rating) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("bookTitle", bookTitle);
+        row.put("rating", rating);
+        row.put("id", id);
+        row.put("createdAt", baseTime.plusMinutes(id));
+        return row;
+    }
+    
+    private List<Review> reviews(long fromId, int count) {
+        return LongStream.range(0, count)
+                .map(i -> fromId - i)
+                .mapToObj(id -> Review.builder()
+                        .id(id)
+                        .user(testUser)
+                        .book(testBook)
+                        .content("순수함과 사랑에 대한 아름다운 이야기였습니다.")
+                        .rating(5.0)
+                        .userEmotion("감동")
+                        .createdAt(baseTime.plusMinutes(id))
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.bookllm.domain.review.service;
+
+import com.bookllm.domain.review.event.ReviewRatingChangedEvent;
+import com.bookllm.domain.review.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewedBookCacheTest {
+    
+    @Mock
+    private ReviewRepository reviewRepository;
+    
+    private ReviewedBookCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        cache = new ReviewedBookCache(reviewRepository, new ReviewedBookCacheProperties());
+    }
+    
+    @Test
+    @DisplayName("사용자별 도서 id는 한 번만 읽고 이후에는 메모리에서 확인한다")
+    void mightHaveReviewed_LoadsOncePerUser() {
+        // given
+        given(reviewRepository.findBookIdsByUserId(1L)).willReturn(List.of(30L, 10L, 20L));
+        
+        // when
+        boolean reviewed = cache.mightHaveReviewed(1L, 20L);
+        boolean notReviewed = cache.mightHaveReviewed(1L, 25L);
+        
+        // then
+        assertThat(reviewed).isTrue();
+        assertThat(notReviewed).isFalse();
+        verify(reviewRepository, times(1)).findBookIdsByUserId(1L);
+    }
+    
+    @Test
+    @DisplayName("커밋된 작성/삭제 이벤트로 캐시된 집합을 고친다")
+    void onRatingChanged_UpdatesCachedSet() {
+        // given
+        given(reviewRepository.findBookIdsByUserId(1L)).willReturn(List.of(10L));
+        cache.mightHaveReviewed(1L, 10L);
+        
+        // when
+        cache.onRatingChanged(ReviewRatingChangedEvent.added(1L, 5L, 4.0));
+        cache.onRatingChanged(ReviewRatingChangedEvent.removed(1L, 10L));
+        
+        // then
+        assertThat(cache.mightHaveReviewed(1L, 5L)).isTrue();
+        assertThat(cache.mightHaveReviewed(1L, 10L)).isFalse();
+        verify(reviewRepository, times(1)).findBookIdsByUserId(1L);
+    }
+    
+    @Test
+    @DisplayName("캐시에 없는 사용자의 이벤트는 무시하고 다음 조회 때 DB에서 읽는다")
+    void onRatingChanged_IgnoresUncachedUser() {
+        // given
+        given(reviewRepository.findBookIdsByUserId(2L)).willReturn(List.of(7L));
+        
+        // when
+        cache.onRatingChanged(ReviewRatingChangedEvent.added(2L, 8L, 3.0));
+        
+        // then
+        assertThat(cache.mightHaveReviewed(2L, 7L)).isTrue();
+        assertThat(cache.mightHaveReviewed(2L, 8L)).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package com.bookllm.global.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheLoadsTest {
+    
+    private final AsyncCache<Long, String> cache = Caffeine.newBuilder().buildAsync();
+    
+    @Test
+    @DisplayName("같은 키를 동시에 읽는 가상 스레드들은 로딩 한 번의 결과를 함께 기다린다")
+    void getOrLoad_ConcurrentCallersShareOneLoad() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(executor.submit(() -> CacheLoads.getOrLoad(cache, 1L, id -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "book-" + id;
+            })));
+            loading.await();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> CacheLoads.getOrLoad(cache, 1L, id -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            release.countDown();
+        }
+        
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("book-1");
+        }
+        assertThat(loads).hasValue(1);
+    }
+    
+    @Test
+    @DisplayName("로더 예외는 호출자에게 그대로 전달되고 캐시에 남지 않는다")
+    void getOrLoad_FailureIsNotCached() {
+        // when & then
+        assertThatThrownBy(() -> CacheLoads.getOrLoad(cache, 1L, id -> {
+            throw new IllegalStateException("DB 오류");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(CacheLoads.getOrLoad(cache, 1L, id -> "ok")).isEqualTo("ok");
+    }
+    
+    @Test
+    @DisplayName("로딩 중에 무효화되면 다음 조회는 새로 읽는다")
+    void getOrLoad_InvalidateDuringLoad() {
+        // when
+        String first = CacheLoads.getOrLoad(cache, 1L, id -> {
+            cache.synchronous().invalidate(id);
+            return "old";
+        });
+        String second = CacheLoads.getOrLoad(cache, 1L, id -> "new");
+        
+        // then
+        assertThat(first).isEqualTo("old");
+        assertThat(second).isEqualTo("new");
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.bookllm.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseCacheTest {
+    
+    private ResponseCache responseCache;
+    private AtomicInteger loads;
+    
+    @BeforeEach
+    void setUp() {
+        responseCache = new ResponseCache(new ResponseCacheProperties(), new ObjectMapper());
+        loads = new AtomicInteger();
+    }
+    
+    @Test
+    @DisplayName("두 번째 조회는 로더를 거치지 않고 같은 JSON 바이트를 돌려준다")
+    void get_HitSkipsLoader() {
+        // when
+        byte[] first = responseCache.get(CachedResource.REVIEW, 1L, 0L, () -> load("첫 리뷰"));
+        byte[] second = responseCache.get(CachedResource.REVIEW, 1L, 0L, () -> load("다른 값"));
+        
+        // then
+        assertThat(new String(second, StandardCharsets.UTF_8)).isEqualTo("{\"content\":\"첫 리뷰\"}");
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(responseCache.stats().getHitRatio()).isEqualTo(0.5);
+    }
+    
+    @Test
+    @DisplayName("무효화하면 다음 조회는 다시 로딩하고, 다른 종류의 같은 id는 영향이 없다")
+    void invalidate_ForcesReload() {
+        // given
+        responseCache.get(CachedResource.REVIEW, 1L, 0L, () -> load("이전"));
+        responseCache.get(CachedResource.BOOK, 1L, 0L, () -> load("도서"));
+        
+        // when
+        responseCache.invalidate(CachedResource.REVIEW, 1L);
+        byte[] review = responseCache.get(CachedResource.REVIEW, 1L, 0L, () -> load("이후"));
+        responseCache.get(CachedResource.BOOK, 1L, 0L, () -> load("바뀐 도서"));
+        
+        // then
+        assertThat(new String(review, StandardCharsets.UTF_8)).contains("이후");
+        assertThat(loads).hasValue(3);
+    }
+    
+    @Test
+    @DisplayName("로딩 도중 무효화되면 읽어 온 값은 돌려주되 캐시에는 넣지 않는다")
+    void get_RejectsValueLoadedBeforeInvalidation() {
+        // when
+        responseCache.get(CachedResource.REVIEW, 1L, 0L, () -> {
+            responseCache.invalidate(CachedResource.REVIEW, 1L);
+            return load("옛 값");
+        });
+        byte[] next = responseCache.get(CachedResource.REVIEW, 1L, 0L, () -> load("새 값"));
+        
+        // then
+        assertThat(new String(next, StandardCharsets.UTF_8)).contains("새 값");
+        assertThat(responseCache.stats().getStaleRejections()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("요청 시점의 엔티티 버전보다 오래된 항목은 무효화 전이라도 다시 읽는다")
+    void get_ReloadsWhenSourceVersionIsNewer() {
+        // given
+        responseCache.get(CachedResource.BOOK, 1L, 3L, () -> load("v3"));
+        
+        // when
+        responseCache.get(CachedResource.BOOK, 1L, 3L, () -> load("v3"));
+        byte[] newer = responseCache.get(CachedResource.BOOK, 1L, 4L, () -> load("v4"));
+        responseCache.get(CachedResource.BOOK, 1L, 4L, () -> load("v4"));
+        
+        // then
+        assertThat(new String(newer, StandardCharsets.UTF_8)).contains("v4");
+        assertThat(loads).hasValue(2);
+    }
+    
+    @Test
+    @DisplayName("종류 전체 무효화는 그 종류의 모든 항목을 다시 읽게 한다")
+    void invalidateAll_ClearsOnlyThatResource() {
+        // given
+        responseCache.get(CachedResource.BOOK, 1L, 0L, () -> load("a"));
+        responseCache.get(CachedResource.BOOK, 2L, 0L, () -> load("b"));
+        responseCache.get(CachedResource.REVIEW, 1L, 0L, () -> load("c"));
+        
+        // when
+        responseCache.invalidateAll(CachedResource.BOOK);
+        responseCache.get(CachedResource.BOOK, 1L, 0L, () -> load("a"));
+        responseCache.get(CachedResource.BOOK, 2L, 0L, () -> load("b"));
+        responseCache.get(CachedResource.REVIEW, 1L, 0L, () -> load("c"));
+        
+        // then
+        assertThat(loads).hasValue(5);
+        assertThat(responseCache.stats().getSize()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("로더 예외는 전파되고 캐시에 남지 않는다")
+    void get_LoaderFailureIsNotCached() {
+        // when & then
+        assertThatThrownBy(() -> responseCache.get(CachedResource.REVIEW, 9L, 0L, () -> {
+            throw new IllegalArgumentException("없음");
+        })).isInstanceOf(IllegalArgumentException.class);
+        responseCache.get(CachedResource.REVIEW, 9L, 0L, () -> load("생성됨"));
+        assertThat(loads).hasValue(1);
+    }
+    
+    private Map<String, String> load(String content) {
+        loads.incrementAndGet();
+        return Map.of("content", content);
+    }
+}
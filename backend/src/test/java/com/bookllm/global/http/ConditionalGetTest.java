@@ -0,0 +1,73 @@
+package com.bookllm.global.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalGetTest {
+    
+    private final ConditionalGet conditionalGet = new ConditionalGet(new HttpCacheProperties());
+    
+    @Test
+    @DisplayName("If-None-Match가 현재 버전과 같으면 본문을 만들지 않고 304를 돌려준다")
+    void respond_NotModifiedSkipsBody() {
+        // given
+        AtomicInteger bodies = new AtomicInteger();
+        
+        // when
+        ResponseEntity<byte[]> response = conditionalGet.respond("W/\"3\"", 3L, () -> {
+            bodies.incrementAndGet();
+            return new byte[0];
+        });
+        
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"3\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=0, must-revalidate");
+        assertThat(bodies).hasValue(0);
+    }
+    
+    @Test
+    @DisplayName("버전이 바뀌었으면 새 ETag와 함께 본문을 돌려준다")
+    void respond_ModifiedReturnsBody() {
+        // when
+        ResponseEntity<byte[]> response = conditionalGet.respond("W/\"3\"", 4L, () -> "{}".getBytes());
+        
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"4\"");
+        assertThat(response.getBody()).isEqualTo("{}".getBytes());
+    }
+    
+    @Test
+    @DisplayName("약한 비교로 목록, 강한 태그, *를 모두 처리한다")
+    void matches_WeakComparison() {
+        String etag = ConditionalGet.etagOf(7L);
+        
+        assertThat(ConditionalGet.matches("\"7\"", etag)).isTrue();
+        assertThat(ConditionalGet.matches("W/\"1\", W/\"7\"", etag)).isTrue();
+        assertThat(ConditionalGet.matches("*", etag)).isTrue();
+        assertThat(ConditionalGet.matches("W/\"70\"", etag)).isFalse();
+        assertThat(ConditionalGet.matches(null, etag)).isFalse();
+    }
+    
+    @Test
+    @DisplayName("max-age를 설정하면 Cache-Control에 반영된다")
+    void respond_UsesConfiguredMaxAge() {
+        // given
+        HttpCacheProperties properties = new HttpCacheProperties();
+        properties.setMaxAge(Duration.ofSeconds(60));
+        
+        // when
+        ResponseEntity<byte[]> response = new ConditionalGet(properties).respond(null, 1L, () -> new byte[0]);
+        
+        // then
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=60, must-revalidate");
+    }
+}
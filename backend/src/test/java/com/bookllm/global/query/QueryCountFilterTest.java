@@ -0,0 +1,87 @@
+package com.bookllm.global.query;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCountFilterTest {
+    
+    private QueryBudgetProperties properties;
+    private QueryCountFilter filter;
+    private QueryCountInspector inspector;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new QueryBudgetProperties();
+        properties.setMaxStatements(2);
+        filter = new QueryCountFilter(properties);
+        inspector = new QueryCountInspector();
+    }
+    
+    @Test
+    @DisplayName("요청 중 실행된 SQL 수를 응답 헤더와 통계에 남긴다")
+    void doFilter_RecordsQueryCount() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/reviews/1"), response, executing(2));
+        
+        // then
+        assertThat(response.getHeader(QueryCountFilter.HEADER)).isEqualTo("2");
+        assertThat(filter.stats().getRequests()).isEqualTo(1);
+        assertThat(filter.stats().getStatements()).isEqualTo(2);
+        assertThat(filter.stats().getExceeded()).isZero();
+        assertThat(QueryCountHolder.current()).isEqualTo(-1);
+    }
+    
+    @Test
+    @DisplayName("예산을 넘으면 기본적으로 경고만 남기고 응답은 그대로 둔다")
+    void doFilter_WarnsWhenBudgetExceeded() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/reviews/book/1"), response, executing(5));
+        
+        // then
+        assertThat(response.getHeader(QueryCountFilter.HEADER)).isEqualTo("5");
+        assertThat(filter.stats().getExceeded()).isEqualTo(1);
+        assertThat(filter.stats().getMaxPerRequest()).isEqualTo(5);
+    }
+    
+    @Test
+    @DisplayName("failOnExceed가 켜져 있으면 예산 초과 시 예외를 던진다")
+    void doFilter_FailsWhenConfigured() {
+        // given
+        properties.setFailOnExceed(true);
+        
+        // when & then
+        assertThatThrownBy(() -> filter.doFilter(
+                new MockHttpServletRequest("GET", "/api/reviews/book/1"), new MockHttpServletResponse(), executing(3)))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("/api/reviews/book/1");
+    }
+    
+    @Test
+    @DisplayName("요청 밖의 스레드에서 실행된 SQL은 세지 않는다")
+    void inspect_IgnoredOutsideRequest() {
+        inspector.inspect("select 1");
+        
+        assertThat(QueryCountHolder.current()).isEqualTo(-1);
+    }
+    
+    private FilterChain executing(int statements) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select " + i);
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.bookllm.infrastructure.ai;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiCircuitBreakerTest {
+    
+    private final AtomicLong clock = new AtomicLong();
+    private AiServiceProperties.CircuitBreaker config;
+    private AiCircuitBreaker breaker;
+    
+    @BeforeEach
+    void setUp() {
+        config = new AiServiceProperties.CircuitBreaker();
+        config.setWindowSize(10);
+        config.setMinimumCalls(5);
+        config.setFailureRateThreshold(0.5);
+        config.setOpenDuration(Duration.ofSeconds(30));
+        config.setHalfOpenCalls(2);
+        breaker = new AiCircuitBreaker(config, clock::get);
+    }
+    
+    @Test
+    @DisplayName("최소 호출 수를 채우고 과부하 비율이 기준을 넘으면 열리고 호출을 거절한다")
+    void record_OpensOnSustainedOverload() {
+        // given
+        call(AiCallOutcome.SUCCESS, 2);
+        call(AiCallOutcome.OVERLOADED, 2);
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+        
+        // when
+        call(AiCallOutcome.OVERLOADED, 1);
+        
+        // then
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.available()).isZero();
+        assertThat(breaker.openedCount()).isEqualTo(1);
+        assertThat(breaker.rejectionCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("4xx처럼 ai-service 상태와 무관한 결과는 판단에서 뺀다")
+    void record_IgnoresUnrelatedErrors() {
+        // when
+        call(AiCallOutcome.IGNORED, 20);
+        call(AiCallOutcome.OVERLOADED, 2);
+        
+        // then
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+    
+    @Test
+    @DisplayName("오래된 실패는 윈도우에서 밀려나 판단에 쓰이지 않는다")
+    void record_SlidesWindow() {
+        // given
+        call(AiCallOutcome.SUCCESS, 6);
+        call(AiCallOutcome.OVERLOADED, 4);
+        
+        // when
+        call(AiCallOutcome.SUCCESS, 10);
+        call(AiCallOutcome.OVERLOADED, 4);
+        
+        // then
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+    
+    @Test
+    @DisplayName("열린 뒤 시간이 지나면 시험 호출만 허용하고 모두 성공하면 닫는다")
+    void tryAcquire_ClosesAfterSuccessfulProbes() {
+        // given
+        call(AiCallOutcome.OVERLOADED, 5);
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        
+        // when
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.record(AiCallOutcome.SUCCESS);
+        breaker.record(AiCallOutcome.SUCCESS);
+        
+        // then
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+        assertThat(breaker.available()).isEqualTo(Integer.MAX_VALUE);
+    }
+    
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 연다")
+    void record_ReopensOnFailedProbe() {
+        // given
+        call(AiCallOutcome.OVERLOADED, 5);
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        
+        // when
+        breaker.tryAcquire();
+        breaker.record(AiCallOutcome.OVERLOADED);
+        
+        // then
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.OPEN);
+        assertThat(breaker.openedCount()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("꺼져 있으면 항상 호출을 허용한다")
+    void tryAcquire_AlwaysPermitsWhenDisabled() {
+        // given
+        config.setEnabled(false);
+        
+        // when
+        call(AiCallOutcome.OVERLOADED, 20);
+        
+        // then
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+    
+    private void call(AiCallOutcome outcome, int times) {
+        for (int i = 0; i < times; i++) {
+            if (breaker.tryAcquire()) {
+                breaker.record(outcome);
+            }
+        }
+    }
+}
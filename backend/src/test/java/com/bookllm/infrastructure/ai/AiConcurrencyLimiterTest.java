@@ -0,0 +1,228 @@
+package com.bookllm.infrastructure.ai;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiConcurrencyLimiterTest {
+    
+    private final AtomicLong clock = new AtomicLong();
+    private AiServiceProperties.Limiter config;
+    
+    @BeforeEach
+    void setUp() {
+        config = new AiServiceProperties.Limiter();
+        config.setInitialLimit(4);
+        config.setMinLimit(1);
+        config.setMaxLimit(100);
+        config.setMaxQueue(2);
+        config.setQueueTimeout(Duration.ofSeconds(5));
+    }
+    
+    @Test
+    @DisplayName("한도까지는 바로 허가하고 넘으면 대기열에서 기다렸다가 자리가 나면 허가한다")
+    void acquire_QueuesOverLimitUntilReleased() {
+        // given
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(config, clock::get);
+        List<AiConcurrencyLimiter.Permit> permits = acquire(limiter, 4);
+        CompletableFuture<AiConcurrencyLimiter.Permit> waiting = limiter.acquire().toFuture();
+        
+        // when
+        assertThat(waiting).isNotDone();
+        assertThat(limiter.stats().queued()).isEqualTo(1);
+        permits.get(0).release(AiCallOutcome.IGNORED);
+        
+        // then
+        assertThat(waiting).isCompleted();
+        assertThat(limiter.stats().inFlight()).isEqualTo(4);
+        assertThat(limiter.stats().queued()).isZero();
+    }
+    
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절한다")
+    void acquire_RejectsWhenQueueIsFull() {
+        // given
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(config, clock::get);
+        acquire(limiter, 4);
+        Disposable first = limiter.acquire().subscribe();
+        Disposable second = limiter.acquire().subscribe();
+        
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire().block())
+                .isInstanceOf(AiCallRejectedException.class)
+                .hasMessageContaining("queue_full");
+        assertThat(limiter.stats().queueFullRejections()).isEqualTo(1);
+        assertThat(limiter.available()).isZero();
+        first.dispose();
+        second.dispose();
+    }
+    
+    @Test
+    @DisplayName("대기 시간을 넘기면 거절하고 대기열에서 뺀다")
+    void acquire_RejectsAfterQueueTimeout() {
+        // given
+        config.setQueueTimeout(Duration.ofMillis(50));
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(config, clock::get);
+        acquire(limiter, 4);
+        
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire().block(Duration.ofSeconds(5)))
+                .isInstanceOf(AiCallRejectedException.class)
+                .hasMessageContaining("queue_timeout");
+        assertThat(limiter.stats().queued()).isZero();
+        assertThat(limiter.stats().queueTimeoutRejections()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("기다리다 취소한 호출은 대기열에서 빠지고 허가를 가져가지 않는다")
+    void acquire_CancelledWaiterDoesNotLeakPermit() {
+        // given
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(config, clock::get);
+        List<AiConcurrencyLimiter.Permit> permits = acquire(limiter, 4);
+        Disposable waiting = limiter.acquire().subscribe();
+        
+        // when
+        waiting.dispose();
+        permits.forEach(permit -> permit.release(AiCallOutcome.IGNORED));
+        
+        // then
+        assertThat(limiter.stats().queued()).isZero();
+        assertThat(limiter.stats().inFlight()).isZero();
+    }
+    
+    @Test
+    @DisplayName("한도를 절반 이상 쓰며 정상 응답이 이어지면 한도를 늘린다")
+    void release_IncreasesLimitOnSuccessUnderLoad() {
+        // given
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(config, clock::get);
+        
+        // when
+        for (int round = 0; round < 20; round++) {
+            List<AiConcurrencyLimiter.Permit> permits = acquire(limiter, limiter.stats().limit());
+            clock.addAndGet(Duration.ofMillis(100).toNanos());
+            permits.forEach(permit -> permit.release(AiCallOutcome.SUCCESS));
+        }
+        
+        // then
+        assertThat(limiter.stats().limit()).isGreaterThan(4);
+    }
+    
+    @Test
+    @DisplayName("한도를 거의 쓰지 않을 때는 정상 응답이어도 한도를 늘리지 않는다")
+    void release_DoesNotIncreaseLimitWhenIdle() {
+        // given
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(config, clock::get);
+        
+        // when
+        for (int i = 0; i < 100; i++) {
+            AiConcurrencyLimiter.Permit permit = limiter.acquire().block();
+            clock.addAndGet(Duration.ofMillis(100).toNanos());
+            permit.release(AiCallOutcome.SUCCESS);
+        }
+        
+        // then
+        assertThat(limiter.stats().limit()).isEqualTo(4);
+    }
+    
+    @Test
+    @DisplayName("응답 시간이 평소보다 크게 늘면 한도를 줄인다")
+    void release_DecreasesLimitWhenLatencyRises() {
+        // given
+        config.setInitialLimit(20);
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(config, clock::get);
+        for (int i = 0; i < 50; i++) {
+            complete(limiter, Duration.ofMillis(100), AiCallOutcome.SUCCESS);
+        }
+        int before = limiter.stats().limit();
+        
+        // when
+        for (int i = 0; i < 50; i++) {
+            complete(limiter, Duration.ofMillis(1_000), AiCallOutcome.SUCCESS);
+        }
+        
+        // then
+        assertThat(limiter.stats().limit()).isLessThan(before);
+    }
+    
+    @Test
+    @DisplayName("긴 꼬리 지연 몇 건으로는 한도를 줄이지 않는다")
+    void release_ToleratesOccasionalSlowResponse() {
+        // given
+        config.setInitialLimit(20);
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(config, clock::get);
+        for (int i = 0; i < 50; i++) {
+            complete(limiter, Duration.ofMillis(100), AiCallOutcome.SUCCESS);
+        }
+        
+        // when
+        complete(limiter, Duration.ofMillis(400), AiCallOutcome.SUCCESS);
+        for (int i = 0; i < 5; i++) {
+            complete(limiter, Duration.ofMillis(100), AiCallOutcome.SUCCESS);
+        }
+        
+        // then
+        assertThat(limiter.stats().limit()).isEqualTo(20);
+    }
+    
+    @Test
+    @DisplayName("과부하 신호가 몰려도 최근 응답 시간 동안은 한 번만 줄인다")
+    void release_DecreasesOncePerRoundTripOnOverload() {
+        // given
+        config.setInitialLimit(20);
+        config.setBackoffRatio(0.5);
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(config, clock::get);
+        complete(limiter, Duration.ofMillis(100), AiCallOutcome.SUCCESS);
+        List<AiConcurrencyLimiter.Permit> permits = acquire(limiter, 10);
+        
+        // when
+        permits.forEach(permit -> permit.release(AiCallOutcome.OVERLOADED));
+        int afterBurst = limiter.stats().limit();
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        complete(limiter, Duration.ZERO, AiCallOutcome.OVERLOADED);
+        
+        // then
+        assertThat(afterBurst).isEqualTo(10);
+        assertThat(limiter.stats().limit()).isEqualTo(5);
+    }
+    
+    @Test
+    @DisplayName("한도는 최소값 아래로 줄지 않는다")
+    void release_KeepsLimitAboveMinimum() {
+        // given
+        config.setMinLimit(2);
+        AiConcurrencyLimiter limiter = new AiConcurrencyLimiter(config, clock::get);
+        
+        // when
+        for (int i = 0; i < 20; i++) {
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+            complete(limiter, Duration.ZERO, AiCallOutcome.OVERLOADED);
+        }
+        
+        // then
+        assertThat(limiter.stats().limit()).isEqualTo(2);
+    }
+    
+    private List<AiConcurrencyLimiter.Permit> acquire(AiConcurrencyLimiter limiter, int count) {
+        List<AiConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.acquire().block());
+        }
+        return permits;
+    }
+    
+    private void complete(AiConcurrencyLimiter limiter, Duration latency, AiCallOutcome outcome) {
+        AiConcurrencyLimiter.Permit permit = limiter.acquire().block();
+        clock.addAndGet(latency.toNanos());
+        permit.release(outcome);
+    }
+}
@@ -0,0 +1,332 @@
+package com.bookllm.infrastructure.ai;
+
+import com.bookllm.domain.book.entity.Book;
+import com.bookllm.domain.review.entity.Review;
+import com.bookllm.global.config.AiWebClientConfig;
+import com.bookllm.infrastructure.ai.cache.AiAnalysisCache;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisRequest;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AiServiceClientTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private AiServiceProperties properties;
+    private ConnectionProvider connectionProvider;
+    private AiServiceClient client;
+    private MeterRegistry meterRegistry;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger singleCount = new AtomicInteger();
+    private final AtomicInteger batchCount = new AtomicInteger();
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubExecutor = Executors.newFixedThreadPool(32);
+        stub.setExecutor(stubExecutor);
+        stub.createContext("/api/v1/reviews/analyze", exchange -> {
+            if (!exchange.getRequestURI().getPath().equals("/api/v1/reviews/analyze")) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            singleCount.incrementAndGet();
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            respond(exchange, analysisFor(request));
+        });
+        stub.start();
+        
+        properties = new AiServiceProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + stub.getAddress().getPort());
+        properties.getPool().setMaxConnections(16);
+        properties.getTimeout().setCall(Duration.ofSeconds(5));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        client.close();
+        connectionProvider.dispose();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+    
+    @Test
+    @DisplayName("동시 호출이 풀의 커넥션을 재사용한다")
+    void analyze_ReusesPooledConnections() {
+        // given
+        properties.getBatch().setEnabled(false);
+        createClient();
+        int calls = 500;
+        
+        // when
+        List<AiAnalysisResponse> responses = Flux.range(0, calls)
+                .flatMap(i -> client.analyze(request((long) i)), 16)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+        
+        // then
+        assertThat(responses).hasSize(calls);
+        assertThat(responses).allMatch(r -> "공감합니다".equals(r.getEmpathyMessage()));
+        assertThat(singleCount.get()).isEqualTo(calls);
+        assertThat(clientPorts).hasSizeLessThanOrEqualTo(16);
+        assertThat(meterRegistry.get("ai.client.requests").tags("endpoint", "analyze", "outcome", "success")
+                .timer().count()).isEqualTo(calls);
+    }
+    
+    @Test
+    @DisplayName("동시 호출을 배치로 묶고 review_id별로 결과를 돌려준다")
+    void analyze_CoalescesConcurrentCallsIntoBatches() {
+        // given
+        stub.createContext("/api/v1/reviews/analyze/batch", exchange -> {
+            batchCount.incrementAndGet();
+            ArrayNode results = objectMapper.createArrayNode();
+            for (JsonNode request : objectMapper.readTree(exchange.getRequestBody())) {
+                results.add(analysisFor(request));
+            }
+            respond(exchange, results);
+        });
+        properties.getBatch().setWindow(Duration.ofMillis(50));
+        properties.getBatch().setMaxSize(16);
+        createClient();
+        
+        // when
+        List<AiAnalysisResponse> responses = Flux.range(0, 64)
+                .flatMap(i -> client.analyze(request((long) i)), 64)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        
+        // then
+        assertThat(responses).hasSize(64);
+        assertThat(responses).extracting(AiAnalysisResponse::getReviewId).doesNotHaveDuplicates();
+        assertThat(batchCount.get()).isLessThan(64);
+        assertThat(client.batchStats().averageBatchSize()).isGreaterThan(1.0);
+        assertThat(meterRegistry.get("ai.client.batch.size").summary().totalAmount()).isEqualTo(64);
+    }
+    
+    @Test
+    @DisplayName("배치 엔드포인트가 없으면 개별 호출로 대체하고 워커에 알리는 여유도 호출 수 기준으로 줄인다")
+    void analyze_FallsBackToSingleCallsWithoutBatchEndpoint() {
+        // given
+        createClient();
+        int batchCapacity = client.availableCapacity();
+        
+        // when
+        List<AiAnalysisResponse> responses = Flux.range(0, 32)
+                .flatMap(i -> client.analyze(request((long) i)), 32)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        
+        // then
+        assertThat(responses).hasSize(32);
+        assertThat(responses).allMatch(r -> "공감합니다".equals(r.getEmpathyMessage()));
+        assertThat(singleCount.get()).isEqualTo(32);
+        assertThat(batchCapacity).isGreaterThan(properties.getLimiter().getMaxLimit());
+        assertThat(client.availableCapacity()).isLessThanOrEqualTo(properties.getLimiter().getMaxLimit());
+    }
+    
+    @Test
+    @DisplayName("AI 서비스 오류 시 빈 분석 결과로 대체한다")
+    void analyze_FallsBackToEmptyOnError() {
+        // given
+        stub.removeContext("/api/v1/reviews/analyze");
+        createClient();
+        
+        // when
+        AiAnalysisResponse response = client.analyze(request(1L)).block();
+        
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getAiResponse()).isNull();
+        assertThat(response.getEmpathyMessage()).isEmpty();
+        assertThat(meterRegistry.get("ai.client.fallbacks").tag("reason", "error").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.client.requests").tags("endpoint", "analyze", "outcome", "error")
+                .timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("호출 데드라인을 넘기면 timeout으로 기록하고 빈 분석 결과로 대체한다")
+    void analyze_RecordsTimeoutOutcome() {
+        // given
+        stub.removeContext("/api/v1/reviews/analyze");
+        stub.createContext("/api/v1/reviews/analyze", exchange -> {
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        properties.getBatch().setEnabled(false);
+        properties.getTimeout().setCall(Duration.ofMillis(100));
+        createClient();
+        
+        // when
+        AiAnalysisResponse response = client.analyze(request(1L)).block();
+        
+        // then
+        assertThat(response.isEmpty()).isTrue();
+        assertThat(meterRegistry.get("ai.client.fallbacks").tag("reason", "timeout").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.client.requests").tags("endpoint", "analyze", "outcome", "timeout")
+                .timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("서버 오류가 이어지면 서킷을 열고 ai-service를 호출하지 않은 채 빈 결과로 대체한다")
+    void analyze_OpensCircuitOnSustainedServerErrors() {
+        // given
+        stub.removeContext("/api/v1/reviews/analyze");
+        stub.createContext("/api/v1/reviews/analyze", exchange -> {
+            singleCount.incrementAndGet();
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        properties.getBatch().setEnabled(false);
+        properties.getCircuitBreaker().setMinimumCalls(5);
+        createClient();
+        
+        // when
+        for (int i = 0; i < 8; i++) {
+            client.analyze(request((long) i)).block();
+        }
+        
+        // then
+        assertThat(singleCount.get()).isEqualTo(5);
+        assertThat(client.availableCapacity()).isZero();
+        assertThat(meterRegistry.get("ai.client.fallbacks").tag("reason", "error").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("ai.client.fallbacks").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("ai.client.rejections").tag("reason", "circuit_open").functionCounter()
+                .count()).isEqualTo(3);
+        assertThat(meterRegistry.get("ai.client.circuit.state").gauge().value()).isEqualTo(1.0);
+    }
+    
+    @Test
+    @DisplayName("스트리밍 분석은 ai-service 이벤트를 순서대로 넘기고 첫 이벤트까지 걸린 시간을 기록한다")
+    void analyzeReviewStream_ForwardsEvents() {
+        // given
+        stub.createContext("/api/v1/reviews/analyze/stream", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(sse("delta", "{\"field\":\"empathy_message\",\"text\":\"공감\"}"));
+                out.flush();
+                out.write(sse("done", "{\"review_id\":1,\"ai_response\":{\"empathy_message\":\"공감\"}}"));
+            }
+        });
+        createClient();
+        
+        // when
+        List<ServerSentEvent<String>> events = client.analyzeReviewStream(review(), review().getBook())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("delta", "done");
+        assertThat(events.get(0).data()).isEqualTo("{\"field\":\"empathy_message\",\"text\":\"공감\"}");
+        assertThat(meterRegistry.get("ai.client.stream.first.event").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.client.requests").tags("endpoint", "analyze_stream", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("ai-service가 스트림 도중 error 이벤트를 보내면 실패로 끝낸다")
+    void analyzeReviewStream_FailsOnErrorEvent() {
+        // given
+        stub.createContext("/api/v1/reviews/analyze/stream", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(sse("error", "{\"detail\":\"LLM 오류\"}"));
+            }
+        });
+        createClient();
+        
+        // when & then
+        assertThatThrownBy(() -> client.analyzeReviewStream(review(), review().getBook()).blockLast())
+                .isInstanceOf(AiStreamException.class)
+                .hasMessageContaining("LLM 오류");
+    }
+    
+    private void createClient() {
+        AiWebClientConfig config = new AiWebClientConfig();
+        connectionProvider = config.aiConnectionProvider(properties);
+        WebClient webClient = config.aiWebClient(WebClient.builder(), connectionProvider, properties);
+        meterRegistry = new SimpleMeterRegistry();
+        client = new AiServiceClient(webClient, properties, mock(AiAnalysisCache.class), meterRegistry);
+    }
+    
+    private ObjectNode analysisFor(JsonNode request) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.set("review_id", request.get("review_id"));
+        ObjectNode aiResponse = response.putObject("ai_response");
+        aiResponse.put("empathy_message", "공감합니다");
+        aiResponse.putArray("book_insights").add("통찰1").add("통찰2");
+        aiResponse.putObject("emotion_analysis").put("primary", "감동");
+        response.putArray("recommendations");
+        return response;
+    }
+    
+    private void respond(HttpExchange exchange, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    private static byte[] sse(String event, String data) {
+        return ("event: " + event + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private Review review() {
+        Book book = Book.builder().id(1L).title("어린 왕자").author("생텍쥐페리").build();
+        return Review.builder().id(1L).book(book).content("좋았다").rating(5.0).userEmotion("감동").build();
+    }
+    
+    private AiAnalysisRequest request(Long reviewId) {
+        return AiAnalysisRequest.builder()
+                .reviewId(reviewId)
+                .bookTitle("어린 왕자")
+                .author("생텍쥐페리")
+                .content("순수함과 사랑에 대한 아름다운 이야기였습니다.")
+                .rating(5.0)
+                .userEmotion("감동")
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.bookllm.infrastructure.ai.cache;
+
+import com.bookllm.infrastructure.ai.AiServiceProperties;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisRequest;
+import com.bookllm.infrastructure.ai.dto.AiAnalysisResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AiAnalysisCacheTest {
+    
+    @Mock
+    private AiAnalysisCacheRepository repository;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private AiServiceProperties properties;
+    private AiAnalysisCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new AiServiceProperties();
+        cache = new AiAnalysisCache(repository, properties, objectMapper);
+    }
+    
+    @Test
+    @DisplayName("공백과 대소문자만 다른 요청은 같은 캐시 키를 가진다")
+    void keyOf_NormalizesContent() {
+        AiAnalysisRequest original = request(1L, "순수함과 사랑에 대한   아름다운 이야기였습니다.");
+        AiAnalysisRequest resubmitted = request(2L, "  순수함과 사랑에 대한 아름다운\n이야기였습니다. ");
+        AiAnalysisRequest different = request(3L, "전혀 다른 감상평입니다. 지루했어요.");
+        
+        assertThat(cache.keyOf(original)).isEqualTo(cache.keyOf(resubmitted));
+        assertThat(cache.keyOf(original)).isNotEqualTo(cache.keyOf(different));
+    }
+    
+    @Test
+    @DisplayName("프롬프트 버전이 바뀌면 캐시 키도 바뀐다")
+    void keyOf_IncludesPromptVersion() {
+        String before = cache.keyOf(request(1L, "순수함과 사랑에 대한 아름다운 이야기였습니다."));
+        properties.getCache().setPromptVersion("v2");
+        String after = cache.keyOf(request(1L, "순수함과 사랑에 대한 아름다운 이야기였습니다."));
+        
+        assertThat(before).isNotEqualTo(after);
+    }
+    
+    @Test
+    @DisplayName("저장한 결과는 메모리에서 바로 반환하고 review_id만 바꿔 준다")
+    void get_HitsMemoryAfterPut() {
+        // given
+        AiAnalysisRequest request = request(1L, "순수함과 사랑에 대한 아름다운 이야기였습니다.");
+        cache.put(request, response(1L));
+        
+        // when
+        Optional<AiAnalysisResponse> cached = cache.get(request(2L, request.getContent()));
+        
+        // then
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getReviewId()).isEqualTo(2L);
+        assertThat(cached.get().getEmpathyMessage()).isEqualTo("공감합니다");
+        assertThat(cache.stats().getMemoryHits()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("메모리에 없으면 영속 캐시에서 읽고 메모리에 채운다")
+    void get_FallsBackToPersistentTier() throws Exception {
+        // given
+        AiAnalysisRequest request = request(1L, "순수함과 사랑에 대한 아름다운 이야기였습니다.");
+        AiAnalysisCacheEntry entry = AiAnalysisCacheEntry.builder()
+                .cacheKey(cache.keyOf(request))
+                .promptVersion("v1")
+                .responseJson(objectMapper.writeValueAsString(response(null)))
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+        given(repository.findById(anyString())).willReturn(Optional.of(entry));
+        
+        // when
+        Optional<AiAnalysisResponse> first = cache.get(request);
+        Optional<AiAnalysisResponse> second = cache.get(request);
+        
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(cache.stats().getPersistentHits()).isEqualTo(1);
+        assertThat(cache.stats().getMemoryHits()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("빈 분석 결과는 캐시하지 않는다")
+    void put_IgnoresEmptyResponse() {
+        AiAnalysisRequest request = request(1L, "순수함과 사랑에 대한 아름다운 이야기였습니다.");
+        
+        cache.put(request, AiAnalysisResponse.empty());
+        
+        assertThat(cache.get(request)).isEmpty();
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+    
+    private AiAnalysisRequest request(Long reviewId, String content) {
+        return AiAnalysisRequest.builder()
+                .reviewId(reviewId)
+                .bookTitle("어린 왕자")
+                .author("생텍쥐페리")
+                .content(content)
+                .rating(5.0)
+                .userEmotion("감동")
+                .build();
+    }
+    
+    private AiAnalysisResponse response(Long reviewId) {
+        return AiAnalysisResponse.builder()
+                .reviewId(reviewId)
+                .aiResponse(new AiAnalysisResponse.AiResponse(
+                        "공감합니다", List.of("통찰1"), Map.of("primary", "감동"), null, null))
+                .build();
+    }
+}
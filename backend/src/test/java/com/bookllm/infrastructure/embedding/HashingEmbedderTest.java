@@ -0,0 +1,51 @@
+package com.bookllm.infrastructure.embedding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HashingEmbedderTest {
+    
+    private final HashingEmbedder embedder = new HashingEmbedder(256);
+    
+    @Test
+    @DisplayName("같은 텍스트는 항상 같은 단위 벡터가 된다")
+    void embed_IsDeterministicAndNormalized() {
+        // when
+        float[] first = embedder.embed("어린 왕자는 사막에서 여우를 만난다");
+        float[] second = new HashingEmbedder(256).embed("어린 왕자는 사막에서 여우를 만난다");
+        
+        // then
+        assertThat(first).containsExactly(second);
+        assertThat(dot(first, first)).isCloseTo(1.0, within(1e-5));
+    }
+    
+    @Test
+    @DisplayName("어휘가 많이 겹치는 텍스트일수록 코사인 유사도가 높다")
+    void embed_OverlappingTextIsCloser() {
+        // given
+        float[] source = embedder.embed("사막에 불시착한 비행사와 어린 왕자의 이야기");
+        float[] similar = embedder.embed("비행사가 사막에서 만난 어린 왕자 이야기");
+        float[] different = embedder.embed("주식 투자와 부동산 경제 전망");
+        
+        // then
+        assertThat(dot(source, similar)).isGreaterThan(dot(source, different));
+    }
+    
+    @Test
+    @DisplayName("빈 텍스트는 영벡터가 된다")
+    void embed_BlankTextIsZeroVector() {
+        assertThat(embedder.embed("  ")).containsOnly(0f);
+        assertThat(embedder.embed(null)).hasSize(256);
+    }
+    
+    private double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -80,7 +80,7 @@ test.describe('BookLLM API Integration E2E Tests', () => {
     console.log('4. 저장된 리뷰 확인');
     const userReviewsResponse = await request.get('http://localhost:8080/api/reviews/user/1');
     expect(userReviewsResponse.status()).toBe(200);
-    const userReviews = await userReviewsResponse.json();
+    const userReviews = (await userReviewsResponse.json()).items;
     
     const createdReview = userReviews.find((r: any) => r.id === savedReview.id);
     expect(createdReview).toBeDefined();
@@ -139,7 +139,7 @@ test.describe('BookLLM API Integration E2E Tests', () => {
     console.log('✅ AI 분석만 실행 - 저장 없이 완료');
     
     // 리뷰 목록 확인 (새 리뷰가 추가되지 않았는지)
-    const beforeCount = (await (await request.get('http://localhost:8080/api/reviews/user/1')).json()).length;
+    const beforeCount = (await (await request.get('http://localhost:8080/api/reviews/user/1')).json()).items.length;
     
     // 다시 AI 분석 (여전히 저장하지 않음)
     await request.post('http://localhost:8001/api/v1/reviews/analyze', {
@@ -153,7 +153,7 @@ test.describe('BookLLM API Integration E2E Tests', () => {
       }
     });
     
-    const afterCount = (await (await request.get('http://localhost:8080/api/reviews/user/1')).json()).length;
+    const afterCount = (await (await request.get('http://localhost:8080/api/reviews/user/1')).json()).items.length;
     expect(afterCount).toBe(beforeCount);
     
     console.log('✅ AI 분석이 자동으로 저장되지 않음 확인');
@@ -14,6 +14,20 @@ import {
 import { Link } from 'react-router-dom';
 import axios from 'axios';
 
+// 목록 API는 기본 응답에 AI 분석 본문을 싣지 않으므로 이 화면에서 쓰는 필드를 직접 고른다
+const LIST_FIELDS = [
+  'id',
+  'bookTitle',
+  'bookAuthor',
+  'content',
+  'rating',
+  'userEmotion',
+  'createdAt',
+  'aiEmpathyMessage',
+  'aiBookInsights',
+  'aiEmotionAnalysis',
+].join(',');
+
 interface Review {
   id: number;
   bookTitle: string;
@@ -32,18 +46,32 @@ interface Review {
 const ReviewListPage: React.FC = () => {
   const [reviews, setReviews] = useState<Review[]>([]);
   const [loading, setLoading] = useState(true);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     fetchReviews();
   }, []);
 
-  const fetchReviews = async () => {
+  // cursor 없이 부르면 첫 페이지부터 다시 불러오고, 있으면 그 다음 페이지를 뒤에 붙인다
+  const fetchReviews = async (cursor?: string) => {
+    if (cursor) {
+      setLoadingMore(true);
+    }
     try {
       // 임시로 userId 1 사용
-      const response = await axios.get('http://localhost:8080/api/reviews/user/1');
-      setReviews(response.data);
+      const response = await axios.get('http://localhost:8080/api/reviews/user/1', {
+        params: { cursor, fields: LIST_FIELDS },
+      });
+      const items: Review[] = response.data.items;
+      setReviews(prev => (cursor ? [...prev, ...items] : items));
+      setNextCursor(response.data.hasNext ? response.data.nextCursor : null);
     } catch (error) {
       console.error('Error fetching reviews:', error);
+      if (cursor) {
+        alert('감상평을 더 불러오지 못했습니다.');
+        return;
+      }
       // 테스트용 더미 데이터
       setReviews([
         {
@@ -61,6 +89,7 @@ const ReviewListPage: React.FC = () => {
       ]);
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
   
@@ -254,6 +283,18 @@ const ReviewListPage: React.FC = () => {
           })}
         </Box>
       )}
+
+      {nextCursor && (
+        <Box display="flex" justifyContent="center" mt={4}>
+          <Button
+            variant="outlined"
+            onClick={() => fetchReviews(nextCursor)}
+            disabled={loadingMore}
+          >
+            {loadingMore ? <CircularProgress size={20} /> : '더 보기'}
+          </Button>
+        </Box>
+      )}
     </Box>
   );
 };